@@ -0,0 +1,46 @@
+package com.framework.data;
+
+import java.util.regex.Pattern;
+
+/**
+ * DataValidators: Format checks for generated and user-supplied test data. Patterns are compiled once;
+ * String.matches would recompile the regex on every call.
+ */
+public final class DataValidators {
+
+    // Valid local part, @, domain with at least one label, and a TLD of 2+ chars
+    private static final Pattern EMAIL = Pattern.compile("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    private static final Pattern GENERATED_EMAIL = Pattern.compile("^user\\d+@test\\.com$");
+    private static final Pattern USERNAME = Pattern.compile("^[A-Za-z0-9_.-]{3,64}$");
+    private static final Pattern STRONG_PASSWORD = Pattern.compile("^(?=.*[A-Z])(?=.*[a-z])(?=.*\\d)(?=.*[^A-Za-z0-9]).{8,}$");
+
+    private DataValidators() {
+    }
+
+    public static boolean isValidEmail(String email) {
+        return matches(EMAIL, email);
+    }
+
+    /**
+     * True for emails in the TestDataGenerator format (user<digits>@test.com).
+     */
+    public static boolean isGeneratedEmail(String email) {
+        return matches(GENERATED_EMAIL, email);
+    }
+
+    public static boolean isValidUsername(String username) {
+        return matches(USERNAME, username);
+    }
+
+    /**
+     * At least 8 chars with an upper, a lower, a digit and a special character.
+     */
+    public static boolean isStrongPassword(String password) {
+        return matches(STRONG_PASSWORD, password);
+    }
+
+    private static boolean matches(Pattern pattern, String value) {
+        if (value == null || value.isEmpty()) return false;
+        return pattern.matcher(value).matches();
+    }
+}
@@ -0,0 +1,204 @@
+package com.framework.data;
+
+import com.framework.utils.ConfigReader;
+
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * TestDataGenerator: Unique emails, usernames and strong passwords without locks or shared random state.
+ *
+ * Every unique value is built from fixed-width fields followed by a per-thread counter:
+ *   [run stamp: 13 digits][run salt: 6 digits][node id: 3 digits][thread slot: 5 digits][counter]
+ * The run stamp is the JVM start in epoch millis, the run salt is drawn from SecureRandom once per JVM, the node id
+ * separates CI runners (data.node.id, defaulting to shard.index) and each thread claims a slot once on first use.
+ * After that, a thread only touches its own counter, so values cannot collide across threads of one JVM and nothing
+ * is contended. Across JVMs uniqueness is probabilistic: two runs only share a prefix when they start in the same
+ * millisecond with the same node id and draw the same salt (1 in 1,000,000), so runners that leave data.node.id
+ * and shard.index at 0 are still kept apart by the salt.
+ */
+public final class TestDataGenerator {
+
+    /**
+     * The kinds of value the bulk API can produce.
+     */
+    public enum Kind {
+        EMAIL, USERNAME, PASSWORD
+    }
+
+    private static final int MAX_NODE_ID = 999;
+    private static final int MAX_THREAD_SLOTS = 99_999;
+
+    private static final String EMAIL_PREFIX = "user";
+    private static final String EMAIL_DOMAIN = "@test.com";
+    private static final String USERNAME_PREFIX = "qa_user_";
+
+    private static final char[] UPPER = "ABCDEFGHJKLMNPQRSTUVWXYZ".toCharArray();
+    private static final char[] LOWER = "abcdefghijkmnopqrstuvwxyz".toCharArray();
+    private static final char[] DIGITS = "23456789".toCharArray();
+    private static final char[] SPECIAL = "!@#$%^&*".toCharArray();
+    private static final char[] ALL = (new String(UPPER) + new String(LOWER) + new String(DIGITS) + new String(SPECIAL)).toCharArray();
+
+    private static final long RUN_STAMP = System.currentTimeMillis();
+    private static final int RUN_SALT = new SecureRandom().nextInt(1_000_000);
+    private static final int NODE_ID = resolveNodeId();
+    private static final int PASSWORD_LENGTH = Math.max(8, Integer.parseInt(ConfigReader.getProperty("data.password.length", "12")));
+
+    private static final AtomicInteger nextSlot = new AtomicInteger();
+    private static final ThreadLocal<Sequence> sequences = ThreadLocal.withInitial(Sequence::new);
+
+    private TestDataGenerator() {
+    }
+
+    // ==================================================
+    // 1. SINGLE VALUES
+    // ==================================================
+
+    /**
+     * A unique email formatted as user<digits>@test.com.
+     */
+    public static String email() {
+        Sequence sequence = sequences.get();
+        return sequence.next(EMAIL_PREFIX).append(EMAIL_DOMAIN).toString();
+    }
+
+    /**
+     * A unique username formatted as qa_user_<digits>.
+     */
+    public static String username() {
+        Sequence sequence = sequences.get();
+        return sequence.next(USERNAME_PREFIX).toString();
+    }
+
+    /**
+     * A random password of data.password.length characters with at least one upper, lower, digit and special char.
+     */
+    public static String password() {
+        return sequences.get().password();
+    }
+
+    /**
+     * Only the unique digits (e.g. for order references or suffixes the caller formats itself).
+     */
+    public static String uniqueDigits() {
+        return sequences.get().next("").toString();
+    }
+
+    public static String next(Kind kind) {
+        switch (kind) {
+            case EMAIL:
+                return email();
+            case USERNAME:
+                return username();
+            default:
+                return password();
+        }
+    }
+
+    // ==================================================
+    // 2. BULK API
+    // ==================================================
+
+    /**
+     * Fills the whole buffer with values of the given kind and returns it (the same array, so callers can reuse it).
+     */
+    public static String[] fill(Kind kind, String[] buffer) {
+        return fill(kind, buffer, buffer.length);
+    }
+
+    /**
+     * Fills the first {@code count} slots of the buffer; the rest is left untouched.
+     */
+    public static String[] fill(Kind kind, String[] buffer, int count) {
+        if (count < 0 || count > buffer.length) {
+            throw new IllegalArgumentException("[DATA] Cannot generate " + count + " value(s) into a buffer of " + buffer.length);
+        }
+        Sequence sequence = sequences.get();
+        for (int i = 0; i < count; i++) {
+            switch (kind) {
+                case EMAIL:
+                    buffer[i] = sequence.next(EMAIL_PREFIX).append(EMAIL_DOMAIN).toString();
+                    break;
+                case USERNAME:
+                    buffer[i] = sequence.next(USERNAME_PREFIX).toString();
+                    break;
+                default:
+                    buffer[i] = sequence.password();
+            }
+        }
+        return buffer;
+    }
+
+    public static String[] generate(Kind kind, int count) {
+        return fill(kind, new String[count]);
+    }
+
+    // ==================================================
+    // 3. IDENTITY
+    // ==================================================
+
+    public static int getNodeId() {
+        return NODE_ID;
+    }
+
+    /**
+     * Thread slots handed out so far in this JVM.
+     */
+    public static int getThreadSlots() {
+        return nextSlot.get();
+    }
+
+    private static int resolveNodeId() {
+        String configured = ConfigReader.getProperty("data.node.id", ConfigReader.getProperty("shard.index", "0"));
+        int nodeId = Integer.parseInt(configured.trim());
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalStateException("[DATA] data.node.id must be between 0 and " + MAX_NODE_ID + ", got " + nodeId);
+        }
+        return nodeId;
+    }
+
+    /**
+     * One thread's state: its fixed prefix, its counter and reusable buffers. Only the owning thread touches it.
+     */
+    private static final class Sequence {
+
+        private final String prefix;
+        private final StringBuilder builder = new StringBuilder(48);
+        private final char[] passwordChars = new char[PASSWORD_LENGTH];
+        private long counter;
+
+        Sequence() {
+            int slot = nextSlot.getAndIncrement();
+            if (slot > MAX_THREAD_SLOTS) {
+                throw new IllegalStateException("[DATA] More than " + MAX_THREAD_SLOTS + " threads generated test data in this JVM");
+            }
+            this.prefix = RUN_STAMP + String.format(Locale.ROOT, "%06d%03d%05d", RUN_SALT, NODE_ID, slot);
+        }
+
+        StringBuilder next(String kindPrefix) {
+            builder.setLength(0);
+            return builder.append(kindPrefix).append(prefix).append(counter++);
+        }
+
+        String password() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            passwordChars[0] = UPPER[random.nextInt(UPPER.length)];
+            passwordChars[1] = LOWER[random.nextInt(LOWER.length)];
+            passwordChars[2] = DIGITS[random.nextInt(DIGITS.length)];
+            passwordChars[3] = SPECIAL[random.nextInt(SPECIAL.length)];
+            for (int i = 4; i < passwordChars.length; i++) {
+                passwordChars[i] = ALL[random.nextInt(ALL.length)];
+            }
+            // Shuffle so the required classes are not always in front
+            for (int i = passwordChars.length - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                char swap = passwordChars[i];
+                passwordChars[i] = passwordChars[j];
+                passwordChars[j] = swap;
+            }
+            return new String(passwordChars);
+        }
+    }
+}
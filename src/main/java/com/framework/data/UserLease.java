@@ -0,0 +1,85 @@
+package com.framework.data;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * UserLease: Exclusive use of one test account until it is closed or expires.
+ * Closing is idempotent; closing a lease that already expired and was re-issued does not affect the new holder.
+ */
+public final class UserLease implements AutoCloseable {
+
+    private final UserLeaseManager manager;
+    private final String username;
+    private final String password;
+    private final String source;
+    private final String token;
+    private final int slot;
+    private final long rowId;
+    private final long expiresAtMillis;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    UserLease(UserLeaseManager manager, String username, String password, String source, String token,
+              int slot, long rowId, long expiresAtMillis) {
+        this.manager = manager;
+        this.username = username;
+        this.password = password;
+        this.source = source;
+        this.token = token;
+        this.slot = slot;
+        this.rowId = rowId;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    /**
+     * "db" or "config".
+     */
+    public String getSource() {
+        return source;
+    }
+
+    public boolean isExpired() {
+        return isExpired(System.currentTimeMillis());
+    }
+
+    boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+
+    public boolean isReleased() {
+        return released.get();
+    }
+
+    String getToken() {
+        return token;
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    long getRowId() {
+        return rowId;
+    }
+
+    long getExpiresAtMillis() {
+        return expiresAtMillis;
+    }
+
+    @Override
+    public void close() {
+        if (released.compareAndSet(false, true)) manager.release(this);
+    }
+
+    @Override
+    public String toString() {
+        return username + " (" + source + (released.get() ? ", released" : "") + ")";
+    }
+}
@@ -0,0 +1,323 @@
+package com.framework.data;
+
+import com.framework.db.PooledDataSource;
+import com.framework.utils.ConfigReader;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * UserLeaseManager: Gives every parallel test its own account, so carts and sessions never collide.
+ *
+ * Database source (user.lease.source=db): one transaction claims the first active, unleased row with
+ * SELECT ... FOR UPDATE SKIP LOCKED, so concurrent claimers skip each other's rows instead of waiting,
+ * and stamps it with leased_by / leased_until. The users table needs two extra columns:
+ *   ALTER TABLE users ADD leased_by VARCHAR(64) NULL, ADD leased_until TIMESTAMP NULL;
+ * If the very first database claim fails outright (no users table, no database), the manager switches to the config
+ * source for the rest of the run. Once the database has answered, or when the failure is transient (such as a pool
+ * timeout), claim errors are thrown instead, and leases already taken from the database are still released there.
+ *
+ * Config source (default): the persona.* usernames in one lock-free slot array. A claim is a single
+ * compareAndSet on a free or expired slot.
+ *
+ * Every lease expires after user.lease.ttl.seconds, so a thread that crashed before tearDown cannot hold
+ * an account forever. BaseTest releases the current thread's leases in tearDown.
+ */
+public class UserLeaseManager {
+
+    private static final String CLAIM_SQL = "SELECT id, username FROM users WHERE is_active = 1 "
+            + "AND (leased_until IS NULL OR leased_until < ?) ORDER BY id LIMIT 1 FOR UPDATE SKIP LOCKED";
+    private static final String MARK_SQL = "UPDATE users SET leased_by = ?, leased_until = ? WHERE id = ?";
+    private static final String RELEASE_SQL = "UPDATE users SET leased_by = NULL, leased_until = NULL WHERE id = ? AND leased_by = ?";
+
+    private static volatile UserLeaseManager shared;
+
+    private final String[] usernames;
+    private final String password;
+    private final long ttlMs;
+    private final long waitMs;
+    private final DataSource dataSource;
+    private volatile boolean useDatabase;
+    private volatile boolean databaseAnswered;
+
+    private final AtomicReferenceArray<UserLease> slots;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final ThreadLocal<List<UserLease>> threadLeases = ThreadLocal.withInitial(ArrayList::new);
+
+    // Metrics
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder waited = new LongAdder();
+    private final LongAdder expiredReclaims = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    /**
+     * @param usernames  distinct accounts; a repeated one would be leased to two tests at once
+     * @param dataSource null to lease only from {@code usernames}
+     */
+    public UserLeaseManager(List<String> usernames, String password, Duration ttl, Duration wait, DataSource dataSource) {
+        if (new HashSet<>(usernames).size() != usernames.size()) {
+            throw new IllegalArgumentException("[LEASE] Usernames must be distinct, got " + usernames);
+        }
+        this.usernames = usernames.toArray(new String[0]);
+        this.password = password;
+        this.ttlMs = ttl.toMillis();
+        this.waitMs = wait.toMillis();
+        this.dataSource = dataSource;
+        this.useDatabase = dataSource != null;
+        this.slots = new AtomicReferenceArray<>(this.usernames.length);
+    }
+
+    /**
+     * The manager behind BaseTest.leaseUser(), created on first use from the user.lease.* and persona.* keys.
+     */
+    public static UserLeaseManager shared() {
+        if (shared == null) {
+            synchronized (UserLeaseManager.class) {
+                if (shared == null) {
+                    boolean database = "db".equalsIgnoreCase(ConfigReader.getProperty("user.lease.source", "config"));
+                    shared = new UserLeaseManager(configuredPersonas(), ConfigReader.getProperty("app_password"),
+                            Duration.ofSeconds(Long.parseLong(ConfigReader.getProperty("user.lease.ttl.seconds", "600"))),
+                            Duration.ofMillis(Long.parseLong(ConfigReader.getProperty("user.lease.wait.ms", "60000"))),
+                            database ? PooledDataSource.shared() : null);
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * The shared manager, or null when no test leased a user this run.
+     */
+    public static UserLeaseManager current() {
+        return shared;
+    }
+
+    /**
+     * persona.<name> values for the names in user.lease.personas, or every persona.* key when it is blank.
+     * Two personas on one username would lease the same account to two tests, so that fails fast.
+     */
+    static List<String> configuredPersonas() {
+        List<String> names = new ArrayList<>();
+        String selected = ConfigReader.getProperty("user.lease.personas", "");
+        if (selected.isBlank()) {
+            for (String key : new TreeSet<>(ConfigReader.snapshot().getFileValues().keySet())) {
+                if (key.startsWith("persona.")) names.add(key.substring("persona.".length()));
+            }
+        } else {
+            for (String name : selected.split(",")) {
+                if (!name.isBlank()) names.add(name.trim());
+            }
+        }
+
+        List<String> usernames = new ArrayList<>();
+        for (String name : names) {
+            String username = ConfigReader.getProperty("persona." + name);
+            if (username == null || username.isEmpty()) {
+                throw new IllegalStateException("[LEASE] user.lease.personas lists '" + name + "' but persona." + name + " is not set");
+            }
+            if (usernames.contains(username)) {
+                throw new IllegalStateException("[LEASE] persona." + name + " repeats username '" + username
+                        + "': every leased persona needs its own account");
+            }
+            usernames.add(username);
+        }
+        return usernames;
+    }
+
+    // ==================================================
+    // 1. CLAIM
+    // ==================================================
+
+    /**
+     * Claims a free user, retrying with backoff for up to user.lease.wait.ms while every user is leased.
+     */
+    public UserLease acquire() {
+        UserLease lease = tryAcquire();
+        if (lease != null) return lease;
+
+        waited.increment();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMs);
+        long backoffMs = 10;
+        while (lease == null) {
+            if (System.nanoTime() > deadline) {
+                timeouts.increment();
+                throw new IllegalStateException("[LEASE] No free test user within " + waitMs + "ms: all "
+                        + capacity() + " user(s) are leased. Add personas or lower the thread count.");
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("[LEASE] Interrupted while waiting for a test user", e);
+            }
+            backoffMs = Math.min(backoffMs * 2, 250);
+            lease = tryAcquire();
+        }
+        return lease;
+    }
+
+    /**
+     * One non-blocking claim attempt; null when every user is leased.
+     */
+    public UserLease tryAcquire() {
+        if (useDatabase) {
+            try {
+                UserLease lease = claimFromDatabase();
+                databaseAnswered = true;
+                return track(lease);
+            } catch (SQLException e) {
+                // Fall back only when the database never worked; a busy pool or a later outage is the caller's failure
+                if (databaseAnswered || e instanceof SQLTransientException || usernames.length == 0) {
+                    throw new IllegalStateException("[LEASE] Database claim failed: " + e.getMessage(), e);
+                }
+                System.out.println("[WARN] [LEASE] Database claim failed (" + e.getMessage() + "), leasing persona.* users for the rest of the run");
+                useDatabase = false;
+            }
+        }
+        return track(claimFromPool());
+    }
+
+    private UserLease track(UserLease lease) {
+        if (lease != null) {
+            leases.increment();
+            threadLeases.get().add(lease);
+            System.out.println("[LEASE] Thread " + Thread.currentThread().getId() + " leased " + lease);
+        }
+        return lease;
+    }
+
+    private UserLease claimFromPool() {
+        int count = usernames.length;
+        if (count == 0) throw new IllegalStateException("[LEASE] No users to lease: set persona.* keys or user.lease.source=db");
+
+        // Rotate the starting slot so claimers do not all race for slot 0
+        int start = Math.floorMod(cursor.getAndIncrement(), count);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < count; i++) {
+            int slot = (start + i) % count;
+            UserLease holder = slots.get(slot);
+            if (holder != null && !holder.isExpired(now)) continue;
+
+            UserLease lease = new UserLease(this, usernames[slot], password, "config", TestDataGenerator.uniqueDigits(), slot, -1, now + ttlMs);
+            if (slots.compareAndSet(slot, holder, lease)) {
+                if (holder != null) reclaimed(holder);
+                return lease;
+            }
+        }
+        return null;
+    }
+
+    private UserLease claimFromDatabase() throws SQLException {
+        long now = System.currentTimeMillis();
+        try (Connection conn = dataSource.getConnection()) {
+            conn.setAutoCommit(false);
+            try {
+                long id;
+                String username;
+                try (PreparedStatement claim = conn.prepareStatement(CLAIM_SQL)) {
+                    claim.setTimestamp(1, new Timestamp(now));
+                    try (ResultSet rs = claim.executeQuery()) {
+                        if (!rs.next()) {
+                            conn.rollback();
+                            return null;
+                        }
+                        id = rs.getLong("id");
+                        username = rs.getString("username");
+                    }
+                }
+
+                String token = TestDataGenerator.uniqueDigits();
+                try (PreparedStatement mark = conn.prepareStatement(MARK_SQL)) {
+                    mark.setString(1, token);
+                    mark.setTimestamp(2, new Timestamp(now + ttlMs));
+                    mark.setLong(3, id);
+                    mark.executeUpdate();
+                }
+                conn.commit();
+                return new UserLease(this, username, password, "db", token, -1, id, now + ttlMs);
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+        }
+    }
+
+    private void reclaimed(UserLease expired) {
+        expiredReclaims.increment();
+        System.out.println("[WARN] [LEASE] Reclaimed expired lease on " + expired.getUsername()
+                + " (holder did not release it within user.lease.ttl.seconds)");
+    }
+
+    // ==================================================
+    // 2. RELEASE
+    // ==================================================
+
+    void release(UserLease lease) {
+        if (lease.getSlot() >= 0) {
+            // Fails harmlessly when the lease expired and the slot was already re-issued
+            slots.compareAndSet(lease.getSlot(), lease, null);
+            return;
+        }
+
+        try (Connection conn = dataSource.getConnection();
+             PreparedStatement release = conn.prepareStatement(RELEASE_SQL)) {
+            release.setLong(1, lease.getRowId());
+            release.setString(2, lease.getToken());
+            release.executeUpdate();
+        } catch (SQLException e) {
+            System.out.println("[WARN] [LEASE] Could not release " + lease.getUsername() + " (it expires on its own): " + e.getMessage());
+        }
+    }
+
+    /**
+     * Releases every lease the calling thread still holds (BaseTest.tearDown). Returns how many were released.
+     */
+    public int releaseThreadLeases() {
+        List<UserLease> held = threadLeases.get();
+        int released = 0;
+        for (UserLease lease : held) {
+            if (!lease.isReleased()) {
+                lease.close();
+                released++;
+            }
+        }
+        held.clear();
+        return released;
+    }
+
+    // ==================================================
+    // 3. METRICS
+    // ==================================================
+
+    /**
+     * Users in the config pool (the database source is limited by its active rows instead).
+     */
+    public int capacity() {
+        return usernames.length;
+    }
+
+    public Map<String, Long> metrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put("user_leases", leases.sum());
+        metrics.put("user_lease_waits", waited.sum());
+        metrics.put("user_lease_timeouts", timeouts.sum());
+        metrics.put("user_lease_expired_reclaims", expiredReclaims.sum());
+        return metrics;
+    }
+}
@@ -0,0 +1,610 @@
+package com.framework.db;
+
+import com.framework.utils.ConfigReader;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLTransientConnectionException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * PooledDataSource: A small JDBC connection pool so DatabaseUtils stops paying a TCP + auth handshake per query.
+ *
+ * At most db.pool.max connections are open or borrowed. Borrowers wait up to db.pool.timeout.ms, then fail.
+ * Idle connections are reused most-recently-used first and checked with Connection.isValid before they are handed
+ * out. Broken ones are replaced. Idle connections above db.pool.min are closed after db.pool.idle.timeout.ms.
+ *
+ * Callers get proxies. close() returns the connection to the pool, rolling back open transactions and restoring
+ * auto-commit, transaction isolation, read-only and catalog if the borrower changed them (other session state, such as
+ * the schema or client info, is not reset). prepareStatement(sql) is served from a per-connection LRU cache of
+ * db.pool.statement.cache.size statements, and closing a cached statement only releases it. Connections held longer
+ * than db.pool.leak.threshold.ms are reported once, with the first frames of the code that borrowed them (a short,
+ * bounded StackWalker walk per borrow instead of a full Throwable).
+ */
+public class PooledDataSource implements DataSource, AutoCloseable {
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+    private static final int BORROW_SITE_FRAMES = 8;
+
+    private static volatile PooledDataSource shared;
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int minSize;
+    private final int maxSize;
+    private final long borrowTimeoutMs;
+    private final int validationTimeoutSeconds;
+    private final long leakThresholdMs;
+    private final long idleTimeoutMs;
+    private final int statementCacheSize;
+    private final LongSupplier nanoClock;
+
+    private final Semaphore capacity;
+    private final LinkedBlockingDeque<PhysicalConnection> idle = new LinkedBlockingDeque<>();
+    private final Set<PooledConnection> borrowed = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger open = new AtomicInteger();
+    private final ScheduledExecutorService maintenance;
+    private volatile boolean reachable;
+    private volatile boolean closed;
+
+    // Metrics
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder validationFailures = new LongAdder();
+    private final LongAdder leaks = new LongAdder();
+    private final LongAdder statementHits = new LongAdder();
+    private final LongAdder statementMisses = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final LongAdder totalUseNanos = new LongAdder();
+    private final AtomicLong maxUseNanos = new AtomicLong();
+
+    public PooledDataSource(String url, String user, String password, int minSize, int maxSize, long borrowTimeoutMs,
+                            int validationTimeoutSeconds, long leakThresholdMs, long idleTimeoutMs, int statementCacheSize) {
+        this(url, user, password, minSize, maxSize, borrowTimeoutMs, validationTimeoutSeconds, leakThresholdMs,
+                idleTimeoutMs, statementCacheSize, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock how long connections are held (use time and leak detection); System::nanoTime outside unit tests
+     */
+    public PooledDataSource(String url, String user, String password, int minSize, int maxSize, long borrowTimeoutMs,
+                            int validationTimeoutSeconds, long leakThresholdMs, long idleTimeoutMs, int statementCacheSize,
+                            LongSupplier nanoClock) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = Math.max(1, maxSize);
+        this.minSize = Math.max(0, Math.min(minSize, this.maxSize));
+        this.borrowTimeoutMs = borrowTimeoutMs;
+        this.validationTimeoutSeconds = Math.max(1, validationTimeoutSeconds);
+        this.leakThresholdMs = leakThresholdMs;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.statementCacheSize = Math.max(0, statementCacheSize);
+        this.nanoClock = nanoClock;
+        this.capacity = new Semaphore(this.maxSize, true);
+
+        this.maintenance = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "db-pool-maintenance");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = leakThresholdMs > 0 ? Math.max(10, Math.min(leakThresholdMs / 2, 1000)) : 1000;
+        maintenance.scheduleWithFixedDelay(this::maintain, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * The pool behind DatabaseUtils, created on first use from the db.* keys.
+     */
+    public static PooledDataSource shared() {
+        if (shared == null) {
+            synchronized (PooledDataSource.class) {
+                if (shared == null) {
+                    shared = new PooledDataSource(
+                            ConfigReader.getProperty("db.url"),
+                            ConfigReader.getProperty("db.user"),
+                            ConfigReader.getProperty("db.password"),
+                            Integer.parseInt(ConfigReader.getProperty("db.pool.min", "1")),
+                            Integer.parseInt(ConfigReader.getProperty("db.pool.max", "10")),
+                            Long.parseLong(ConfigReader.getProperty("db.pool.timeout.ms", "10000")),
+                            Integer.parseInt(ConfigReader.getProperty("db.pool.validation.timeout.seconds", "2")),
+                            Long.parseLong(ConfigReader.getProperty("db.pool.leak.threshold.ms", "30000")),
+                            Long.parseLong(ConfigReader.getProperty("db.pool.idle.timeout.ms", "300000")),
+                            Integer.parseInt(ConfigReader.getProperty("db.pool.statement.cache.size", "32")));
+                    Runtime.getRuntime().addShutdownHook(new Thread(shared::close, "db-pool-shutdown"));
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * The shared pool, or null when no test touched the database this run.
+     */
+    public static PooledDataSource current() {
+        return shared;
+    }
+
+    // ==================================================
+    // 1. BORROW & RETURN
+    // ==================================================
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) throw new SQLException("[DB] Pool is closed");
+        long start = System.nanoTime();
+        try {
+            if (!capacity.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                timeouts.increment();
+                throw new SQLTransientConnectionException("[DB] No connection available within " + borrowTimeoutMs
+                        + "ms (borrowed=" + borrowed.size() + ", max=" + maxSize + ")");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("[DB] Interrupted while waiting for a connection", e);
+        }
+
+        try {
+            PhysicalConnection physical;
+            while ((physical = idle.pollFirst()) != null) {
+                if (isValid(physical)) break;
+                validationFailures.increment();
+                System.out.println("[WARN] [DB] Discarding broken pooled connection (failed validation on borrow)");
+                discard(physical);
+            }
+            if (physical == null) physical = create();
+
+            long waited = System.nanoTime() - start;
+            totalWaitNanos.add(waited);
+            maxWaitNanos.accumulateAndGet(waited, Math::max);
+            borrows.increment();
+
+            PooledConnection handle = new PooledConnection(physical);
+            borrowed.add(handle);
+            return handle.proxy;
+        } catch (SQLException | RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("[DB] The pool uses the credentials it was created with");
+    }
+
+    private void release(PooledConnection handle) {
+        if (!borrowed.remove(handle)) return;
+        long used = nanoClock.getAsLong() - handle.borrowedAt;
+        totalUseNanos.add(used);
+        maxUseNanos.accumulateAndGet(used, Math::max);
+
+        PhysicalConnection physical = handle.physical;
+        try {
+            if (closed || !physical.reset()) {
+                discard(physical);
+            } else {
+                physical.lastUsed = System.nanoTime();
+                idle.offerFirst(physical);
+            }
+        } finally {
+            capacity.release();
+        }
+    }
+
+    private PhysicalConnection create() throws SQLException {
+        Connection raw = DriverManager.getConnection(url, user, password);
+        open.incrementAndGet();
+        created.increment();
+        reachable = true;
+        return new PhysicalConnection(raw);
+    }
+
+    private boolean isValid(PhysicalConnection physical) {
+        try {
+            return physical.raw.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void discard(PhysicalConnection physical) {
+        open.decrementAndGet();
+        try {
+            physical.raw.close();
+        } catch (SQLException ignored) {
+            // Already broken
+        }
+    }
+
+    // ==================================================
+    // 2. MAINTENANCE (leaks, idle eviction, minimum size)
+    // ==================================================
+
+    private void maintain() {
+        try {
+            detectLeaks();
+            evictIdle();
+            fillToMinimum();
+        } catch (RuntimeException e) {
+            System.out.println("[WARN] [DB] Pool maintenance failed: " + e.getMessage());
+        }
+    }
+
+    private void detectLeaks() {
+        if (leakThresholdMs <= 0) return;
+        long now = nanoClock.getAsLong();
+        for (PooledConnection handle : borrowed) {
+            long heldMs = TimeUnit.NANOSECONDS.toMillis(now - handle.borrowedAt);
+            if (heldMs > leakThresholdMs && !handle.leakReported) {
+                handle.leakReported = true;
+                leaks.increment();
+                StringBuilder trace = new StringBuilder();
+                for (StackWalker.StackFrame frame : handle.borrowSite) {
+                    trace.append("\tat ").append(frame.toStackTraceElement()).append('\n');
+                }
+                System.out.println("[WARN] [DB] Possible connection leak: held for " + heldMs + "ms (db.pool.leak.threshold.ms="
+                        + leakThresholdMs + ") by " + handle.thread + ". Borrowed at:\n" + trace);
+            }
+        }
+    }
+
+    private void evictIdle() {
+        if (idleTimeoutMs <= 0) return;
+        long now = System.nanoTime();
+        // Oldest idle connections sit at the tail
+        PhysicalConnection oldest;
+        while (open.get() > minSize && (oldest = idle.peekLast()) != null
+                && TimeUnit.NANOSECONDS.toMillis(now - oldest.lastUsed) > idleTimeoutMs) {
+            if (idle.removeLastOccurrence(oldest)) discard(oldest);
+        }
+    }
+
+    private void fillToMinimum() {
+        // Only once the database has been reached, so an unused or unreachable DB costs nothing
+        if (!reachable || closed) return;
+        while (open.get() < minSize && capacity.tryAcquire()) {
+            try {
+                idle.offerLast(create());
+            } catch (SQLException e) {
+                return;
+            } finally {
+                capacity.release();
+            }
+        }
+    }
+
+    // ==================================================
+    // 3. METRICS & LIFECYCLE
+    // ==================================================
+
+    /**
+     * Pool usage: borrows, physical connections opened, wait/hold times, timeouts, validation failures, leaks and
+     * statement cache hits.
+     */
+    public Map<String, Long> metrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put("db_pool_borrows", borrows.sum());
+        metrics.put("db_pool_connections_created", created.sum());
+        metrics.put("db_pool_open", (long) open.get());
+        metrics.put("db_pool_active", (long) borrowed.size());
+        metrics.put("db_pool_idle", (long) idle.size());
+        metrics.put("db_pool_wait_total_us", TimeUnit.NANOSECONDS.toMicros(totalWaitNanos.sum()));
+        metrics.put("db_pool_wait_max_us", TimeUnit.NANOSECONDS.toMicros(maxWaitNanos.get()));
+        metrics.put("db_pool_use_total_ms", TimeUnit.NANOSECONDS.toMillis(totalUseNanos.sum()));
+        metrics.put("db_pool_use_max_ms", TimeUnit.NANOSECONDS.toMillis(maxUseNanos.get()));
+        metrics.put("db_pool_timeouts", timeouts.sum());
+        metrics.put("db_pool_validation_failures", validationFailures.sum());
+        metrics.put("db_pool_leaks", leaks.sum());
+        metrics.put("db_statement_cache_hits", statementHits.sum());
+        metrics.put("db_statement_cache_misses", statementMisses.sum());
+        return metrics;
+    }
+
+    /**
+     * Closes idle connections now and borrowed ones as they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        maintenance.shutdownNow();
+        PhysicalConnection physical;
+        while ((physical = idle.pollFirst()) != null) {
+            discard(physical);
+        }
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+        // Logging goes to stdout like the rest of the framework
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+        DriverManager.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return DriverManager.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) return iface.cast(this);
+        throw new SQLException("[DB] Not a wrapper for " + iface.getName());
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    /**
+     * The first frames outside the pool: where getConnection() was called from.
+     */
+    private static List<StackWalker.StackFrame> borrowSite() {
+        return WALKER.walk(frames -> frames
+                .dropWhile(frame -> frame.getClassName().startsWith(PooledDataSource.class.getName()))
+                .limit(BORROW_SITE_FRAMES)
+                .collect(Collectors.toList()));
+    }
+
+    private static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    // ==================================================
+    // 4. PHYSICAL CONNECTIONS & PROXIES
+    // ==================================================
+
+    /**
+     * One real JDBC connection and its prepared-statement cache (only ever used by the thread that borrowed it).
+     */
+    private final class PhysicalConnection {
+        private final Connection raw;
+        private final Map<String, CachedStatement> statements = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() <= statementCacheSize) return false;
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+        private volatile long lastUsed = System.nanoTime();
+
+        // Session state from before the current borrower first changed it (valid while sessionChanged)
+        private boolean sessionChanged;
+        private int isolation;
+        private boolean readOnly;
+        private String catalog;
+
+        PhysicalConnection(Connection raw) {
+            this.raw = raw;
+        }
+
+        PreparedStatement prepare(String sql, Connection owner) throws SQLException {
+            if (statementCacheSize == 0) return raw.prepareStatement(sql);
+
+            CachedStatement cached = statements.get(sql);
+            if (cached != null && cached.inUse) {
+                // Same SQL open twice on one connection: the second one is not cached
+                statementMisses.increment();
+                return raw.prepareStatement(sql);
+            }
+            if (cached != null && !cached.raw.isClosed()) {
+                statementHits.increment();
+                cached.owner = owner; // getConnection() must return this borrower's proxy, not an earlier, returned one
+            } else {
+                statementMisses.increment();
+                cached = new CachedStatement(raw.prepareStatement(sql), owner);
+                statements.put(sql, cached);
+            }
+            cached.inUse = true;
+            return cached.proxy;
+        }
+
+        /**
+         * Called before a borrower changes isolation, read-only or catalog, so reset() knows what to restore.
+         */
+        void rememberSession() throws SQLException {
+            if (sessionChanged) return;
+            isolation = raw.getTransactionIsolation();
+            readOnly = raw.isReadOnly();
+            catalog = raw.getCatalog();
+            sessionChanged = true;
+        }
+
+        /**
+         * Makes the connection safe for the next borrower; false when it should be discarded instead.
+         */
+        boolean reset() {
+            try {
+                if (raw.isClosed()) return false;
+                for (CachedStatement statement : statements.values()) {
+                    if (statement.inUse) statement.release();
+                }
+                if (!raw.getAutoCommit()) {
+                    raw.rollback();
+                    raw.setAutoCommit(true);
+                }
+                if (sessionChanged) {
+                    if (raw.getTransactionIsolation() != isolation) raw.setTransactionIsolation(isolation);
+                    if (raw.isReadOnly() != readOnly) raw.setReadOnly(readOnly);
+                    if (!Objects.equals(raw.getCatalog(), catalog)) raw.setCatalog(catalog);
+                    sessionChanged = false;
+                }
+                raw.clearWarnings();
+                return true;
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * What callers hold: close() returns the physical connection to the pool instead of closing it.
+     */
+    private final class PooledConnection implements InvocationHandler {
+        private final PhysicalConnection physical;
+        private final Connection proxy;
+        private final long borrowedAt = nanoClock.getAsLong();
+        private final String thread = Thread.currentThread().getName();
+        private final List<StackWalker.StackFrame> borrowSite;
+        private volatile boolean returned;
+        private volatile boolean leakReported;
+
+        PooledConnection(PhysicalConnection physical) {
+            this.physical = physical;
+            this.borrowSite = leakThresholdMs > 0 ? borrowSite() : List.of();
+            this.proxy = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object self, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(this);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || physical.raw.isClosed();
+                case "equals":
+                    return self == args[0];
+                case "hashCode":
+                    return System.identityHashCode(self);
+                case "toString":
+                    return "PooledConnection[" + physical.raw + (returned ? ", returned" : "") + "]";
+                default:
+                    break;
+            }
+            if (returned) throw new SQLException("[DB] Connection already returned to the pool");
+
+            switch (method.getName()) {
+                case "setTransactionIsolation":
+                case "setReadOnly":
+                case "setCatalog":
+                    physical.rememberSession();
+                    break;
+                default:
+                    break;
+            }
+
+            if ("prepareStatement".equals(method.getName()) && args.length == 1) {
+                return physical.prepare((String) args[0], proxy);
+            }
+            if ("unwrap".equals(method.getName()) && ((Class<?>) args[0]).isInstance(physical.raw)) {
+                return physical.raw;
+            }
+            return delegate(physical.raw, method, args);
+        }
+    }
+
+    /**
+     * A cached PreparedStatement: close() clears its parameters and leaves it open for the next prepareStatement(sql).
+     */
+    private final class CachedStatement implements InvocationHandler {
+        private final PreparedStatement raw;
+        private Connection owner;
+        private final PreparedStatement proxy;
+        private boolean inUse;
+        private boolean evicted;
+
+        CachedStatement(PreparedStatement raw, Connection owner) {
+            this.raw = raw;
+            this.owner = owner;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                    new Class<?>[]{PreparedStatement.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object self, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (inUse) release();
+                    return null;
+                case "isClosed":
+                    return !inUse || raw.isClosed();
+                case "getConnection":
+                    return owner;
+                case "equals":
+                    return self == args[0];
+                case "hashCode":
+                    return System.identityHashCode(self);
+                case "toString":
+                    return "CachedStatement[" + raw + "]";
+                default:
+                    break;
+            }
+            if (!inUse) throw new SQLException("[DB] Statement is closed");
+            return delegate(raw, method, args);
+        }
+
+        void release() {
+            inUse = false;
+            try {
+                if (evicted) {
+                    raw.close();
+                } else {
+                    raw.clearParameters();
+                }
+            } catch (SQLException ignored) {
+                // The next prepareStatement finds it closed and prepares a new one
+            }
+        }
+
+        void evict() {
+            evicted = true;
+            if (!inUse) {
+                try {
+                    raw.close();
+                } catch (SQLException ignored) {
+                    // Closing an evicted statement is best effort
+                }
+            }
+        }
+    }
+}
@@ -1,17 +1,17 @@
 package com.framework.driver;
 
 import com.epam.healenium.SelfHealingDriver;
+import com.framework.execution.PhaseTimings;
+import com.framework.execution.SuiteMetrics;
 import com.framework.utils.ConfigReader;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.android.options.UiAutomator2Options;
 import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.ios.options.XCUITestOptions;
+import org.openqa.selenium.SessionNotCreatedException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
 import org.openqa.selenium.remote.RemoteWebDriver;
 
@@ -25,10 +25,14 @@ import java.net.URL;
 public class DriverFactory {
 
     public static WebDriver createInstance(String browser, String headless) throws MalformedURLException {
+        WebDriver driver = createSession(browser, headless);
+        SessionTimeouts.register(driver);
+        return driver;
+    }
+
+    private static WebDriver createSession(String browser, String headless) throws MalformedURLException {
         WebDriver delegate = null;
-        // Check system property first (from Maven -P), then fall back to config file
-        String mode = System.getProperty("execution.env", ConfigReader.getProperty("execution_mode"));
-        if (mode == null) mode = "local";
+        String mode = resolveMode();
 
         System.out.println("=========================================");
         System.out.println("[INFO] DriverFactory Initialized");
@@ -37,6 +41,7 @@ public class DriverFactory {
         System.out.println("=========================================");
 
         boolean isHeadless = Boolean.parseBoolean(headless);
+        long phaseStart = System.nanoTime();
 
         // --- 1. WEB OPTIONS ---
         ChromeOptions chromeOptions = new ChromeOptions();
@@ -53,11 +58,19 @@ public class DriverFactory {
         EdgeOptions edgeOptions = new EdgeOptions();
         if (isHeadless) edgeOptions.addArguments("--headless");
 
+        // Opt-in "fast mode": lean launch flags/prefs (no-op unless fastmode.enabled=true)
+        FastModeProfile.tune(chromeOptions, isHeadless);
+        FastModeProfile.tune(edgeOptions, isHeadless);
+        FastModeProfile.tune(firefoxOptions, isHeadless);
+
         // --- 2. MOBILE OPTIONS ---
         UiAutomator2Options androidOptions = new UiAutomator2Options();
         XCUITestOptions iosOptions = new XCUITestOptions();
         // ... (Your existing Android/iOS options logic here)
 
+        PhaseTimings.record(browser, mode, "driver.options", System.nanoTime() - phaseStart);
+        phaseStart = System.nanoTime();
+
         // --- 3. EXECUTION LOGIC ---
         if ("cloud".equalsIgnoreCase(mode)) {
             // ... (Your existing Cloud/Sauce Labs switch case here)
@@ -67,10 +80,26 @@ public class DriverFactory {
             String gridUrl = System.getProperty("grid.url", "http://localhost:4444/wd/hub");
             URL remoteUrl = new URL(gridUrl);
 
-            switch (browser.toLowerCase()) {
-                case "chrome": delegate = new RemoteWebDriver(remoteUrl, chromeOptions); break;
-                case "firefox": delegate = new RemoteWebDriver(remoteUrl, firefoxOptions); break;
-                case "edge": delegate = new RemoteWebDriver(remoteUrl, edgeOptions); break;
+            // Wait here for a free node slot instead of queueing inside the hub until it times out.
+            GridAdmissionController.Permit permit = null;
+            if (GridAdmissionController.isEnabled()) {
+                try {
+                    permit = GridAdmissionController.forGrid(gridUrl).acquire(browser);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SessionNotCreatedException("[GRID] Interrupted while waiting for a free " + browser + " slot");
+                }
+            }
+
+            try {
+                switch (browser.toLowerCase()) {
+                    case "chrome": delegate = new RemoteWebDriver(remoteUrl, chromeOptions); break;
+                    case "firefox": delegate = new RemoteWebDriver(remoteUrl, firefoxOptions); break;
+                    case "edge": delegate = new RemoteWebDriver(remoteUrl, edgeOptions); break;
+                }
+                if (permit != null && delegate != null) permit.sessionCreated();
+            } finally {
+                if (permit != null) permit.close();
             }
 
         } else {
@@ -83,29 +112,67 @@ public class DriverFactory {
             } else if ("ios".equalsIgnoreCase(browser)) {
                 delegate = new IOSDriver(new URL(appiumUrl), iosOptions);
             } else {
+                // Sessions are created against shared driver services (see DriverServiceRegistry).
                 switch (browser.toLowerCase()) {
-                    case "chrome": delegate = new ChromeDriver(chromeOptions); break;
-                    case "firefox": delegate = new FirefoxDriver(firefoxOptions); break;
-                    case "edge": delegate = new EdgeDriver(edgeOptions); break;
+                    case "chrome": delegate = DriverServiceRegistry.newChromeDriver(chromeOptions); break;
+                    case "firefox": delegate = DriverServiceRegistry.newFirefoxDriver(firefoxOptions); break;
+                    case "edge": delegate = DriverServiceRegistry.newEdgeDriver(edgeOptions); break;
                 }
             }
         }
 
+        long launchNanos = System.nanoTime() - phaseStart;
+        PhaseTimings.record(browser, mode, "driver.launch", launchNanos);
+        SuiteMetrics.observeSessionCreation(browser, launchNanos);
+
         // --- 4. HEALENIUM WRAPPING ---
         // Only wrap Web Drivers. Mobile drivers (AndroidDriver/IOSDriver) should remain raw.
-        boolean isMobile = "android".equalsIgnoreCase(browser) || "ios".equalsIgnoreCase(browser);
+        if (delegate != null && !isMobile(browser)) {
+            // Network block list goes on the raw session, before any wrapping
+            if (FastModeProfile.isEnabled()) {
+                phaseStart = System.nanoTime();
+                delegate = FastModeProfile.install(delegate);
+                PhaseTimings.record(browser, mode, "driver.fastmode", System.nanoTime() - phaseStart);
+            }
+
+            // Profile wire commands underneath Healenium so healing lookups are counted too
+            delegate = WireCommandProfiler.install(delegate);
 
-        if (delegate != null && !isMobile) {
+            // The circuit breaker skips the wrap outright while the hlm-backend is known to be down.
+            if (!HealeniumCircuitBreaker.allowWrap()) {
+                return delegate;
+            }
             try {
                 System.out.println("[INFO] Wrapping driver with Healenium Self-Healing");
-                return SelfHealingDriver.create(delegate);
+                long start = System.nanoTime();
+                WebDriver healing = SelfHealingDriver.create(delegate);
+                long wrapNanos = System.nanoTime() - start;
+                HealeniumCircuitBreaker.recordWrap(wrapNanos);
+                PhaseTimings.record(browser, mode, "driver.healenium", wrapNanos);
+                return healing;
             } catch (Exception e) {
-                System.out.println("[WARN] Healenium backend not found. Using standard driver. Error: " + e.getMessage());
+                HealeniumCircuitBreaker.recordFailure(e);
                 return delegate;
             }
         }
 
         // Return the raw driver if it's mobile or if it's null
         return delegate;
-    } // End of createInstance
+    } // End of createSession
+
+    /**
+     * Resolves the active execution mode.
+     * Checks the system property first (from Maven -P), then falls back to the config file.
+     */
+    public static String resolveMode() {
+        String mode = System.getProperty("execution.env", ConfigReader.getProperty("execution_mode"));
+        return (mode != null) ? mode : "local";
+    }
+
+    /**
+     * True for Appium platforms, whose sessions are never wrapped or pooled.
+     */
+    public static boolean isMobile(String browser) {
+        return "android".equalsIgnoreCase(browser) || "ios".equalsIgnoreCase(browser);
+    }
 } // End of Class
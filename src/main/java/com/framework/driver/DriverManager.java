@@ -4,40 +4,48 @@ import org.openqa.selenium.WebDriver;
 
 /**
  * DriverManager: Thread-Safe Driver Management.
- * Uses ThreadLocal to ensure that each test thread (Parallel Execution)
- * gets its own isolated WebDriver instance.
+ * Facade over SessionContext so existing code keeps calling getDriver()/setDriver()/unload()
+ * while a test can also hold several named sessions and hand them to other threads explicitly.
  */
 public class DriverManager {
 
-    // ThreadLocal acts as a separate "box" for every thread.
-    // Thread 1 puts its Chrome Driver here. Thread 2 puts its Firefox Driver here.
-    // They never overlap.
-    private static final ThreadLocal<WebDriver> dr = new ThreadLocal<>();
-
     // Private constructor prevents anyone from saying "new DriverManager()"
     private DriverManager() {
     }
 
     /**
-     * Returns the WebDriver instance specific to the current thread.
+     * Returns the default WebDriver session of the test running on the current thread
+     * (or of the context propagated into it).
      */
     public static WebDriver getDriver() {
-        return dr.get();
+        return getDriver(SessionContext.DEFAULT);
+    }
+
+    /**
+     * Returns a named session of the current test, or null if it has not been opened.
+     */
+    public static WebDriver getDriver(String name) {
+        SessionContext context = SessionContext.currentOrNull();
+        return (context != null) ? context.get(name) : null;
     }
 
     /**
-     * Stores the WebDriver instance for the current thread.
+     * Stores the default WebDriver session for the current test.
      */
     public static void setDriver(WebDriver driverRef) {
-        dr.set(driverRef);
+        SessionContext.current().put(SessionContext.DEFAULT, driverRef);
     }
 
     /**
-     * Cleans up the ThreadLocal reference to prevent memory leaks.
-     * Note: This does NOT quit the driver (BaseTest handles that).
-     * This just clears the "box" for the next test.
+     * Clears the default session reference to prevent memory leaks.
+     * Note: This does NOT quit the driver (DriverPool handles that on release).
+     * The thread's context is dropped once it holds no sessions at all.
      */
     public static void unload() {
-        dr.remove();
+        SessionContext context = SessionContext.currentOrNull();
+        if (context != null) {
+            context.remove(SessionContext.DEFAULT);
+            SessionContext.detachIfEmpty();
+        }
     }
 }
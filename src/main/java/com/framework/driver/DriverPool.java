@@ -0,0 +1,617 @@
+package com.framework.driver;
+
+import com.framework.execution.PhaseTimings;
+import com.framework.execution.SuiteMetrics;
+import com.framework.utils.ConfigReader;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+
+import java.net.MalformedURLException;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DriverPool: Keeps warm WebDriver sessions so tests don't pay a browser launch per method.
+ *
+ * Sessions are keyed by browser + headless flag + execution mode and leased to the current
+ * thread through DriverManager. On release a session is reset to a clean state (extra windows,
+ * cookies, storage) and it is health-checked again before the next lease.
+ * Mobile (Appium) sessions are never pooled — they are created and quit per test as before.
+ *
+ * At most pool.max.size sessions exist at once (leased, idle or still launching). A lease that needs a
+ * new session while the pool is full retires the least recently used idle session, or waits up to
+ * pool.wait.seconds for one to be given back.
+ *
+ * Sessions can also be pre-warmed in the background (see prewarm) so the first lease on each
+ * worker thread picks up a browser that is already starting instead of a cold launch.
+ */
+public class DriverPool {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.getProperty("pool.enabled", "true"));
+    private static final int PREWARM_MAX_CONCURRENT =
+            Integer.parseInt(ConfigReader.getProperty("prewarm.max.concurrent", "2"));
+    private static final long LAUNCH_JOIN_SECONDS = 60; // Longest wait at shutdown for a pre-warm launch in flight
+
+    private static final DriverPool SHARED = new DriverPool(
+            Integer.parseInt(ConfigReader.getProperty("pool.max.size", "4")),
+            Integer.parseInt(ConfigReader.getProperty("pool.max.uses", "25")),
+            Long.parseLong(ConfigReader.getProperty("pool.idle.timeout.seconds", "120")) * 1000L,
+            Long.parseLong(ConfigReader.getProperty("pool.wait.seconds", "120")) * 1000L,
+            DriverFactory::createInstance);
+
+    static {
+        if (ENABLED) {
+            ScheduledExecutorService evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "driver-pool-evictor");
+                t.setDaemon(true);
+                return t;
+            });
+            long period = Math.max(SHARED.idleTimeoutMs / 2, 5000L);
+            evictor.scheduleAtFixedRate(SHARED::evictIdle, period, period, TimeUnit.MILLISECONDS);
+        }
+
+        // Registered even when pooling is off: shared driver services must outlive every session,
+        // so they are stopped here, after the sessions are quit.
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            shutdown();
+            DriverServiceRegistry.shutdown();
+        }, "driver-pool-shutdown"));
+    }
+
+    /**
+     * Starts a browser session; DriverFactory::createInstance outside unit tests.
+     */
+    @FunctionalInterface
+    public interface SessionFactory {
+        WebDriver create(String browser, String headless) throws MalformedURLException;
+    }
+
+    private final int maxSize;
+    private final int maxUses;
+    private final long idleTimeoutMs;
+    private final long waitMs;
+    private final SessionFactory factory;
+
+    // Idle sessions per key. Deques are used LIFO so the most recently used (warmest) session goes out first.
+    private final Map<String, Deque<PooledSession>> idle = new ConcurrentHashMap<>();
+
+    // Leased sessions, keyed by identity: Healenium proxies delegate equals/hashCode to the wrapped driver.
+    private final Map<WebDriver, PooledSession> leased = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    // Background launches that have not been claimed by a lease yet.
+    private final Map<String, Queue<CompletableFuture<PooledSession>>> warming = new ConcurrentHashMap<>();
+
+    // Guards openSessions and idle hand-ins; notified whenever a session is given back or retired.
+    private final Object slots = new Object();
+    private int openSessions; // Leased + idle + launching
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong prewarmHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong launchNanos = new AtomicLong();
+    private final AtomicLong prewarmWaitNanos = new AtomicLong();
+
+    public DriverPool(int maxSize, int maxUses, long idleTimeoutMs, long waitMs, SessionFactory factory) {
+        this.maxSize = Math.max(1, maxSize);
+        this.maxUses = maxUses;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.waitMs = waitMs;
+        this.factory = factory;
+    }
+
+    /**
+     * Leases a session for the current thread and registers it with DriverManager.
+     * Returns a warm session when one is available, otherwise launches a new one via DriverFactory.
+     */
+    public static WebDriver lease(String browser, String headless) throws MalformedURLException {
+        WebDriver driver = acquire(browser, headless);
+        if (driver != null) {
+            DriverManager.setDriver(driver);
+        }
+        return driver;
+    }
+
+    /**
+     * Same as lease() but without binding the session to DriverManager —
+     * used for additional named sessions held in a SessionContext.
+     */
+    public static WebDriver acquire(String browser, String headless) throws MalformedURLException {
+        WebDriver driver = (!ENABLED || DriverFactory.isMobile(browser))
+                ? DriverFactory.createInstance(browser, headless)
+                : SHARED.checkOut(browser, headless);
+        SuiteMetrics.sessionLeased(driver, browser);
+        return driver;
+    }
+
+    /**
+     * Clears the DriverManager slot and gives the session back to the pool.
+     */
+    public static void release(WebDriver driver) {
+        DriverManager.unload();
+        giveBack(driver);
+    }
+
+    /**
+     * Returns the session to the pool after resetting it, or quits it when it is unpooled,
+     * worn out or unhealthy.
+     */
+    public static void giveBack(WebDriver driver) {
+        if (driver == null) return;
+        SuiteMetrics.sessionReturned(driver);
+        SHARED.checkIn(driver);
+    }
+
+    /**
+     * Starts {@code count} sessions for the given browser in the background.
+     * Launches are capped at prewarm.max.concurrent so a small CI box or Grid is not flooded.
+     */
+    public static void prewarm(String browser, String headless, int count) {
+        if (!ENABLED || DriverFactory.isMobile(browser) || count <= 0) return;
+        SHARED.warm(browser, headless, count);
+    }
+
+    /**
+     * Quits every pooled session. Runs from the JVM shutdown hook.
+     */
+    public static void shutdown() {
+        SHARED.close();
+    }
+
+    /**
+     * One-line summary of pool effectiveness, including the launch time the hits avoided.
+     */
+    public static String stats() {
+        return SHARED.summary();
+    }
+
+    // ==================================================
+    // 1. LEASE & RETURN
+    // ==================================================
+
+    /**
+     * Leases a session: an idle one for the key, else a pre-warmed one, else a new launch. When the pool is
+     * full and nothing is idle, waits for a session to come back, failing after pool.wait.seconds.
+     */
+    public WebDriver checkOut(String browser, String headless) throws MalformedURLException {
+        String key = keyFor(browser, headless);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMs);
+
+        PooledSession session;
+        while (true) {
+            if ((session = pollHealthy(key)) != null) {
+                hits.incrementAndGet();
+                System.out.println("[POOL] Reusing warm session (" + key + ") | Use " + (session.uses + 1) + "/" + maxUses);
+                break;
+            }
+            if ((session = claimPrewarmed(key)) != null) {
+                prewarmHits.incrementAndGet();
+                System.out.println("[POOL] Claimed pre-warmed session (" + key + ")");
+                break;
+            }
+            if (tryReserveSlot()) {
+                misses.incrementAndGet();
+                session = launch(key, browser, headless);
+                if (session == null) return null;
+                break;
+            }
+            awaitSlot(key, deadline);
+        }
+
+        session.uses++;
+        leased.put(session.driver, session);
+        return session.driver;
+    }
+
+    /**
+     * Takes a session back: reset and kept idle, or retired when it is worn out or the reset failed.
+     * Drivers this pool did not lease are quit.
+     */
+    public void checkIn(WebDriver driver) {
+        if (driver == null) return;
+
+        PooledSession session = leased.remove(driver);
+        if (session == null) {
+            quitQuietly(driver);
+            return;
+        }
+
+        if (session.uses >= maxUses) {
+            retire(session, "max uses reached");
+        } else if (!resetTimed(session)) {
+            retire(session, "reset failed");
+        } else {
+            session.lastReleased = System.currentTimeMillis();
+            session.ownerThread = Thread.currentThread().getId();
+            synchronized (slots) {
+                idle.computeIfAbsent(session.key, k -> new ConcurrentLinkedDeque<>()).offerFirst(session);
+                slots.notifyAll();
+            }
+            System.out.println("[POOL] Session returned to pool (" + session.key + ")");
+        }
+    }
+
+    /**
+     * Launches {@code count} sessions in the background. Launches that find the pool full are skipped.
+     */
+    public void warm(String browser, String headless, int count) {
+        String key = keyFor(browser, headless);
+        Queue<CompletableFuture<PooledSession>> pending = warming.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>());
+        System.out.println("[POOL] Pre-warming " + count + " session(s) for " + key
+                + " | Max concurrent launches: " + PREWARM_MAX_CONCURRENT);
+
+        for (int i = 0; i < count; i++) {
+            pending.add(CompletableFuture.supplyAsync(() -> {
+                if (!tryReserveSlot()) {
+                    System.out.println("[POOL] Skipping pre-warm launch (" + key + "): pool.max.size reached");
+                    return null;
+                }
+                try {
+                    return launch(key, browser, headless);
+                } catch (Exception e) {
+                    System.out.println("[WARN] Pre-warm launch failed (" + key + "): " + e.getMessage());
+                    return null;
+                }
+            }, Launcher.EXECUTOR));
+        }
+    }
+
+    /**
+     * Quits every session this pool holds, leased ones included.
+     */
+    public void close() {
+        for (Queue<CompletableFuture<PooledSession>> pending : warming.values()) {
+            CompletableFuture<PooledSession> launch;
+            while ((launch = pending.poll()) != null) {
+                // Cancelling would not stop a driver constructor already running, so let it finish and quit the result
+                CompletableFuture<Void> quit = launch.thenAccept(session -> {
+                    if (session != null) {
+                        quitQuietly(session.driver);
+                        releaseSlot();
+                    }
+                });
+                try {
+                    quit.get(LAUNCH_JOIN_SECONDS, TimeUnit.SECONDS);
+                } catch (TimeoutException e) {
+                    System.out.println("[WARN] Pre-warm launch still running after " + LAUNCH_JOIN_SECONDS
+                            + "s at shutdown; it is quit as soon as it completes");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    // Failed launch already logged — no browser to quit
+                }
+            }
+        }
+        for (Deque<PooledSession> sessions : idle.values()) {
+            PooledSession session;
+            while ((session = sessions.pollFirst()) != null) {
+                quitQuietly(session.driver);
+                releaseSlot();
+            }
+        }
+        synchronized (leased) {
+            for (WebDriver driver : leased.keySet()) {
+                quitQuietly(driver);
+                releaseSlot();
+            }
+            leased.clear();
+        }
+        System.out.println("[POOL] " + summary());
+    }
+
+    // ==================================================
+    // 2. STATS
+    // ==================================================
+
+    /**
+     * Pre-warm hits count as saved launch time minus the time spent waiting for the background launch.
+     */
+    public String summary() {
+        long h = hits.get();
+        long p = prewarmHits.get();
+        long m = misses.get();
+        long launches = m + p;
+        long avgLaunchMs = (launches == 0) ? 0 : TimeUnit.NANOSECONDS.toMillis(launchNanos.get() / launches);
+        double hitRate = (h + p + m == 0) ? 0 : (100.0 * (h + p)) / (h + p + m);
+        long savedMs = h * avgLaunchMs + Math.max(0, p * avgLaunchMs - TimeUnit.NANOSECONDS.toMillis(prewarmWaitNanos.get()));
+        return String.format("Driver Pool | Hits: %d | Pre-warmed: %d | Misses: %d | Hit Rate: %.1f%% | Evictions: %d | Avg Launch: %d ms | Est. Saved: %d ms",
+                h, p, m, hitRate, evictions.get(), avgLaunchMs, savedMs);
+    }
+
+    public Map<String, Long> metrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put("pool_hits", hits.get());
+        metrics.put("pool_prewarm_hits", prewarmHits.get());
+        metrics.put("pool_misses", misses.get());
+        metrics.put("pool_evictions", evictions.get());
+        synchronized (slots) {
+            metrics.put("pool_open", (long) openSessions);
+        }
+        metrics.put("pool_leased", (long) leased.size());
+        metrics.put("pool_idle", (long) idle.values().stream().mapToInt(Deque::size).sum());
+        return metrics;
+    }
+
+    // ==================================================
+    // 3. CAPACITY (pool.max.size)
+    // ==================================================
+
+    /**
+     * Claims one of the pool.max.size slots for a launch. When the pool is full the least recently used idle
+     * session is retired and its slot handed over; false when every slot belongs to a leased or launching session.
+     */
+    private boolean tryReserveSlot() {
+        PooledSession evicted;
+        synchronized (slots) {
+            if (openSessions < maxSize) {
+                openSessions++;
+                return true;
+            }
+            evicted = removeOldestIdle();
+            if (evicted == null) return false;
+        }
+        // Quit before the caller launches, so the browser count never goes above the cap
+        quitRetired(evicted, "making room for a new key");
+        return true;
+    }
+
+    private void releaseSlot() {
+        synchronized (slots) {
+            openSessions--;
+            slots.notifyAll();
+        }
+    }
+
+    /**
+     * Waits until a session is given back or retired, or throws once the lease deadline has passed.
+     */
+    private void awaitSlot(String key, long deadline) {
+        synchronized (slots) {
+            if (openSessions < maxSize || hasIdle()) return; // Freed since the last attempt
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new SessionNotCreatedException("[POOL] No " + key + " session free after " + waitMs
+                        + "ms: all " + maxSize + " sessions (pool.max.size) are leased or launching");
+            }
+            try {
+                TimeUnit.NANOSECONDS.timedWait(slots, remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SessionNotCreatedException("[POOL] Interrupted while waiting for a free session slot");
+            }
+        }
+    }
+
+    private boolean hasIdle() {
+        for (Deque<PooledSession> sessions : idle.values()) {
+            if (!sessions.isEmpty()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes the least recently used idle session across all keys (caller holds the slots lock).
+     */
+    private PooledSession removeOldestIdle() {
+        while (true) {
+            PooledSession oldest = null;
+            Deque<PooledSession> owner = null;
+            for (Deque<PooledSession> sessions : idle.values()) {
+                PooledSession candidate = sessions.peekLast();
+                if (candidate != null && (oldest == null || candidate.lastReleased < oldest.lastReleased)) {
+                    oldest = candidate;
+                    owner = sessions;
+                }
+            }
+            if (oldest == null) return null;
+            if (owner.remove(oldest)) return oldest;
+            // Leased by another thread in the meantime — look again
+        }
+    }
+
+    // ==================================================
+    // INTERNALS
+    // ==================================================
+
+    private static String keyFor(String browser, String headless) {
+        return browser.toLowerCase() + "|" + Boolean.parseBoolean(headless) + "|" + DriverFactory.resolveMode().toLowerCase();
+    }
+
+    /**
+     * Starts a session in a slot the caller already reserved; the slot is released again if the launch fails.
+     */
+    private PooledSession launch(String key, String browser, String headless) throws MalformedURLException {
+        long start = System.nanoTime();
+        WebDriver driver = null;
+        try {
+            driver = factory.create(browser, headless);
+        } finally {
+            launchNanos.addAndGet(System.nanoTime() - start);
+            if (driver == null) releaseSlot();
+        }
+        return (driver == null) ? null : new PooledSession(key, driver);
+    }
+
+    /**
+     * Takes the next background launch for this key, waiting for it if it is still starting.
+     * Waiting is still cheaper than a cold launch because the launch is already under way.
+     */
+    private PooledSession claimPrewarmed(String key) {
+        Queue<CompletableFuture<PooledSession>> pending = warming.get(key);
+        if (pending == null) return null;
+
+        CompletableFuture<PooledSession> launch;
+        while ((launch = pending.poll()) != null) {
+            long start = System.nanoTime();
+            try {
+                PooledSession session = launch.join();
+                if (session != null) {
+                    prewarmWaitNanos.addAndGet(System.nanoTime() - start);
+                    return session;
+                }
+            } catch (Exception e) {
+                // Failed launch already logged — try the next one or fall back to a cold launch
+            }
+        }
+        return null;
+    }
+
+    private PooledSession pollHealthy(String key) {
+        Deque<PooledSession> sessions = idle.get(key);
+        if (sessions == null) return null;
+
+        PooledSession session;
+        while ((session = pollAffine(sessions)) != null) {
+            if (isExpired(session)) {
+                retire(session, "idle timeout");
+            } else if (!isHealthy(session.driver)) {
+                retire(session, "health check failed");
+            } else {
+                return session;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Prefers the session this thread released last, so a worker keeps its own browser across methods.
+     * Falls back to the warmest idle session.
+     */
+    private static PooledSession pollAffine(Deque<PooledSession> sessions) {
+        long self = Thread.currentThread().getId();
+        for (PooledSession candidate : sessions) {
+            if (candidate.ownerThread == self && sessions.remove(candidate)) {
+                return candidate;
+            }
+        }
+        return sessions.pollFirst();
+    }
+
+    /**
+     * Restores a clean browser state: closes extra windows, then clears cookies and web storage.
+     */
+    private static boolean reset(WebDriver driver) {
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            if (handles.size() > 1) {
+                String keep = handles.iterator().next();
+                for (String handle : handles) {
+                    if (!handle.equals(keep)) {
+                        driver.switchTo().window(handle).close();
+                    }
+                }
+                driver.switchTo().window(keep);
+            }
+
+            driver.manage().deleteAllCookies();
+            // Storage access throws on about:blank / data: documents, so the clear is guarded in-page.
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            return true;
+        } catch (Exception e) {
+            System.out.println("[WARN] Pooled session reset failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private static boolean isHealthy(WebDriver driver) {
+        try {
+            return driver.getWindowHandle() != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean isExpired(PooledSession session) {
+        return System.currentTimeMillis() - session.lastReleased > idleTimeoutMs;
+    }
+
+    private void evictIdle() {
+        for (Deque<PooledSession> sessions : idle.values()) {
+            for (PooledSession session : sessions) {
+                if (isExpired(session) && sessions.remove(session)) {
+                    retire(session, "idle timeout");
+                }
+            }
+        }
+    }
+
+    private void retire(PooledSession session, String reason) {
+        quitRetired(session, reason);
+        releaseSlot();
+    }
+
+    private void quitRetired(PooledSession session, String reason) {
+        evictions.incrementAndGet();
+        System.out.println("[POOL] Retiring session (" + session.key + "): " + reason);
+        long start = System.nanoTime();
+        quitQuietly(session.driver);
+        recordPhase(session, "teardown.quit", System.nanoTime() - start);
+    }
+
+    private static boolean resetTimed(PooledSession session) {
+        long start = System.nanoTime();
+        boolean clean = reset(session.driver);
+        recordPhase(session, "teardown.reset", System.nanoTime() - start);
+        return clean;
+    }
+
+    // Pool keys are browser|headless|mode
+    private static void recordPhase(PooledSession session, String phase, long nanos) {
+        String[] key = session.key.split("\\|");
+        PhaseTimings.record(key[0], key[2], phase, nanos);
+    }
+
+    private static void quitQuietly(WebDriver driver) {
+        FastModeProfile.forget(driver);
+        SessionTimeouts.forget(driver);
+        try {
+            driver.quit();
+        } catch (Exception ignored) {
+            // Session already gone — nothing left to clean up
+        }
+    }
+
+    /**
+     * Lazily created so runs without pre-warming never start the launcher threads.
+     */
+    private static final class Launcher {
+        private static final AtomicInteger threadCount = new AtomicInteger();
+        private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(PREWARM_MAX_CONCURRENT, r -> {
+            Thread t = new Thread(r, "driver-prewarm-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    private static final class PooledSession {
+        private final String key;
+        private final WebDriver driver;
+        private volatile int uses;
+        private volatile long lastReleased = System.currentTimeMillis();
+        private volatile long ownerThread = -1;
+
+        private PooledSession(String key, WebDriver driver) {
+            this.key = key;
+            this.driver = driver;
+        }
+    }
+}
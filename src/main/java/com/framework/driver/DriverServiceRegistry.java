@@ -0,0 +1,331 @@
+package com.framework.driver;
+
+import com.framework.utils.ConfigReader;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.net.PortProber;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * DriverServiceRegistry: One running chromedriver/msedgedriver per JVM instead of one per session.
+ *
+ * Local Chrome and Edge sessions are created against a shared (optionally striped) driver service,
+ * so each session skips the Selenium Manager lookup and the driver process fork. Resolved driver and
+ * browser paths are cached on disk so later runs skip the lookup entirely.
+ *
+ * geckodriver only hosts one session per process, so Firefox still gets a service per session —
+ * but it is started from the cached binary path rather than a fresh Selenium Manager resolution.
+ */
+public class DriverServiceRegistry {
+
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(ConfigReader.getProperty("driver.service.shared", "true"));
+    private static final int STRIPES =
+            Math.max(1, Integer.parseInt(ConfigReader.getProperty("driver.service.stripes", "1")));
+    private static final Path CACHE_FILE = Paths.get(ConfigReader.getProperty("driver.cache.file",
+            System.getProperty("user.home") + "/.cache/selenium-pom/driver-paths.properties"));
+    private static final Duration START_TIMEOUT = Duration.ofSeconds(20);
+
+    private static final Properties cachedPaths = loadCache();
+    private static final Map<String, ServiceStripes<SharedService>> stripes = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Boolean> STARTING = ThreadLocal.withInitial(() -> false);
+
+    private DriverServiceRegistry() {
+    }
+
+    // ==================================================
+    // 1. SESSION CREATION
+    // ==================================================
+
+    public static WebDriver newChromeDriver(ChromeOptions options) {
+        if (!ENABLED) return new ChromeDriver(options);
+
+        applyCachedBrowser("chrome", options);
+        return startShared("chrome", service -> new ChromeDriver((ChromeDriverService) service, options),
+                () -> options.asMap().get(ChromeOptions.CAPABILITY));
+    }
+
+    public static WebDriver newEdgeDriver(EdgeOptions options) {
+        if (!ENABLED) return new EdgeDriver(options);
+
+        applyCachedBrowser("edge", options);
+        return startShared("edge", service -> new EdgeDriver((EdgeDriverService) service, options),
+                () -> options.asMap().get(EdgeOptions.CAPABILITY));
+    }
+
+    public static WebDriver newFirefoxDriver(FirefoxOptions options) {
+        if (!ENABLED) return new FirefoxDriver(options);
+
+        String browserPath = cachedPaths.getProperty("firefox.browser");
+        if (browserPath != null && new File(browserPath).exists()) {
+            options.setBinary(browserPath);
+        }
+
+        GeckoDriverService.Builder builder = new GeckoDriverService.Builder().usingAnyFreePort();
+        File driverExe = cachedExecutable("firefox");
+        if (driverExe != null) builder.usingDriverExecutable(driverExe);
+        GeckoDriverService service = builder.build();
+
+        try {
+            FirefoxDriver driver = new FirefoxDriver(service, options);
+            remember("firefox", service, options.asMap().get(FirefoxOptions.FIREFOX_OPTIONS));
+            return driver;
+        } catch (SessionNotCreatedException e) {
+            invalidate("firefox");
+            throw e;
+        }
+    }
+
+    /**
+     * Stops every shared service. Called from the DriverPool shutdown hook after sessions are quit.
+     */
+    public static void shutdown() {
+        stripes.values().forEach(ServiceStripes::stopAll);
+    }
+
+    // ==================================================
+    // 2. SHARED SERVICES
+    // ==================================================
+
+    /**
+     * Starts a session on the next stripe of the browser's shared service. A failed start only drops the
+     * cached paths; the stripe keeps serving its other sessions and is restarted once they have quit.
+     */
+    private static WebDriver startShared(String browser, Function<DriverService, WebDriver> create, Supplier<Object> vendorOptions) {
+        ServiceStripes<SharedService> browserStripes = stripesFor(browser);
+        SharedService shared = browserStripes.acquire();
+        WebDriver driver;
+        STARTING.set(true);
+        try {
+            driver = create.apply(shared.service());
+        } catch (SessionNotCreatedException e) {
+            browserStripes.startFailed(shared);
+            invalidate(browser);
+            throw e;
+        } catch (RuntimeException e) {
+            browserStripes.ended(shared);
+            throw e;
+        } finally {
+            STARTING.remove();
+        }
+        remember(browser, shared.service(), vendorOptions.get());
+        return driver;
+    }
+
+    private static ServiceStripes<SharedService> stripesFor(String browser) {
+        return stripes.computeIfAbsent(browser, b -> new ServiceStripes<>(STRIPES,
+                () -> startService(b),
+                shared -> !shared.started() || shared.service().isRunning(),
+                SharedService::shutdown));
+    }
+
+    /**
+     * ChromeDriver/EdgeDriver stop their service when a session quits (and when a fresh service fails its
+     * first session). For a shared service that only means one session fewer on its stripe.
+     */
+    private static void sessionStopped(String browser, SharedService shared) {
+        if (STARTING.get()) return; // Failed start: startShared uncounts it
+        ServiceStripes<SharedService> browserStripes = stripes.get(browser);
+        if (browserStripes != null) browserStripes.ended(shared);
+    }
+
+    private static SharedService startService(String browser) {
+        // A null executable on a cache miss lets the first ChromeDriver/EdgeDriver resolve it via
+        // Selenium Manager and set it on this service; remember() then persists it for later runs.
+        File executable = cachedExecutable(browser);
+        int port = PortProber.findFreePort();
+        List<String> args = List.of("--port=" + port);
+        try {
+            if ("edge".equals(browser)) {
+                return new SharedEdgeService(executable, port, args);
+            }
+            return new SharedChromeService(executable, port, args);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create shared " + browser + " driver service", e);
+        }
+    }
+
+    private interface SharedService {
+        DriverService service();
+
+        boolean started();
+
+        void shutdown();
+    }
+
+    /**
+     * ChromeDriver stops its service on quit(); the shared service only counts the session out and keeps
+     * running until its stripe is restarted or the JVM exits.
+     */
+    private static final class SharedChromeService extends ChromeDriverService implements SharedService {
+        private static final String BROWSER = "chrome";
+        private volatile boolean started;
+
+        private SharedChromeService(File executable, int port, List<String> args) throws IOException {
+            super(executable, port, START_TIMEOUT, args, Map.of());
+        }
+
+        @Override
+        public void start() throws IOException {
+            super.start();
+            started = true;
+        }
+
+        @Override
+        public void stop() {
+            sessionStopped(BROWSER, this);
+        }
+
+        @Override
+        public DriverService service() {
+            return this;
+        }
+
+        @Override
+        public boolean started() {
+            return started;
+        }
+
+        @Override
+        public void shutdown() {
+            super.stop();
+        }
+    }
+
+    private static final class SharedEdgeService extends EdgeDriverService implements SharedService {
+        private static final String BROWSER = "edge";
+        private volatile boolean started;
+
+        private SharedEdgeService(File executable, int port, List<String> args) throws IOException {
+            super(executable, port, START_TIMEOUT, args, Map.of());
+        }
+
+        @Override
+        public void start() throws IOException {
+            super.start();
+            started = true;
+        }
+
+        @Override
+        public void stop() {
+            sessionStopped(BROWSER, this);
+        }
+
+        @Override
+        public DriverService service() {
+            return this;
+        }
+
+        @Override
+        public boolean started() {
+            return started;
+        }
+
+        @Override
+        public void shutdown() {
+            super.stop();
+        }
+    }
+
+    // ==================================================
+    // 3. ON-DISK RESOLUTION CACHE
+    // ==================================================
+
+    private static File cachedExecutable(String browser) {
+        String path = cachedPaths.getProperty(browser + ".driver");
+        return (path != null && new File(path).canExecute()) ? new File(path) : null;
+    }
+
+    private static void applyCachedBrowser(String browser, ChromiumOptions<?> options) {
+        String path = cachedPaths.getProperty(browser + ".browser");
+        if (path != null && new File(path).exists()) {
+            options.setBinary(path);
+        }
+    }
+
+    /**
+     * Persists the driver path Selenium Manager resolved (and the browser binary, if it picked one).
+     */
+    private static void remember(String browser, DriverService service, Object vendorOptions) {
+        boolean changed = false;
+        String driverPath = service.getExecutable();
+        if (driverPath != null && !driverPath.equals(cachedPaths.getProperty(browser + ".driver"))) {
+            cachedPaths.setProperty(browser + ".driver", driverPath);
+            changed = true;
+        }
+        if (vendorOptions instanceof Map) {
+            Object binary = ((Map<?, ?>) vendorOptions).get("binary");
+            if (binary instanceof String && !binary.equals(cachedPaths.getProperty(browser + ".browser"))) {
+                cachedPaths.setProperty(browser + ".browser", (String) binary);
+                changed = true;
+            }
+        }
+        if (changed) saveCache();
+    }
+
+    /**
+     * Drops cached paths after a failed session start (e.g. the browser auto-updated past the driver).
+     * Running services are left alone: other sessions may still be using them.
+     */
+    private static void invalidate(String browser) {
+        boolean hadDriver = cachedPaths.remove(browser + ".driver") != null;
+        boolean hadBrowser = cachedPaths.remove(browser + ".browser") != null;
+        if (hadDriver || hadBrowser) {
+            System.out.println("[WARN] Session start failed with cached " + browser + " paths. Cache entry dropped.");
+            saveCache();
+        }
+    }
+
+    private static Properties loadCache() {
+        Properties props = new Properties();
+        if (Files.exists(CACHE_FILE)) {
+            try (InputStream in = Files.newInputStream(CACHE_FILE)) {
+                props.load(in);
+                System.out.println("[INFO] Driver path cache loaded: " + CACHE_FILE);
+            } catch (IOException e) {
+                System.out.println("[WARN] Ignoring unreadable driver path cache: " + e.getMessage());
+            }
+        }
+        return props;
+    }
+
+    private static synchronized void saveCache() {
+        try {
+            Files.createDirectories(CACHE_FILE.getParent());
+            Path tmp = CACHE_FILE.resolveSibling(CACHE_FILE.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                cachedPaths.store(out, "Resolved WebDriver paths (delete to force a Selenium Manager lookup)");
+            }
+            Files.move(tmp, CACHE_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("[WARN] Could not write driver path cache: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.framework.driver;
+
+import com.epam.healenium.SelfHealingDriver;
+import com.framework.utils.ConfigReader;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.BiDi;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.module.Network;
+import org.openqa.selenium.bidi.network.AddInterceptParameters;
+import org.openqa.selenium.bidi.network.ContinueRequestParameters;
+import org.openqa.selenium.bidi.network.InterceptPhase;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * FastModeProfile: Opt-in performance profile that stops the browser loading what tests never assert on.
+ *
+ * Blocks configured resource types (images, fonts, media) and third-party URL patterns through
+ * network interception — CDP for Chrome/Edge, BiDi for Firefox — and adds tuned launch flags for
+ * headless runs. The type is the one the browser reports for the request (CDP Network.ResourceType,
+ * BiDi destination / initiatorType), never the URL's file extension. Blocked-request counters are kept
+ * per session and drained per test for Allure.
+ */
+public class FastModeProfile {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.getProperty("fastmode.enabled", "false"));
+
+    private static final Set<String> BLOCKED_TYPES = Arrays.stream(
+                    ConfigReader.getProperty("fastmode.block.types", "image,font,media").split(","))
+            .map(String::trim).map(t -> t.toLowerCase(Locale.ROOT)).filter(t -> !t.isEmpty())
+            .collect(Collectors.toSet());
+
+    private static final BlockList BLOCK_LIST = new BlockList(BLOCKED_TYPES, Arrays.asList(
+            ConfigReader.getProperty("fastmode.block.patterns",
+                    "*google-analytics.com*,*googletagmanager.com*,*doubleclick.net*,*backtrace.io*").split(",")));
+
+    // Raw events: the typed Selenium events are CDP-version specific (CDP) or drop the resource type (BiDi)
+    private static final Event<Map<String, Object>> CDP_REQUEST_PAUSED =
+            new Event<>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE));
+    private static final org.openqa.selenium.bidi.Event<Map<String, Object>> BIDI_BEFORE_REQUEST_SENT =
+            new org.openqa.selenium.bidi.Event<>("network.beforeRequestSent", params -> params);
+
+    // Keyed by the raw (unwrapped) driver so Healenium proxies resolve to the same stats.
+    private static final Map<WebDriver, SessionStats> stats = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private FastModeProfile() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // ==================================================
+    // 1. LAUNCH FLAGS
+    // ==================================================
+
+    /**
+     * Chrome/Edge: content-settings prefs back up the interceptor, plus lean flags for headless runs.
+     */
+    public static void tune(ChromiumOptions<?> options, boolean headless) {
+        if (!ENABLED) return;
+
+        Map<String, Object> prefs = new LinkedHashMap<>();
+        if (BLOCKED_TYPES.contains("image")) {
+            prefs.put("profile.managed_default_content_settings.images", 2);
+        }
+        prefs.put("credentials_enable_service", false);
+        prefs.put("profile.password_manager_enabled", false);
+        options.setExperimentalOption("prefs", prefs);
+
+        if (headless) {
+            options.addArguments(
+                    "--disable-gpu",
+                    "--disable-extensions",
+                    "--disable-dev-shm-usage",
+                    "--disable-background-networking",
+                    "--disable-component-update",
+                    "--disable-default-apps",
+                    "--disable-sync",
+                    "--metrics-recording-only",
+                    "--mute-audio",
+                    "--no-first-run");
+        }
+    }
+
+    /**
+     * Firefox: enables BiDi (needed for interception) and mirrors the image block as a pref.
+     */
+    public static void tune(FirefoxOptions options, boolean headless) {
+        if (!ENABLED) return;
+
+        options.setCapability("webSocketUrl", true);
+        if (BLOCKED_TYPES.contains("image")) {
+            options.addPreference("permissions.default.image", 2);
+        }
+        if (headless) {
+            options.addPreference("media.autoplay.default", 5);
+            options.addPreference("browser.cache.disk.enable", false);
+        }
+    }
+
+    // ==================================================
+    // 2. NETWORK INTERCEPTION
+    // ==================================================
+
+    /**
+     * Installs the block list on a freshly created web session.
+     * Returns the driver to use from here on (remote sessions are augmented to expose DevTools).
+     */
+    public static WebDriver install(WebDriver driver) {
+        if (!ENABLED || driver == null) return driver;
+
+        WebDriver target = driver;
+        if (driver instanceof RemoteWebDriver && !(driver instanceof HasDevTools) && !(driver instanceof HasBiDi)) {
+            target = new Augmenter().augment(driver);
+        }
+
+        SessionStats sessionStats = new SessionStats();
+        try {
+            if (isFirefox(target) && target instanceof HasBiDi) {
+                installBiDi(target, sessionStats);
+            } else if (target instanceof HasDevTools) {
+                installCdp(target, sessionStats);
+            } else {
+                System.out.println("[WARN] Fast mode: driver exposes neither CDP nor BiDi. Using launch prefs only.");
+                return target;
+            }
+            stats.put(target, sessionStats);
+            System.out.println("[INFO] Fast mode active | Types: " + BLOCKED_TYPES + " | Patterns: " + BLOCK_LIST.patterns.size());
+        } catch (Exception e) {
+            System.out.println("[WARN] Fast mode interception unavailable: " + e.getMessage());
+        }
+        return target;
+    }
+
+    /**
+     * Pauses every request at the Fetch domain and fails the blocked ones; requestPaused carries the
+     * Network.ResourceType Chrome assigned to the request.
+     */
+    private static void installCdp(WebDriver driver, SessionStats sessionStats) {
+        DevTools devTools = ((HasDevTools) driver).getDevTools();
+        devTools.createSessionIfThereIsNotOne();
+        devTools.addListener(CDP_REQUEST_PAUSED, paused -> {
+            String requestId = (String) paused.get("requestId");
+            Map<?, ?> request = (Map<?, ?>) paused.get("request");
+            String type = BLOCK_LIST.blockReason(BlockList.fromCdp((String) paused.get("resourceType")), (String) request.get("url"));
+            if (type != null) {
+                sessionStats.record(type);
+                devTools.send(new Command<Void>("Fetch.failRequest",
+                        Map.<String, Object>of("requestId", requestId, "errorReason", "BlockedByClient")));
+            } else {
+                devTools.send(new Command<Void>("Fetch.continueRequest", Map.<String, Object>of("requestId", requestId)));
+            }
+        });
+        devTools.send(new Command<Void>("Fetch.enable", Map.<String, Object>of(
+                "patterns", List.of(Map.of("urlPattern", "*", "requestStage", "Request")))));
+        // Kept open for the life of the session; DevTools closes it when the session quits.
+        sessionStats.devTools = devTools;
+    }
+
+    /**
+     * Intercepts before each request is sent; the raw event carries the request's destination and initiatorType.
+     */
+    private static void installBiDi(WebDriver driver, SessionStats sessionStats) {
+        BiDi biDi = ((HasBiDi) driver).getBiDi();
+        Network network = new Network(driver);
+        network.addIntercept(new AddInterceptParameters(InterceptPhase.BEFORE_REQUEST_SENT));
+        biDi.addListener(BIDI_BEFORE_REQUEST_SENT, event -> {
+            if (!Boolean.TRUE.equals(event.get("isBlocked"))) return;
+            Map<?, ?> request = (Map<?, ?>) event.get("request");
+            String requestId = (String) request.get("request");
+            String type = BLOCK_LIST.blockReason(
+                    BlockList.fromBiDi((String) request.get("destination"), (String) request.get("initiatorType")),
+                    (String) request.get("url"));
+            if (type != null) {
+                sessionStats.record(type);
+                network.failRequest(requestId);
+            } else {
+                network.continueRequest(new ContinueRequestParameters(requestId));
+            }
+        });
+        sessionStats.network = network;
+    }
+
+    /**
+     * Block decision for one request: third-party URL patterns first, then the reported resource type.
+     */
+    public static final class BlockList {
+        private final Set<String> types;
+        private final List<Pattern> patterns;
+
+        public BlockList(Collection<String> types, Collection<String> globs) {
+            this.types = types.stream().map(t -> t.trim().toLowerCase(Locale.ROOT)).filter(t -> !t.isEmpty()).collect(Collectors.toSet());
+            this.patterns = globs.stream().map(String::trim).filter(g -> !g.isEmpty()).map(FastModeProfile::globToPattern).collect(Collectors.toList());
+        }
+
+        /**
+         * The counter bucket for a blocked request ("third-party" or its resource type), or null to let it through.
+         */
+        public String blockReason(String resourceType, String url) {
+            if (url != null) {
+                for (Pattern pattern : patterns) {
+                    if (pattern.matcher(url).matches()) return "third-party";
+                }
+            }
+            return (resourceType != null && types.contains(resourceType)) ? resourceType : null;
+        }
+
+        /**
+         * CDP Network.ResourceType ("Image", "Font", "Media", "XHR", ...) as a bucket name.
+         */
+        public static String fromCdp(String resourceType) {
+            return (resourceType == null) ? "other" : resourceType.toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * BiDi request destination (Fetch spec), falling back to initiatorType when the browser reports none.
+         * Names follow the CDP buckets so fastmode.block.types means the same on every browser.
+         */
+        public static String fromBiDi(String destination, String initiatorType) {
+            String dest = (destination == null) ? "" : destination.toLowerCase(Locale.ROOT);
+            switch (dest) {
+                case "": break;
+                case "audio": case "video": return "media";
+                case "track": return "texttrack";
+                case "style": return "stylesheet";
+                case "iframe": case "frame": return "document";
+                default: return dest; // image, font, script, document, manifest, ...
+            }
+
+            String initiator = (initiatorType == null) ? "" : initiatorType.toLowerCase(Locale.ROOT);
+            switch (initiator) {
+                case "img": case "image": case "imageset": case "input": return "image";
+                case "audio": case "video": return "media";
+                case "track": return "texttrack";
+                case "script": return "script";
+                case "fetch": return "fetch";
+                case "xmlhttprequest": return "xhr";
+                case "beacon": return "ping";
+                default: return "other"; // css, link, other: could be an image, font or stylesheet — let it through
+            }
+        }
+    }
+
+    // ==================================================
+    // 3. PER-TEST COUNTERS
+    // ==================================================
+
+    /**
+     * Returns and resets the session's counters: blocked requests per bucket plus an estimated
+     * byte saving (fastmode.avg.bytes.<bucket>). Empty when fast mode is not active on the session.
+     */
+    public static Map<String, Long> drainSavings(WebDriver driver) {
+        SessionStats sessionStats = (driver == null) ? null : stats.get(unwrap(driver));
+        if (sessionStats == null) return Collections.emptyMap();
+
+        Map<String, Long> savings = new LinkedHashMap<>();
+        long blocked = 0;
+        long bytes = 0;
+        for (Map.Entry<String, LongAdder> entry : sessionStats.blocked.entrySet()) {
+            long count = entry.getValue().sumThenReset();
+            if (count == 0) continue;
+            savings.put("blocked." + entry.getKey(), count);
+            blocked += count;
+            bytes += count * averageBytes(entry.getKey());
+        }
+        savings.put("blocked.total", blocked);
+        savings.put("estimatedBytesSaved", bytes);
+        return savings;
+    }
+
+    /**
+     * Drops the session's counters once it is quit.
+     */
+    public static void forget(WebDriver driver) {
+        if (driver != null) stats.remove(unwrap(driver));
+    }
+
+    private static long averageBytes(String bucket) {
+        long fallback;
+        switch (bucket) {
+            case "image": fallback = 40000; break;
+            case "font": fallback = 30000; break;
+            case "media": fallback = 250000; break;
+            default: fallback = 15000;
+        }
+        return ConfigReader.snapshot().getLong("fastmode.avg.bytes." + bucket.replace("-", ""), fallback);
+    }
+
+    private static boolean isFirefox(WebDriver driver) {
+        return driver instanceof HasCapabilities
+                && "firefox".equalsIgnoreCase(((HasCapabilities) driver).getCapabilities().getBrowserName());
+    }
+
+    private static WebDriver unwrap(WebDriver driver) {
+        WebDriver raw = (driver instanceof SelfHealingDriver) ? ((SelfHealingDriver) driver).getDelegate() : driver;
+        return WireCommandProfiler.unwrap(raw);
+    }
+
+    private static Pattern globToPattern(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (String part : glob.split("\\*", -1)) {
+            if (regex.length() > 0) regex.append(".*");
+            regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE);
+    }
+
+    private static final class SessionStats {
+        private final Map<String, LongAdder> blocked = new ConcurrentHashMap<>();
+        // Held so the interception stays registered for the life of the session
+        private volatile DevTools devTools;
+        private volatile Network network;
+
+        private void record(String bucket) {
+            blocked.computeIfAbsent(bucket, b -> new LongAdder()).increment();
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package com.framework.driver;
+
+import com.framework.utils.ConfigReader;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openqa.selenium.SessionNotCreatedException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * GridAdmissionController: Only asks the Grid for a session when a matching node slot is free.
+ *
+ * Free slots per browser are read from the Grid's /status endpoint (node stereotypes, busy slots
+ * and maxSessions), together with the free slots across all browsers: a node whose slots offer several
+ * browsers still only runs maxSessions sessions, so a permit needs both a browser slot and a node slot. Threads wanting a session queue here, first come first served per browser,
+ * and back off between status polls instead of holding a new-session request open inside the hub
+ * until it times out. Permits that did not end in a session give their slot straight back.
+ *
+ * If /status cannot be read, or no node offers the browser, permits are granted immediately so
+ * the Grid's own behaviour (and error message) applies — the controller never blocks a run on its own.
+ */
+public class GridAdmissionController {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.getProperty("grid.admission.enabled", "true"));
+
+    /**
+     * Key in parseFreeSlots' result holding the free slots across all browsers.
+     */
+    public static final String ANY_BROWSER = "*";
+
+    private static volatile GridAdmissionController shared;
+
+    private final URL statusUrl;
+    private final long timeoutNanos;
+    private final long backoffInitialMs;
+    private final long backoffMaxMs;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition slotsChanged = lock.newCondition();
+    private final Map<String, Lane> lanes = new HashMap<>();
+    private int availableAnyBrowser; // Node slots left across all browsers, guarded by lock
+    private volatile long lastPollNanos;
+    private volatile boolean statusReadable = true;
+    private volatile boolean polledOnce;
+
+    // Metrics
+    private final LongAdder permits = new LongAdder();
+    private final LongAdder waitedPermits = new LongAdder();
+    private final LongAdder failOpenPermits = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder statusPolls = new LongAdder();
+    private final LongAdder totalWaitNanos = new LongAdder();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public GridAdmissionController(URL statusUrl, long timeoutMs, long backoffInitialMs, long backoffMaxMs) {
+        this(statusUrl, timeoutMs, backoffInitialMs, backoffMaxMs, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock source of System.nanoTime() readings for deadlines and queue-wait metrics
+     */
+    public GridAdmissionController(URL statusUrl, long timeoutMs, long backoffInitialMs, long backoffMaxMs, LongSupplier nanoClock) {
+        this.statusUrl = statusUrl;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        this.backoffInitialMs = Math.max(1, backoffInitialMs);
+        this.backoffMaxMs = Math.max(this.backoffInitialMs, backoffMaxMs);
+        this.nanoClock = nanoClock;
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * The controller for this run's Grid, created on first use from the session URL
+     * (".../wd/hub" or the Grid root — both serve /status at the root).
+     */
+    public static GridAdmissionController forGrid(String gridUrl) throws MalformedURLException {
+        if (shared == null) {
+            synchronized (GridAdmissionController.class) {
+                if (shared == null) {
+                    String root = gridUrl.replaceAll("/+$", "").replaceAll("/wd/hub$", "");
+                    shared = new GridAdmissionController(new URL(root + "/status"),
+                            Long.parseLong(ConfigReader.getProperty("grid.admission.timeout.seconds", "300")) * 1000L,
+                            Long.parseLong(ConfigReader.getProperty("grid.admission.backoff.initial.ms", "250")),
+                            Long.parseLong(ConfigReader.getProperty("grid.admission.backoff.max.ms", "2000")));
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * The controller in use this run, or null when no Grid session was requested.
+     */
+    public static GridAdmissionController current() {
+        return shared;
+    }
+
+    // ==================================================
+    // 1. PERMITS
+    // ==================================================
+
+    /**
+     * Waits (FIFO per browser, with backoff) until the Grid has a free slot for {@code browser}.
+     * Close the permit once the session request has finished, whether it succeeded or not.
+     */
+    public Permit acquire(String browser) throws InterruptedException {
+        String key = browser.toLowerCase(Locale.ROOT);
+        long start = nanoClock.getAsLong();
+        long deadline = start + timeoutNanos;
+        Object ticket = new Object();
+        boolean failOpen = false;
+        boolean granted = false;
+
+        lock.lock();
+        try {
+            Lane lane = lanes.computeIfAbsent(key, k -> new Lane());
+            lane.queue.addLast(ticket);
+            long backoffMs = backoffInitialMs;
+
+            while (true) {
+                if (lane.queue.peekFirst() == ticket) {
+                    if (polledOnce && (!statusReadable || !lane.offered)) {
+                        failOpen = true;
+                        break;
+                    }
+                    if (lane.available > 0 && availableAnyBrowser > 0) {
+                        break;
+                    }
+                    // Only the head of the queue polls, and no more often than the initial backoff
+                    if (nanoClock.getAsLong() - lastPollNanos >= TimeUnit.MILLISECONDS.toNanos(backoffInitialMs) || !polledOnce) {
+                        lock.unlock();
+                        try {
+                            refresh();
+                        } finally {
+                            lock.lock();
+                        }
+                        continue;
+                    }
+                }
+
+                long remaining = deadline - nanoClock.getAsLong();
+                if (remaining <= 0) {
+                    timeouts.increment();
+                    throw new SessionNotCreatedException("[GRID] No free " + key + " slot on the Grid after "
+                            + TimeUnit.NANOSECONDS.toSeconds(timeoutNanos) + "s (" + (lane.queue.size() - 1) + " thread(s) ahead)");
+                }
+                slotsChanged.await(Math.min(TimeUnit.MILLISECONDS.toNanos(backoffMs), remaining), TimeUnit.NANOSECONDS);
+                backoffMs = Math.min(backoffMs * 2, backoffMaxMs);
+            }
+
+            lane.queue.pollFirst();
+            if (!failOpen) {
+                lane.available--;
+                lane.creating++;
+                availableAnyBrowser--;
+            }
+            granted = true;
+        } finally {
+            if (!granted) {
+                Lane lane = lanes.get(key);
+                if (lane != null) lane.queue.remove(ticket);
+            }
+            // The next thread in line may be able to go now
+            slotsChanged.signalAll();
+            lock.unlock();
+        }
+
+        long waited = nanoClock.getAsLong() - start;
+        recordWait(waited, failOpen);
+        Permit permit = new Permit(key, waited, failOpen);
+        if (TimeUnit.NANOSECONDS.toMillis(waited) > backoffInitialMs) {
+            System.out.println("[GRID] Slot granted for " + key + " after " + permit.getWaitMs() + " ms in queue");
+        }
+        return permit;
+    }
+
+    /**
+     * Queue metrics: permits, how many had to wait, total/max wait, timeouts and status polls.
+     */
+    public Map<String, Long> metrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put("grid_admission_permits", permits.sum());
+        metrics.put("grid_admission_waited", waitedPermits.sum());
+        metrics.put("grid_admission_fail_open", failOpenPermits.sum());
+        metrics.put("grid_admission_timeouts", timeouts.sum());
+        metrics.put("grid_admission_wait_total_ms", TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.sum()));
+        metrics.put("grid_admission_wait_max_ms", TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()));
+        metrics.put("grid_status_polls", statusPolls.sum());
+        return metrics;
+    }
+
+    private void recordWait(long nanos, boolean failOpen) {
+        permits.increment();
+        totalWaitNanos.add(nanos);
+        maxWaitNanos.accumulateAndGet(nanos, Math::max);
+        if (failOpen) failOpenPermits.increment();
+        if (TimeUnit.NANOSECONDS.toMillis(nanos) > backoffInitialMs) waitedPermits.increment();
+    }
+
+    private void finish(Permit permit) {
+        if (permit.failOpen) return;
+        lock.lock();
+        try {
+            Lane lane = lanes.get(permit.browser);
+            lane.creating--;
+            if (!permit.sessionCreated) {
+                // The slot was never used — hand it to the next thread without waiting for a poll
+                lane.available++;
+                availableAnyBrowser++;
+                slotsChanged.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ==================================================
+    // 2. GRID STATUS
+    // ==================================================
+
+    private void refresh() {
+        statusPolls.increment();
+        Map<String, Integer> free = null;
+        try {
+            free = parseFreeSlots(fetchStatus());
+        } catch (Exception e) {
+            if (statusReadable) {
+                System.out.println("[WARN] Grid /status unreadable (" + e.getMessage() + "). Admission control bypassed.");
+            }
+        }
+
+        lock.lock();
+        try {
+            lastPollNanos = nanoClock.getAsLong();
+            polledOnce = true;
+            statusReadable = (free != null);
+            if (free != null) {
+                int creating = 0;
+                for (Map.Entry<String, Lane> entry : lanes.entrySet()) {
+                    Lane lane = entry.getValue();
+                    boolean offered = free.containsKey(entry.getKey());
+                    if (!offered && lane.offered) {
+                        System.out.println("[WARN] No Grid node offers '" + entry.getKey() + "'. Admission control bypassed for it.");
+                    }
+                    lane.offered = offered;
+                    // Sessions still being created may not show as busy yet
+                    lane.available = free.getOrDefault(entry.getKey(), 0) - lane.creating;
+                    creating += lane.creating;
+                }
+                availableAnyBrowser = free.getOrDefault(ANY_BROWSER, 0) - creating;
+            }
+            slotsChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private String fetchStatus() throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) statusUrl.openConnection();
+        connection.setRequestMethod("GET");
+        connection.setConnectTimeout(2000);
+        connection.setReadTimeout(5000);
+        try (InputStream input = connection.getInputStream()) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            input.transferTo(body);
+            return body.toString(StandardCharsets.UTF_8);
+        } finally {
+            connection.disconnect();
+        }
+    }
+
+    /**
+     * Free slots per browser across all UP nodes, plus ANY_BROWSER: the free slots across all browsers.
+     * A node never offers more than maxSessions minus its running sessions, whatever its idle slot count
+     * says, and counts at most that many towards ANY_BROWSER however many stereotypes its idle slots have.
+     * Browsers a node offers are always present in the result, even with 0 free.
+     */
+    public static Map<String, Integer> parseFreeSlots(String statusJson) {
+        JSONObject value = new JSONObject(statusJson).getJSONObject("value");
+        JSONArray nodes = value.optJSONArray("nodes");
+        Map<String, Integer> free = new HashMap<>();
+        free.put(ANY_BROWSER, 0);
+        if (nodes == null) return free;
+
+        for (int n = 0; n < nodes.length(); n++) {
+            JSONObject node = nodes.getJSONObject(n);
+            JSONArray slots = node.optJSONArray("slots");
+            if (slots == null) continue;
+
+            Map<String, Integer> idleByBrowser = new HashMap<>();
+            int idle = 0;
+            int busy = 0;
+            for (int s = 0; s < slots.length(); s++) {
+                JSONObject slot = slots.getJSONObject(s);
+                String browser = slot.getJSONObject("stereotype").optString("browserName", "").toLowerCase(Locale.ROOT);
+                if (browser.isEmpty()) continue;
+                if (slot.isNull("session")) {
+                    idleByBrowser.merge(browser, 1, Integer::sum);
+                    idle++;
+                } else {
+                    busy++;
+                    idleByBrowser.putIfAbsent(browser, 0);
+                }
+            }
+
+            boolean up = "UP".equalsIgnoreCase(node.optString("availability", "UP"));
+            int capacity = up ? Math.max(0, node.optInt("maxSessions", slots.length()) - busy) : 0;
+            for (Map.Entry<String, Integer> entry : idleByBrowser.entrySet()) {
+                free.merge(entry.getKey(), Math.min(entry.getValue(), capacity), Integer::sum);
+            }
+            free.merge(ANY_BROWSER, Math.min(idle, capacity), Integer::sum);
+        }
+        return free;
+    }
+
+    /**
+     * Admission for one session request. Call sessionCreated() once the Grid returned a session.
+     */
+    public final class Permit implements AutoCloseable {
+        private final String browser;
+        private final long waitNanos;
+        private final boolean failOpen;
+        private boolean sessionCreated;
+        private boolean closed;
+
+        private Permit(String browser, long waitNanos, boolean failOpen) {
+            this.browser = browser;
+            this.waitNanos = waitNanos;
+            this.failOpen = failOpen;
+        }
+
+        public void sessionCreated() {
+            sessionCreated = true;
+        }
+
+        public long getWaitMs() {
+            return TimeUnit.NANOSECONDS.toMillis(waitNanos);
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            finish(this);
+        }
+    }
+
+    private static final class Lane {
+        private final Deque<Object> queue = new ArrayDeque<>();
+        private int available;
+        private int creating;
+        private boolean offered = true;
+    }
+}
@@ -0,0 +1,284 @@
+package com.framework.driver;
+
+import com.epam.healenium.SelfHealingDriver;
+import com.framework.utils.ConfigReader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * HealedLocatorCache: Local, file-backed memory of locators Healenium had to heal.
+ *
+ * Entries are keyed by page URL pattern + the original By. BasePage substitutes a cached healed
+ * selector before its first lookup, so later runs go straight to the working locator without a
+ * round-trip to the hlm-backend. An entry is invalidated as soon as its substitute stops matching.
+ *
+ * The cache is a compact binary file loaded once into a concurrent map (read-mostly, shared by all
+ * threads) and rewritten at JVM exit only if it changed, together with a locator-drift report.
+ */
+public class HealedLocatorCache {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.getProperty("healing.cache.enabled", "true"));
+    private static final Path CACHE_FILE = Paths.get(ConfigReader.getProperty("healing.cache.file", ".healenium/healed-locators.bin"));
+    private static final Path DRIFT_REPORT = Paths.get("target", "healenium", "locator-drift.txt");
+    private static final int MAGIC = 0x484C4331; // "HLC1"
+
+    // Stable CSS path for an element: id, data-test, or an nth-of-type chain up to the nearest id.
+    private static final String CSS_PATH_SCRIPT =
+            "var el = arguments[0];" +
+            "if (el.id) return '#' + CSS.escape(el.id);" +
+            "var dt = el.getAttribute('data-test');" +
+            "if (dt) return el.tagName.toLowerCase() + '[data-test=\"' + dt + '\"]';" +
+            "var path = [];" +
+            "while (el && el.nodeType === 1 && el !== document.documentElement) {" +
+            "  if (el.id) { path.unshift('#' + CSS.escape(el.id)); break; }" +
+            "  var idx = 1, sib = el;" +
+            "  while ((sib = sib.previousElementSibling)) { if (sib.tagName === el.tagName) idx++; }" +
+            "  path.unshift(el.tagName.toLowerCase() + ':nth-of-type(' + idx + ')');" +
+            "  el = el.parentElement;" +
+            "}" +
+            "return path.join(' > ');";
+
+    private static final HealedLocatorCache SHARED = new HealedLocatorCache(ENABLED);
+
+    static {
+        if (ENABLED) {
+            SHARED.load();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                SHARED.save();
+                SHARED.writeDriftReport();
+            }, "healed-locator-cache"));
+        }
+    }
+
+    private final boolean enabled;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // Page-object locators already checked for healing in this JVM (checked once, not per lookup)
+    private final Set<String> verified = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private final LongAdder substitutions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * An in-memory cache; only the suite-wide instance behind the static API is loaded from and saved to disk.
+     */
+    public HealedLocatorCache(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * True when there is nothing to substitute — lets BasePage skip the URL lookup entirely.
+     */
+    public static boolean isEmpty() {
+        return SHARED.empty();
+    }
+
+    /**
+     * Returns the cached healed locator for this page, or null.
+     */
+    public static By lookup(String urlPattern, By original) {
+        return SHARED.substitute(urlPattern, original);
+    }
+
+    /**
+     * Drops a substitute that no longer matches; the original locator is used from then on.
+     */
+    public static void invalidate(String urlPattern, By original) {
+        SHARED.drop(urlPattern, original);
+    }
+
+    /**
+     * Checks once per JVM whether Healenium had to heal this locator and, if so, records the
+     * selector of the element it found. Only SelfHealingDriver sessions are checked.
+     */
+    public static void learn(WebDriver driver, Supplier<String> urlPattern, By original, WebElement found, String pageObject) {
+        SHARED.record(driver, urlPattern, original, found, pageObject);
+    }
+
+    /**
+     * True when the locator matches something on the page right now, looked up on the raw driver so
+     * Healenium does not try to heal a miss. Runs under the session's implicit wait; callers zero it.
+     */
+    public static boolean matchesNow(WebDriver driver, By locator) {
+        WebDriver raw = (driver instanceof SelfHealingDriver) ? ((SelfHealingDriver) driver).getDelegate() : driver;
+        return !raw.findElements(locator).isEmpty();
+    }
+
+    public static String stats() {
+        return SHARED.summary();
+    }
+
+    // ==================================================
+    // INSTANCE API (static methods above delegate to SHARED)
+    // ==================================================
+
+    public boolean empty() {
+        return !enabled || entries.isEmpty();
+    }
+
+    public By substitute(String urlPattern, By original) {
+        if (empty()) return null;
+        Entry entry = entries.get(key(urlPattern, original));
+        if (entry == null) return null;
+
+        entry.hits.increment();
+        substitutions.increment();
+        return By.cssSelector(entry.healed);
+    }
+
+    public void drop(String urlPattern, By original) {
+        if (entries.remove(key(urlPattern, original)) != null) {
+            invalidations.increment();
+            dirty.set(true);
+            System.out.println("[HEALING] Cached healed locator stopped matching. Invalidated: " + original);
+        }
+    }
+
+    public void record(WebDriver driver, Supplier<String> urlPattern, By original, WebElement found, String pageObject) {
+        if (!enabled || !(driver instanceof SelfHealingDriver)) return;
+        if (!verified.add(pageObject + "|" + original)) return;
+
+        try {
+            WebDriver raw = ((SelfHealingDriver) driver).getDelegate();
+            if (!raw.findElements(original).isEmpty()) return; // Original still matches — nothing was healed
+
+            String healed = (String) ((JavascriptExecutor) driver).executeScript(CSS_PATH_SCRIPT, found);
+            if (healed == null || healed.isEmpty()) return;
+
+            String pattern = urlPattern.get();
+            entries.put(key(pattern, original), new Entry(pattern, original.toString(), healed, pageObject, System.currentTimeMillis()));
+            dirty.set(true);
+            System.out.println("[HEALING] " + pageObject + " locator drifted: " + original + " -> css=" + healed);
+        } catch (Exception e) {
+            System.out.println("[WARN] Could not record healed locator for " + original + ": " + e.getMessage());
+        }
+    }
+
+    public String summary() {
+        return "Healed Locator Cache | Entries: " + entries.size() + " | Substitutions: " + substitutions.sum()
+                + " | Invalidations: " + invalidations.sum();
+    }
+
+    /**
+     * Normalises a URL into a page pattern: scheme, query and fragment dropped, numeric segments generalised.
+     */
+    public static String toPattern(String url) {
+        if (url == null) return "";
+        String pattern = url.replaceFirst("^[a-zA-Z]+://", "");
+        for (char delimiter : new char[]{'?', '#'}) {
+            int cut = pattern.indexOf(delimiter);
+            if (cut >= 0) pattern = pattern.substring(0, cut);
+        }
+        return pattern.replaceAll("/\\d+(?=/|$)", "/{id}");
+    }
+
+    // ==================================================
+    // PERSISTENCE
+    // ==================================================
+
+    private static String key(String urlPattern, By original) {
+        return urlPattern + '\u0000' + original;
+    }
+
+    private void load() {
+        if (!Files.exists(CACHE_FILE)) return;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(CACHE_FILE)))) {
+            if (in.readInt() != MAGIC) {
+                System.out.println("[WARN] Ignoring healed locator cache with unknown format: " + CACHE_FILE);
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                Entry entry = new Entry(in.readUTF(), in.readUTF(), in.readUTF(), in.readUTF(), in.readLong());
+                entries.put(entry.urlPattern + '\u0000' + entry.original, entry);
+            }
+            System.out.println("[INFO] Healed locator cache loaded: " + entries.size() + " entries");
+        } catch (IOException e) {
+            System.out.println("[WARN] Could not read healed locator cache: " + e.getMessage());
+        }
+    }
+
+    private void save() {
+        if (!dirty.get()) return;
+        try {
+            if (CACHE_FILE.getParent() != null) Files.createDirectories(CACHE_FILE.getParent());
+            Path tmp = CACHE_FILE.resolveSibling(CACHE_FILE.getFileName() + ".tmp");
+            List<Entry> snapshot = new ArrayList<>(entries.values());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(snapshot.size());
+                for (Entry entry : snapshot) {
+                    out.writeUTF(entry.urlPattern);
+                    out.writeUTF(entry.original);
+                    out.writeUTF(entry.healed);
+                    out.writeUTF(entry.pageObject);
+                    out.writeLong(entry.recordedAt);
+                }
+            }
+            Files.move(tmp, CACHE_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("[WARN] Could not write healed locator cache: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Lists every page-object locator that only works because it was healed — the fix-list for page objects.
+     */
+    private void writeDriftReport() {
+        if (entries.isEmpty()) return;
+        List<Entry> sorted = new ArrayList<>(entries.values());
+        sorted.sort(Comparator.comparing((Entry e) -> e.pageObject).thenComparing(e -> e.original));
+        try {
+            Files.createDirectories(DRIFT_REPORT.getParent());
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(DRIFT_REPORT))) {
+                out.println("Locator Drift Report (" + sorted.size() + " healed locators)");
+                out.printf("%-16s | %-40s | %-45s | %-45s | %s%n", "Page Object", "URL Pattern", "Original", "Healed", "Hits");
+                for (Entry e : sorted) {
+                    out.printf("%-16s | %-40s | %-45s | %-45s | %d%n",
+                            e.pageObject, e.urlPattern, e.original, "css=" + e.healed, e.hits.sum());
+                }
+            }
+            System.out.println("[HEALING] Locator drift report written to " + DRIFT_REPORT);
+        } catch (IOException e) {
+            System.out.println("[WARN] Could not write locator drift report: " + e.getMessage());
+        }
+    }
+
+    private static final class Entry {
+        private final String urlPattern;
+        private final String original;
+        private final String healed;
+        private final String pageObject;
+        private final long recordedAt;
+        private final LongAdder hits = new LongAdder();
+
+        private Entry(String urlPattern, String original, String healed, String pageObject, long recordedAt) {
+            this.urlPattern = urlPattern;
+            this.original = original;
+            this.healed = healed;
+            this.pageObject = pageObject;
+            this.recordedAt = recordedAt;
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.framework.driver;
+
+import com.framework.utils.ConfigReader;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * HealeniumCircuitBreaker: Suite-wide health gate for the hlm-backend.
+ *
+ * The backend is probed once and the result is cached for healenium.health.ttl.seconds. While the
+ * breaker is OPEN, DriverFactory skips SelfHealingDriver.create() immediately instead of paying the
+ * connection-failure latency per session. Once the TTL expires the breaker goes HALF_OPEN and probes
+ * again in the background; sessions keep skipping the wrap until the probe succeeds. A HALF_OPEN breaker whose
+ * probe never reported back is probed again once the TTL has passed, so it cannot stay HALF_OPEN for the run.
+ *
+ * The static API works on one suite-wide instance; unit tests build their own with a fake clock and probe.
+ */
+public class HealeniumCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final String SERVER_URL = resolveServerUrl();
+    private static final long TTL_MS =
+            Long.parseLong(ConfigReader.getProperty("healenium.health.ttl.seconds", "60")) * 1000L;
+    private static final int PROBE_TIMEOUT_MS =
+            Integer.parseInt(ConfigReader.getProperty("healenium.health.timeout.ms", "1000"));
+
+    private static final HealeniumCircuitBreaker SHARED = new HealeniumCircuitBreaker(
+            TTL_MS, HealeniumCircuitBreaker::probe, System::currentTimeMillis, ForkJoinPool.commonPool());
+
+    private final long ttlMs;
+    private final BooleanSupplier prober;
+    private final LongSupplier clock;
+    private final Executor probeExecutor;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicBoolean probeInFlight = new AtomicBoolean(false);
+    private volatile long lastProbeAt;
+    private volatile boolean initialized;
+
+    // Metrics
+    private final Map<State, LongAdder> transitions = new ConcurrentHashMap<>();
+    private final LongAdder wraps = new LongAdder();
+    private final LongAdder skippedWraps = new LongAdder();
+    private final LongAdder wrapNanos = new LongAdder();
+
+    /**
+     * @param prober        true when the backend answers; an HTTP probe of hlm.server.url outside unit tests
+     * @param clock         epoch millis, for the TTL
+     * @param probeExecutor runs the re-probes after the TTL expires
+     */
+    public HealeniumCircuitBreaker(long ttlMs, BooleanSupplier prober, LongSupplier clock, Executor probeExecutor) {
+        this.ttlMs = ttlMs;
+        this.prober = prober;
+        this.clock = clock;
+        this.probeExecutor = probeExecutor;
+    }
+
+    /**
+     * True when the session should be wrapped with Healenium.
+     * The first caller probes synchronously; afterwards the cached state answers without network I/O.
+     */
+    public static boolean allowWrap() {
+        return SHARED.shouldWrap();
+    }
+
+    /**
+     * Records time spent creating the SelfHealingDriver for a successfully wrapped session.
+     */
+    public static void recordWrap(long nanos) {
+        SHARED.wrapped(nanos);
+    }
+
+    /**
+     * Opens the breaker after a wrap failure so the remaining sessions skip straight to the raw driver.
+     */
+    public static void recordFailure(Exception e) {
+        SHARED.wrapFailed(e);
+    }
+
+    public static State getState() {
+        return SHARED.state();
+    }
+
+    /**
+     * Breaker metrics: state transitions, wrapped/skipped sessions, and time spent on healing setup.
+     */
+    public static Map<String, Long> metrics() {
+        return SHARED.snapshot();
+    }
+
+    // ==================================================
+    // INSTANCE API (static methods above delegate to SHARED)
+    // ==================================================
+
+    public boolean shouldWrap() {
+        if (!initialized) {
+            initialize();
+        }
+
+        boolean expired = clock.getAsLong() - lastProbeAt > ttlMs;
+        State current = state.get();
+
+        if (current == State.OPEN && expired && transition(State.OPEN, State.HALF_OPEN)) {
+            probeInBackground();
+        } else if (current != State.OPEN && expired) {
+            // HALF_OPEN too: its probe may have been skipped (one was in flight) or lost, and only a probe leaves it
+            probeInBackground();
+        }
+
+        if (state.get() == State.CLOSED) {
+            return true;
+        }
+        skippedWraps.increment();
+        return false;
+    }
+
+    public void wrapped(long nanos) {
+        wraps.increment();
+        wrapNanos.add(nanos);
+    }
+
+    public void wrapFailed(Exception e) {
+        lastProbeAt = clock.getAsLong();
+        if (transition(State.CLOSED, State.OPEN)) {
+            System.out.println("[WARN] Healenium backend not found. Using standard driver for "
+                    + (ttlMs / 1000) + "s before retrying. Error: " + e.getMessage());
+        }
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        for (State s : State.values()) {
+            LongAdder count = transitions.get(s);
+            metrics.put("healenium_breaker_transitions_to_" + s.name().toLowerCase(), count == null ? 0 : count.sum());
+        }
+        metrics.put("healenium_breaker_open", state.get() == State.CLOSED ? 0L : 1L);
+        metrics.put("healenium_sessions_wrapped", wraps.sum());
+        metrics.put("healenium_sessions_skipped", skippedWraps.sum());
+        metrics.put("healenium_wrap_time_ms", TimeUnit.NANOSECONDS.toMillis(wrapNanos.sum()));
+        return metrics;
+    }
+
+    // ==================================================
+    // INTERNALS
+    // ==================================================
+
+    private synchronized void initialize() {
+        if (initialized) return;
+        boolean healthy = prober.getAsBoolean();
+        lastProbeAt = clock.getAsLong();
+        if (!healthy) {
+            transition(State.CLOSED, State.OPEN);
+            System.out.println("[WARN] Healenium backend unreachable at " + SERVER_URL
+                    + ". Self-healing disabled for " + (ttlMs / 1000) + "s.");
+        }
+        initialized = true;
+    }
+
+    private void probeInBackground() {
+        if (!probeInFlight.compareAndSet(false, true)) return;
+
+        try {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    boolean healthy = prober.getAsBoolean();
+                    lastProbeAt = clock.getAsLong();
+                    settle(healthy ? State.CLOSED : State.OPEN);
+                } finally {
+                    probeInFlight.set(false);
+                }
+            }, probeExecutor);
+        } catch (RejectedExecutionException e) {
+            // No probe will run; the next expired shouldWrap() tries again
+            probeInFlight.set(false);
+        }
+    }
+
+    /**
+     * Moves to {@code target} from whatever the state is now. Retries when another thread changed the state
+     * between the read and the CAS (e.g. OPEN -> HALF_OPEN), so a probe result is never dropped.
+     */
+    private void settle(State target) {
+        State current;
+        while ((current = state.get()) != target) {
+            if (transition(current, target)) {
+                if (target == State.CLOSED) System.out.println("[INFO] Healenium backend is back. Self-healing re-enabled.");
+                return;
+            }
+        }
+    }
+
+    /**
+     * Any HTTP response means the backend is listening; only connection failures count as down.
+     */
+    private static boolean probe() {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(SERVER_URL).openConnection();
+            connection.setRequestMethod("GET");
+            connection.setConnectTimeout(PROBE_TIMEOUT_MS);
+            connection.setReadTimeout(PROBE_TIMEOUT_MS);
+            connection.getResponseCode();
+            connection.disconnect();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private boolean transition(State from, State to) {
+        if (state.compareAndSet(from, to)) {
+            transitions.computeIfAbsent(to, s -> new LongAdder()).increment();
+            System.out.println("[HEALENIUM] Circuit breaker " + from + " -> " + to);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * hlm.server.url lives in healenium.properties (read by Healenium itself), not config.properties.
+     */
+    private static String resolveServerUrl() {
+        String url = ConfigReader.getProperty("hlm.server.url");
+        if (url != null) return url;
+
+        Properties healenium = new Properties();
+        try (InputStream input = HealeniumCircuitBreaker.class.getClassLoader().getResourceAsStream("healenium.properties")) {
+            if (input != null) healenium.load(input);
+        } catch (Exception e) {
+            System.out.println("[WARN] Could not read healenium.properties: " + e.getMessage());
+        }
+        return healenium.getProperty("hlm.server.url", "http://localhost:7878");
+    }
+}
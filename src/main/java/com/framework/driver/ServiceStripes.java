@@ -0,0 +1,118 @@
+package com.framework.driver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * ServiceStripes: The stripes of one browser's shared driver service and the sessions each one hosts.
+ *
+ * acquire() hands out stripes round-robin and counts the session being started on it; the session is
+ * uncounted again by ended() when it quits or startFailed() when it never came up. A stripe whose process
+ * died is replaced straight away. A stripe on which a session failed to start keeps serving the sessions
+ * it already hosts and is only restarted once none are left, so one bad session start never stops the
+ * driver process other tests are still using.
+ */
+public final class ServiceStripes<S> {
+
+    private final int count;
+    private final Supplier<S> starter;
+    private final Predicate<S> running;
+    private final Consumer<S> stopper;
+
+    private final List<Stripe<S>> stripes = new ArrayList<>();
+    private int cursor;
+
+    /**
+     * @param starter creates a service (it may start lazily on its first session)
+     * @param running false once a started service's process has died
+     * @param stopper stops a service for good
+     */
+    public ServiceStripes(int count, Supplier<S> starter, Predicate<S> running, Consumer<S> stopper) {
+        this.count = Math.max(1, count);
+        this.starter = starter;
+        this.running = running;
+        this.stopper = stopper;
+    }
+
+    /**
+     * The service for the next session, counted as hosting it from now on.
+     */
+    public synchronized S acquire() {
+        int index = cursor++ % count;
+        while (stripes.size() <= index) {
+            stripes.add(new Stripe<>(starter.get()));
+        }
+
+        Stripe<S> stripe = stripes.get(index);
+        if (!running.test(stripe.service)) {
+            System.out.println("[WARN] Shared driver service died. Restarting stripe " + index);
+            stripe = replace(index);
+        } else if (stripe.failed && stripe.sessions == 0) {
+            System.out.println("[INFO] Restarting stripe " + index + " after a failed session start (no sessions left on it)");
+            stripe = replace(index);
+        }
+        stripe.sessions++;
+        return stripe.service;
+    }
+
+    /**
+     * A session on {@code service} quit. Ignored for services that were already replaced.
+     */
+    public synchronized void ended(S service) {
+        Stripe<S> stripe = find(service);
+        if (stripe != null && stripe.sessions > 0) stripe.sessions--;
+    }
+
+    /**
+     * A session start on {@code service} failed; the stripe is restarted once its other sessions are gone.
+     */
+    public synchronized void startFailed(S service) {
+        Stripe<S> stripe = find(service);
+        if (stripe == null) return;
+        if (stripe.sessions > 0) stripe.sessions--;
+        stripe.failed = true;
+    }
+
+    /**
+     * Sessions running or starting on {@code service}; 0 for services that were replaced.
+     */
+    public synchronized int sessions(S service) {
+        Stripe<S> stripe = find(service);
+        return (stripe == null) ? 0 : stripe.sessions;
+    }
+
+    /**
+     * Stops every stripe. Called at JVM exit, after the sessions are quit.
+     */
+    public synchronized void stopAll() {
+        stripes.forEach(stripe -> stopper.accept(stripe.service));
+        stripes.clear();
+    }
+
+    private Stripe<S> replace(int index) {
+        stopper.accept(stripes.get(index).service);
+        Stripe<S> fresh = new Stripe<>(starter.get());
+        stripes.set(index, fresh);
+        return fresh;
+    }
+
+    private Stripe<S> find(S service) {
+        for (Stripe<S> stripe : stripes) {
+            if (stripe.service == service) return stripe;
+        }
+        return null;
+    }
+
+    private static final class Stripe<S> {
+        private final S service;
+        private int sessions;
+        private boolean failed;
+
+        private Stripe(S service) {
+            this.service = service;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.framework.driver;
+
+import org.openqa.selenium.WebDriver;
+
+import java.net.MalformedURLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * SessionContext: Holds every WebDriver session a single test is using, by name.
+ *
+ * A test can hold several sessions at once (e.g. "default" for the buyer and "admin" for a back-office
+ * user). The context is bound to the thread that runs the test, and can be carried explicitly into
+ * executors and CompletableFutures with wrap()/executor()/supplyAsync(), so API and DB checks running
+ * on pool or virtual threads still see the test's sessions. Nothing relies on thread inheritance.
+ *
+ * DriverManager.getDriver()/setDriver()/unload() are facades over the "default" session.
+ */
+public final class SessionContext {
+
+    public static final String DEFAULT = "default";
+
+    private static final ThreadLocal<SessionContext> CURRENT = new ThreadLocal<>();
+
+    private final String testName;
+    private final DriverPool.SessionFactory launcher;
+    private final Map<String, WebDriver> sessions = Collections.synchronizedMap(new LinkedHashMap<>());
+    // One lock per session name: a launch for "admin" never blocks lookups of "default"
+    private final Map<String, Object> launchLocks = new ConcurrentHashMap<>();
+    private volatile String browser = "chrome";
+    private volatile String headless = "false";
+
+    private SessionContext(String testName, DriverPool.SessionFactory launcher) {
+        this.testName = testName;
+        this.launcher = launcher;
+    }
+
+    // ==================================================
+    // 1. LIFECYCLE (Thread binding)
+    // ==================================================
+
+    /**
+     * Starts a fresh context for a test on the current thread. Additional named sessions are
+     * launched with the same browser/headless settings as the test's default session.
+     * A context still bound from a teardown that did not finish gives its sessions back first.
+     */
+    public static SessionContext open(String testName, String browser, String headless) {
+        SessionContext stale = CURRENT.get();
+        if (stale != null && !stale.sessions.isEmpty()) {
+            System.out.println("[WARN] Context of " + stale.testName + " was never closed. Giving back its "
+                    + stale.sessions.size() + " session(s) before " + testName);
+            stale.giveBackAll();
+        }
+        SessionContext context = detached(testName, browser, headless, DriverPool::acquire);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * A context bound to no thread whose sessions come from {@code launcher} instead of DriverPool (unit tests).
+     */
+    public static SessionContext detached(String testName, String browser, String headless, DriverPool.SessionFactory launcher) {
+        SessionContext context = new SessionContext(testName, launcher);
+        context.browser = browser;
+        context.headless = headless;
+        return context;
+    }
+
+    /**
+     * The context bound to this thread, creating an anonymous one for code that predates contexts.
+     */
+    public static SessionContext current() {
+        SessionContext context = CURRENT.get();
+        if (context == null) {
+            context = new SessionContext(Thread.currentThread().getName(), DriverPool::acquire);
+            CURRENT.set(context);
+        }
+        return context;
+    }
+
+    /**
+     * The context bound to this thread, or null — never creates one.
+     */
+    public static SessionContext currentOrNull() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Gives every session in the current context back to DriverPool and unbinds the context.
+     * Returns the number of sessions released.
+     */
+    public static int close() {
+        SessionContext context = CURRENT.get();
+        CURRENT.remove();
+        if (context == null) return 0;
+        return context.giveBackAll();
+    }
+
+    /**
+     * Each session is given back on its own, so one that fails to reset does not strand the others.
+     */
+    private int giveBackAll() {
+        Map<String, WebDriver> snapshot;
+        synchronized (sessions) {
+            snapshot = new LinkedHashMap<>(sessions);
+            sessions.clear();
+        }
+        int released = 0;
+        for (Map.Entry<String, WebDriver> entry : snapshot.entrySet()) {
+            try {
+                DriverPool.giveBack(entry.getValue());
+                released++;
+            } catch (RuntimeException e) {
+                System.out.println("[WARN] Could not give back session '" + entry.getKey() + "' of " + testName + ": " + e.getMessage());
+            }
+        }
+        return released;
+    }
+
+    static void detachIfEmpty() {
+        SessionContext context = CURRENT.get();
+        if (context != null && context.sessions.isEmpty()) {
+            CURRENT.remove();
+        }
+    }
+
+    // ==================================================
+    // 2. NAMED SESSIONS
+    // ==================================================
+
+    public WebDriver get(String name) {
+        return sessions.get(name);
+    }
+
+    public void put(String name, WebDriver driver) {
+        if (driver == null) {
+            sessions.remove(name);
+        } else {
+            sessions.put(name, driver);
+        }
+    }
+
+    public WebDriver remove(String name) {
+        return sessions.remove(name);
+    }
+
+    public Map<String, WebDriver> sessions() {
+        synchronized (sessions) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(sessions));
+        }
+    }
+
+    /**
+     * Returns the named session, leasing one from DriverPool the first time it is asked for.
+     * Threads sharing the context (see wrap/executor) that ask for the same new name concurrently
+     * wait for a single lease instead of each leasing, and leaking, their own.
+     */
+    public WebDriver session(String name) throws MalformedURLException {
+        WebDriver driver = sessions.get(name);
+        if (driver != null) return driver;
+
+        synchronized (launchLocks.computeIfAbsent(name, n -> new Object())) {
+            driver = sessions.get(name);
+            if (driver == null) {
+                driver = launcher.create(browser, headless);
+                if (driver == null) {
+                    throw new IllegalStateException("[FATAL] Could not start session '" + name + "' for test " + testName);
+                }
+                sessions.put(name, driver);
+            }
+            return driver;
+        }
+    }
+
+    /**
+     * Gives one named session back to the pool before the test ends.
+     */
+    public void release(String name) {
+        DriverPool.giveBack(sessions.remove(name));
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    public String getBrowser() {
+        return browser;
+    }
+
+    // ==================================================
+    // 3. EXPLICIT PROPAGATION
+    // ==================================================
+
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            SessionContext previous = bind();
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    public <T> Callable<T> wrap(Callable<T> task) {
+        return () -> {
+            SessionContext previous = bind();
+            try {
+                return task.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    public <T> Supplier<T> wrap(Supplier<T> task) {
+        return () -> {
+            SessionContext previous = bind();
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * An Executor view that runs every task inside this context. Works with any executor,
+     * including a virtual-thread-per-task executor on JDK 21+.
+     */
+    public Executor executor(Executor delegate) {
+        return command -> delegate.execute(wrap(command));
+    }
+
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> task, Executor executor) {
+        return CompletableFuture.supplyAsync(wrap(task), executor);
+    }
+
+    public CompletableFuture<Void> runAsync(Runnable task, Executor executor) {
+        return CompletableFuture.runAsync(wrap(task), executor);
+    }
+
+    private SessionContext bind() {
+        SessionContext previous = CURRENT.get();
+        CURRENT.set(this);
+        return previous;
+    }
+
+    private static void restore(SessionContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.framework.driver;
+
+import com.framework.utils.ConfigReader;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * SessionTimeouts: Tracks each session's implicit wait so a command is only sent when it changes something.
+ *
+ * Timeout rule (timeout.policy):
+ * - explicit (default): the implicit wait stays 0 for the whole session and explicit waits do all the
+ *   waiting, so the two never stack and zero-implicit blocks cost nothing.
+ * - implicit: sessions get timeout.implicit, and BasePage runs every explicit wait inside a zero-implicit
+ *   scope so a single poll can never block for the implicit timeout.
+ *
+ * Sessions created by DriverFactory start from the W3C default (implicit wait 0); sessions this class has never
+ * seen are treated as unknown until their first set.
+ */
+public final class SessionTimeouts {
+
+    private static final boolean IMPLICIT_POLICY = "implicit".equalsIgnoreCase(ConfigReader.getProperty("timeout.policy", "explicit"));
+    private static final Duration CONFIGURED_IMPLICIT = IMPLICIT_POLICY
+            ? Duration.ofSeconds(Integer.parseInt(ConfigReader.getProperty("timeout.implicit", "10")))
+            : Duration.ZERO;
+
+    private static final Map<WebDriver, SessionTimeouts> sessions = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    // Suite totals and this thread's tally since the last drain: [sent, skipped]
+    private static final LongAdder sent = new LongAdder();
+    private static final LongAdder skipped = new LongAdder();
+    private static final ThreadLocal<long[]> currentTest = ThreadLocal.withInitial(() -> new long[2]);
+
+    private final WebDriver driver;
+    private Duration implicitWait; // last value the session acknowledged; null = unknown
+
+    private SessionTimeouts(WebDriver driver, Duration implicitWait) {
+        this.driver = driver;
+        this.implicitWait = implicitWait;
+    }
+
+    /**
+     * Registers a session DriverFactory has just created (implicit wait is 0 on a new W3C session).
+     */
+    public static void register(WebDriver driver) {
+        if (driver != null) sessions.put(driver, new SessionTimeouts(driver, Duration.ZERO));
+    }
+
+    public static SessionTimeouts of(WebDriver driver) {
+        return sessions.computeIfAbsent(driver, d -> new SessionTimeouts(d, null));
+    }
+
+    /**
+     * Drops the tracked state once a session is quit.
+     */
+    public static void forget(WebDriver driver) {
+        if (driver != null) sessions.remove(driver);
+    }
+
+    /**
+     * Implicit wait every session should run with under the active timeout.policy.
+     */
+    public static Duration configuredImplicitWait() {
+        return CONFIGURED_IMPLICIT;
+    }
+
+    // ==================================================
+    // 1. TIMEOUT COMMANDS
+    // ==================================================
+
+    /**
+     * Sets the implicit wait, skipping the round-trip when the session already has that value.
+     */
+    public synchronized void implicitlyWait(Duration timeout) {
+        if (timeout.equals(implicitWait)) {
+            skipped.increment();
+            currentTest.get()[1]++;
+            return;
+        }
+        driver.manage().timeouts().implicitlyWait(timeout);
+        implicitWait = timeout;
+        sent.increment();
+        currentTest.get()[0]++;
+    }
+
+    /**
+     * Runs an action with the implicit wait at 0 and restores it afterwards. Free when it already is 0.
+     */
+    public <T> T withoutImplicitWait(Supplier<T> action) {
+        Duration previous;
+        synchronized (this) {
+            previous = (implicitWait != null) ? implicitWait : CONFIGURED_IMPLICIT;
+        }
+        implicitlyWait(Duration.ZERO);
+        try {
+            return action.get();
+        } finally {
+            implicitlyWait(previous);
+        }
+    }
+
+    public synchronized Duration getImplicitWait() {
+        return implicitWait;
+    }
+
+    // ==================================================
+    // 2. REPORTING
+    // ==================================================
+
+    /**
+     * Returns and clears this thread's counts since the last drain: implicit-wait commands sent and skipped
+     * (each skip is a round-trip saved).
+     */
+    public static Map<String, Long> drainTest() {
+        long[] counts = currentTest.get();
+        Map<String, Long> tally = new LinkedHashMap<>();
+        tally.put("sent", counts[0]);
+        tally.put("skipped", counts[1]);
+        counts[0] = 0;
+        counts[1] = 0;
+        return tally;
+    }
+
+    public static String stats() {
+        return String.format("Timeouts [policy=%s] Implicit-wait commands sent: %d | Skipped (round-trips saved): %d",
+                IMPLICIT_POLICY ? "implicit" : "explicit", sent.sum(), skipped.sum());
+    }
+}
@@ -0,0 +1,343 @@
+package com.framework.driver;
+
+import com.framework.utils.ConfigReader;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WireCommandProfiler: Counts and times every WebDriver command a session sends, per test and per
+ * page-object method, and flags round-trips that could be avoided.
+ *
+ * DriverFactory decorates web sessions with it (before the Healenium wrap) when profiler.wire.enabled=true.
+ * Each call is attributed to the innermost page-object method on the stack (e.g. "InventoryPage.getCartItemCount").
+ * Flagged patterns:
+ * - Timeout sets that repeat the current value, or toggle a timeout around a couple of commands
+ * - The same locator found again within one page-object method
+ * - Back-to-back executeScript calls that could be a single script
+ */
+public class WireCommandProfiler implements WebDriverListener {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.getProperty("profiler.wire.enabled", "false"));
+
+    private static final String PAGES_PACKAGE = "com.framework.pages.";
+    private static final String BASE_PAGE = PAGES_PACKAGE + "BasePage";
+    private static final String OUTSIDE_PAGES = "(outside page objects)";
+
+    // A timeout set this many commands or fewer after the previous one, in the same method, is a toggle
+    private static final int TOGGLE_WINDOW = 2;
+
+    // Client-side calls: answered by the Java bindings without a round-trip to the driver
+    private static final Set<String> LOCAL_CALLS = new HashSet<>(Arrays.asList(
+            "manage", "timeouts", "window", "navigate", "switchTo", "logs",
+            "getWrappedDriver", "getWrappedElement", "getId", "getCoordinates",
+            "getCapabilities", "getSessionId", "getCommandExecutor", "getErrorHandler", "getFileDetector", "setFileDetector",
+            "getDevTools", "maybeGetDevTools", "getBiDi", "maybeGetBiDi",
+            "toString", "hashCode", "equals"));
+
+    private static final WireCommandProfiler INSTANCE = new WireCommandProfiler();
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private static final Map<String, ScopeStats> suiteScopes = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Tally> currentTest = ThreadLocal.withInitial(Tally::new);
+    private static final ThreadLocal<Deque<Long>> startTimes = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private WireCommandProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Decorates a web session so its commands are profiled. Returns the driver untouched when disabled.
+     */
+    public static WebDriver install(WebDriver driver) {
+        if (!ENABLED || driver == null) return driver;
+        System.out.println("[INFO] Wire command profiler attached");
+        return new EventFiringDecorator<>(INSTANCE).decorate(driver);
+    }
+
+    /**
+     * The listener behind install(), for callers that build their own decorator.
+     */
+    public static WebDriverListener listener() {
+        return INSTANCE;
+    }
+
+    /**
+     * Peels the profiling decorator off a driver (other wrappers are left alone).
+     */
+    public static WebDriver unwrap(WebDriver driver) {
+        return (ENABLED && driver instanceof WrapsDriver) ? ((WrapsDriver) driver).getWrappedDriver() : driver;
+    }
+
+    // ==================================================
+    // 1. LISTENER HOOKS
+    // ==================================================
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (LOCAL_CALLS.contains(method.getName())) return;
+        startTimes.get().push(System.nanoTime());
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(target, method, args, false);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(target, method, args, true);
+    }
+
+    private static void finish(Object target, Method method, Object[] args, boolean failed) {
+        if (LOCAL_CALLS.contains(method.getName())) return;
+        Long start = startTimes.get().poll();
+        if (start == null) return;
+        long nanos = System.nanoTime() - start;
+
+        String command = commandName(target, method);
+        String scope = pageScope();
+        ScopeStats scopeStats = suiteScopes.computeIfAbsent(scope, k -> new ScopeStats());
+        scopeStats.roundTrips.increment();
+        scopeStats.nanos.add(nanos);
+
+        int findings = currentTest.get().record(command, args, scope, nanos, failed);
+        if (findings > 0) scopeStats.findings.add(findings);
+    }
+
+    /**
+     * W3C-ish command name from the interface the call went through, e.g. "findElement",
+     * "element.click", "timeouts.implicitlyWait", "window.maximize".
+     */
+    static String commandName(Object target, Method method) {
+        String prefix;
+        if (target instanceof WebElement) prefix = "element.";
+        else if (target instanceof WebDriver.Timeouts) prefix = "timeouts.";
+        else if (target instanceof WebDriver.Window) prefix = "window.";
+        else if (target instanceof WebDriver.Navigation) prefix = "navigate.";
+        else if (target instanceof WebDriver.TargetLocator) prefix = "switchTo.";
+        else if (target instanceof Alert) prefix = "alert.";
+        else if (target instanceof WebDriver.Options) prefix = "manage.";
+        else prefix = "";
+        return prefix + method.getName();
+    }
+
+    /**
+     * Innermost page-object method on the calling stack; BasePage helpers are only used when no
+     * concrete page is involved (e.g. a test calling a BasePage method directly).
+     */
+    static String pageScope() {
+        return WALKER.walk(frames -> {
+            String base = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String className = frame.getClassName();
+                if (!className.startsWith(PAGES_PACKAGE)) continue;
+                int nested = className.indexOf('$');
+                if (nested > 0) className = className.substring(0, nested);
+
+                String name = className.substring(PAGES_PACKAGE.length()) + "." + frame.getMethodName();
+                if (!className.equals(BASE_PAGE)) return name;
+                if (base == null) base = name;
+            }
+            return base != null ? base : OUTSIDE_PAGES;
+        });
+    }
+
+    // ==================================================
+    // 2. PER-TEST REPORT
+    // ==================================================
+
+    /**
+     * Returns and clears the commands recorded on this thread since the last drain.
+     */
+    public static Tally drainTest() {
+        Tally tally = currentTest.get();
+        currentTest.remove();
+        startTimes.remove();
+        return tally;
+    }
+
+    /**
+     * One test's wire traffic: count and latency per command, plus flagged patterns.
+     */
+    public static final class Tally {
+        private final Map<String, CommandStats> commands = new LinkedHashMap<>();
+        private final Map<String, Integer> findings = new LinkedHashMap<>();
+
+        // Pattern detection state
+        private final Map<String, String> timeoutValues = new HashMap<>();
+        private final Set<String> foundInScope = new HashSet<>();
+        private String lastScope;
+        private String lastCommand;
+        private String lastTimeoutScope;
+        private int commandsSinceTimeoutSet = Integer.MAX_VALUE;
+
+        private int record(String command, Object[] args, String scope, long nanos, boolean failed) {
+            commands.computeIfAbsent(command, k -> new CommandStats()).add(nanos, failed);
+
+            boolean sameScope = scope.equals(lastScope);
+            if (!sameScope) foundInScope.clear();
+            int flagged = 0;
+
+            if (command.startsWith("timeouts.")) {
+                String value = Arrays.toString(args);
+                if (value.equals(timeoutValues.put(command, value))) {
+                    flagged += flag("redundant " + command + value + " in " + scope);
+                } else if (scope.equals(lastTimeoutScope) && commandsSinceTimeoutSet <= TOGGLE_WINDOW) {
+                    flagged += flag("timeout toggled around " + commandsSinceTimeoutSet + " command(s) in " + scope);
+                }
+                lastTimeoutScope = scope;
+                commandsSinceTimeoutSet = 0;
+            } else if (commandsSinceTimeoutSet != Integer.MAX_VALUE) {
+                commandsSinceTimeoutSet++;
+            }
+
+            if (command.endsWith("findElement") || command.endsWith("findElements")) {
+                if (!failed && args != null && args.length > 0 && args[0] instanceof By) {
+                    if (!foundInScope.add(command + " " + args[0])) {
+                        flagged += flag("same locator found again (" + args[0] + ") in " + scope);
+                    }
+                }
+            }
+
+            if (isScript(command) && sameScope && isScript(lastCommand)) {
+                flagged += flag("back-to-back executeScript calls could be merged in " + scope);
+            }
+
+            lastScope = scope;
+            lastCommand = command;
+            return flagged;
+        }
+
+        private int flag(String finding) {
+            findings.merge(finding, 1, Integer::sum);
+            return 1;
+        }
+
+        private static boolean isScript(String command) {
+            return "executeScript".equals(command) || "executeAsyncScript".equals(command);
+        }
+
+        public boolean isEmpty() {
+            return commands.isEmpty();
+        }
+
+        public int getRoundTrips() {
+            return commands.values().stream().mapToInt(c -> c.count).sum();
+        }
+
+        public long getTotalNanos() {
+            return commands.values().stream().mapToLong(c -> c.nanos).sum();
+        }
+
+        public int getCount(String command) {
+            CommandStats stats = commands.get(command);
+            return stats == null ? 0 : stats.count;
+        }
+
+        /**
+         * Flagged pattern -> occurrences, in the order first seen.
+         */
+        public Map<String, Integer> getFindings() {
+            return Collections.unmodifiableMap(findings);
+        }
+
+        /**
+         * Command-count and latency table, busiest command first, followed by the findings.
+         */
+        public String toTable() {
+            List<Map.Entry<String, CommandStats>> rows = new ArrayList<>(commands.entrySet());
+            rows.sort(Comparator.comparingInt((Map.Entry<String, CommandStats> e) -> e.getValue().count).reversed()
+                    .thenComparing(Map.Entry::getKey));
+
+            StringBuilder table = new StringBuilder(String.format("%-32s | %5s | %9s | %8s | %6s%n", "command", "n", "total ms", "mean ms", "errors"));
+            for (Map.Entry<String, CommandStats> row : rows) {
+                CommandStats stats = row.getValue();
+                table.append(String.format("%-32s | %5d | %9.1f | %8.1f | %6d%n", row.getKey(), stats.count,
+                        toMs(stats.nanos), toMs(stats.nanos / stats.count), stats.errors));
+            }
+            table.append(String.format("%-32s | %5d | %9.1f |%n", "TOTAL", getRoundTrips(), toMs(getTotalNanos())));
+
+            if (!findings.isEmpty()) {
+                table.append(String.format("%nFindings:%n"));
+                findings.forEach((finding, count) -> table.append(String.format("  %3dx %s%n", count, finding)));
+            }
+            return table.toString();
+        }
+    }
+
+    // ==================================================
+    // 3. SUITE RANKING
+    // ==================================================
+
+    /**
+     * The most expensive page-object methods across the suite, by round-trips.
+     */
+    public static String ranking(int top) {
+        List<Map.Entry<String, ScopeStats>> rows = new ArrayList<>(suiteScopes.entrySet());
+        rows.sort(Comparator.comparingLong((Map.Entry<String, ScopeStats> e) -> e.getValue().roundTrips.sum()).reversed()
+                .thenComparing(Map.Entry::getKey));
+
+        StringBuilder table = new StringBuilder(String.format("%-48s | %11s | %9s | %8s%n", "page-object method", "round-trips", "total ms", "findings"));
+        for (Map.Entry<String, ScopeStats> row : rows.subList(0, Math.min(top, rows.size()))) {
+            ScopeStats stats = row.getValue();
+            table.append(String.format("%-48s | %11d | %9.1f | %8d%n", row.getKey(), stats.roundTrips.sum(),
+                    toMs(stats.nanos.sum()), stats.findings.sum()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Round-trips recorded for one page-object method across the suite so far.
+     */
+    public static long roundTrips(String scope) {
+        ScopeStats stats = suiteScopes.get(scope);
+        return stats == null ? 0 : stats.roundTrips.sum();
+    }
+
+    private static double toMs(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+
+    private static final class CommandStats {
+        private int count;
+        private int errors;
+        private long nanos;
+
+        private void add(long elapsed, boolean failed) {
+            count++;
+            nanos += elapsed;
+            if (failed) errors++;
+        }
+    }
+
+    private static final class ScopeStats {
+        private final LongAdder roundTrips = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder findings = new LongAdder();
+    }
+}
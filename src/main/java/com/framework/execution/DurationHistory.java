@@ -0,0 +1,175 @@
+package com.framework.execution;
+
+import com.framework.utils.ConfigReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DurationHistory: Wall time per test method (and per DataProvider row) from earlier runs.
+ *
+ * Keys are "fully.qualified.Class.method" or "fully.qualified.Class.method#row". Values are
+ * milliseconds, smoothed across runs so one slow run doesn't reorder the whole suite.
+ * The file is small, sorted and meant to be committed so every machine schedules the same way.
+ */
+public class DurationHistory {
+
+    // Weight of the newest observation when folding it into the stored value
+    private static final double ALPHA = 0.5;
+
+    private static volatile DurationHistory shared;
+
+    private final Path file;
+    private final Map<String, Long> knownMs = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> observedNanos = new ConcurrentHashMap<>();
+
+    private DurationHistory(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * The suite-wide history (scheduler.history.file, default .test-history/durations.properties).
+     */
+    public static DurationHistory shared() {
+        if (shared == null) {
+            synchronized (DurationHistory.class) {
+                if (shared == null) {
+                    shared = load(Paths.get(ConfigReader.getProperty("scheduler.history.file", ".test-history/durations.properties")));
+                }
+            }
+        }
+        return shared;
+    }
+
+    public static DurationHistory load(Path file) {
+        DurationHistory history = new DurationHistory(file);
+        if (!Files.exists(file)) return history;
+
+        Properties properties = new Properties();
+        try (InputStream input = Files.newInputStream(file)) {
+            properties.load(input);
+            for (String key : properties.stringPropertyNames()) {
+                try {
+                    history.knownMs.put(key, Long.parseLong(properties.getProperty(key).trim()));
+                } catch (NumberFormatException e) {
+                    // Hand-edited or merge-conflicted line — ignore it, the next run rewrites it
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("[WARN] Could not read duration history " + file + ": " + e.getMessage());
+        }
+        return history;
+    }
+
+    public static String keyOf(String className, String methodName, int row) {
+        return (row < 0) ? className + "." + methodName : className + "." + methodName + "#" + row;
+    }
+
+    // ==================================================
+    // 1. ESTIMATES
+    // ==================================================
+
+    /**
+     * Known duration of one key, or {@code fallbackMs} when it has never run.
+     */
+    public long estimateMs(String key, long fallbackMs) {
+        Long known = knownMs.get(key);
+        return (known != null) ? known : fallbackMs;
+    }
+
+    public boolean hasEstimate(String key) {
+        return knownMs.containsKey(key);
+    }
+
+    /**
+     * Duration of a whole test method: the sum of its DataProvider rows, or its own entry.
+     */
+    public long methodEstimateMs(String className, String methodName, long fallbackMs) {
+        String base = keyOf(className, methodName, -1);
+        String rowPrefix = base + "#";
+        long rows = 0;
+        boolean found = false;
+        for (Map.Entry<String, Long> entry : knownMs.entrySet()) {
+            if (entry.getKey().startsWith(rowPrefix)) {
+                rows += entry.getValue();
+                found = true;
+            }
+        }
+        if (found) return rows;
+        return estimateMs(base, fallbackMs);
+    }
+
+    public boolean isEmpty() {
+        return knownMs.isEmpty();
+    }
+
+    public Map<String, Long> snapshot() {
+        return new TreeMap<>(knownMs);
+    }
+
+    // ==================================================
+    // 2. RECORDING
+    // ==================================================
+
+    /**
+     * Adds wall time observed in this run (setup, test body, teardown and retries all add up).
+     */
+    public void record(String key, long nanos) {
+        observedNanos.computeIfAbsent(key, k -> new LongAdder()).add(nanos);
+    }
+
+    /**
+     * Takes another history's values as-is (used when merging shard histories).
+     * The most recently recorded value wins on conflict.
+     */
+    public void putAll(Map<String, Long> values) {
+        knownMs.putAll(values);
+    }
+
+    /**
+     * Folds this run's observations into the known values and rewrites the file atomically.
+     */
+    public synchronized void save() {
+        for (Map.Entry<String, LongAdder> entry : observedNanos.entrySet()) {
+            long observedMs = TimeUnit.NANOSECONDS.toMillis(entry.getValue().sumThenReset());
+            if (observedMs == 0) continue;
+            knownMs.merge(entry.getKey(), observedMs,
+                    (old, latest) -> Math.round(old * (1 - ALPHA) + latest * ALPHA));
+        }
+        if (knownMs.isEmpty()) return;
+
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                StringBuilder body = new StringBuilder("# Test wall time in ms (smoothed). Written by the scheduler; safe to commit.\n");
+                snapshot().forEach((key, ms) -> body.append(escape(key)).append('=').append(ms).append('\n'));
+                out.write(body.toString().getBytes(StandardCharsets.ISO_8859_1));
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("[WARN] Could not write duration history " + file + ": " + e.getMessage());
+        }
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    // Properties.store() would add a timestamp line and shuffle key order, making the file noisy in diffs
+    private static String escape(String key) {
+        return key.replace("\\", "\\\\").replace("=", "\\=").replace(":", "\\:").replace(" ", "\\ ");
+    }
+}
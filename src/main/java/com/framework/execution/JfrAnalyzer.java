@@ -0,0 +1,126 @@
+package com.framework.execution;
+
+import com.framework.pages.PageInteractionEvent;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JfrAnalyzer: Reads a suite recording (mvn test -Plocal,jfr) and reports which locators cost the
+ * most wall time and how often clicks had to fall back to JavaScript.
+ *
+ * Usage: JfrAnalyzer <recording.jfr> [topN]
+ */
+public class JfrAnalyzer {
+
+    private static final int DEFAULT_TOP = 15;
+
+    private JfrAnalyzer() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: JfrAnalyzer <recording.jfr> [topN]");
+            return;
+        }
+        Path recording = Paths.get(args[0]);
+        int top = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_TOP;
+        if (!Files.exists(recording)) {
+            throw new IllegalArgumentException("[FATAL] Recording not found: " + recording.toAbsolutePath());
+        }
+
+        Map<String, LocatorStats> byLocator = new HashMap<>();
+        Map<String, Integer> outcomes = new TreeMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            if (!PageInteractionEvent.NAME.equals(event.getEventType().getName())) continue;
+
+            String action = event.getString("action");
+            String key = action + " " + event.getString("locator");
+            byLocator.computeIfAbsent(key, k -> new LocatorStats()).add(event.getDuration().toNanos(), event.getString("outcome"));
+            outcomes.merge(action + " -> " + event.getString("outcome"), 1, Integer::sum);
+        }
+
+        if (byLocator.isEmpty()) {
+            System.out.println("[INFO] No " + PageInteractionEvent.NAME + " events in " + recording);
+            return;
+        }
+        System.out.println(report(byLocator, outcomes, top));
+    }
+
+    // ==================================================
+    // REPORTING
+    // ==================================================
+
+    private static String report(Map<String, LocatorStats> byLocator, Map<String, Integer> outcomes, int top) {
+        StringBuilder out = new StringBuilder();
+
+        List<Map.Entry<String, LocatorStats>> slowest = new ArrayList<>(byLocator.entrySet());
+        slowest.sort(Comparator.comparingLong((Map.Entry<String, LocatorStats> e) -> e.getValue().totalNanos).reversed()
+                .thenComparing(Map.Entry::getKey));
+        out.append(String.format("%n[JFR] Slowest locators by total time (top %d)%n", top));
+        out.append(String.format("%-70s | %6s | %9s | %8s | %8s%n", "action locator", "n", "total ms", "p95 ms", "max ms"));
+        for (Map.Entry<String, LocatorStats> entry : slowest.subList(0, Math.min(top, slowest.size()))) {
+            long[] sorted = entry.getValue().sorted();
+            out.append(String.format("%-70s | %6d | %9.1f | %8.1f | %8.1f%n", abbreviate(entry.getKey(), 70), sorted.length,
+                    toMs(entry.getValue().totalNanos), toMs(PhaseTimings.percentile(sorted, 95)), toMs(sorted[sorted.length - 1])));
+        }
+
+        int clicks = 0;
+        int fallbacks = 0;
+        out.append(String.format("%n[JFR] Click JS-fallback rate%n"));
+        for (Map.Entry<String, LocatorStats> entry : new TreeMap<>(byLocator).entrySet()) {
+            if (!entry.getKey().startsWith("click ")) continue;
+            LocatorStats stats = entry.getValue();
+            clicks += stats.count;
+            fallbacks += stats.jsFallbacks;
+            if (stats.jsFallbacks > 0) {
+                out.append(String.format("%-70s | %4d / %-4d | %5.1f%%%n", abbreviate(entry.getKey(), 70), stats.jsFallbacks, stats.count,
+                        100.0 * stats.jsFallbacks / stats.count));
+            }
+        }
+        out.append(String.format("Overall: %d of %d clicks (%.1f%%)%n", fallbacks, clicks, clicks == 0 ? 0.0 : 100.0 * fallbacks / clicks));
+
+        out.append(String.format("%n[JFR] Outcomes%n"));
+        outcomes.forEach((outcome, count) -> out.append(String.format("%-40s %6d%n", outcome, count)));
+        return out.toString();
+    }
+
+    private static String abbreviate(String text, int width) {
+        return text.length() <= width ? text : text.substring(0, width - 3) + "...";
+    }
+
+    private static double toMs(long nanos) {
+        return Math.round(nanos / 100_000.0) / 10.0;
+    }
+
+    private static final class LocatorStats {
+        private long[] durations = new long[8];
+        private int count;
+        private int jsFallbacks;
+        private long totalNanos;
+
+        private void add(long nanos, String outcome) {
+            if (count == durations.length) durations = Arrays.copyOf(durations, count * 2);
+            durations[count++] = nanos;
+            totalNanos += nanos;
+            if (PageInteractionEvent.JS_FALLBACK.equals(outcome)) jsFallbacks++;
+        }
+
+        private long[] sorted() {
+            long[] copy = Arrays.copyOf(durations, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.framework.execution;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * LptScheduler: Longest-Processing-Time-first planning for a pool of identical workers.
+ *
+ * Jobs are sorted by expected duration (longest first). Each idle worker pulls the next job from
+ * that single queue, so a worker that finishes early takes work the others have not started yet.
+ * The plan simulates exactly that to predict the makespan (wall time of the whole batch).
+ * Pure logic — no TestNG or Selenium types — so it is unit-tested directly.
+ */
+public class LptScheduler {
+
+    private LptScheduler() {
+    }
+
+    /**
+     * Orders {@code jobs} longest first (stable for equal costs) and predicts the makespan on {@code workers}.
+     */
+    public static <T> Plan<T> plan(List<T> jobs, ToLongFunction<T> costMs, int workers) {
+        int pool = Math.max(1, workers);
+
+        List<T> order = new ArrayList<>(jobs);
+        order.sort(Comparator.comparingLong(costMs).reversed()); // List.sort is stable
+
+        // Min-heap of worker loads: the least loaded worker is the next one to go idle
+        PriorityQueue<Worker<T>> idleNext = new PriorityQueue<>(
+                Comparator.<Worker<T>>comparingLong(w -> w.loadMs).thenComparingInt(w -> w.index));
+        List<Worker<T>> all = new ArrayList<>();
+        for (int i = 0; i < pool; i++) {
+            Worker<T> worker = new Worker<>(i);
+            all.add(worker);
+            idleNext.add(worker);
+        }
+
+        long totalMs = 0;
+        for (T job : order) {
+            long cost = Math.max(0, costMs.applyAsLong(job));
+            Worker<T> worker = idleNext.poll();
+            worker.jobs.add(job);
+            worker.loadMs += cost;
+            totalMs += cost;
+            idleNext.add(worker);
+        }
+
+        long makespan = 0;
+        List<List<T>> assignments = new ArrayList<>();
+        for (Worker<T> worker : all) {
+            makespan = Math.max(makespan, worker.loadMs);
+            assignments.add(Collections.unmodifiableList(worker.jobs));
+        }
+        return new Plan<>(Collections.unmodifiableList(order), Collections.unmodifiableList(assignments), makespan, totalMs);
+    }
+
+    public static final class Plan<T> {
+        private final List<T> order;
+        private final List<List<T>> assignments;
+        private final long makespanMs;
+        private final long totalMs;
+
+        private Plan(List<T> order, List<List<T>> assignments, long makespanMs, long totalMs) {
+            this.order = order;
+            this.assignments = assignments;
+            this.makespanMs = makespanMs;
+            this.totalMs = totalMs;
+        }
+
+        /** Dispatch order: longest expected job first. */
+        public List<T> getOrder() {
+            return order;
+        }
+
+        /** Predicted jobs per worker, in the order each worker would run them. */
+        public List<List<T>> getAssignments() {
+            return assignments;
+        }
+
+        /** Predicted wall time of the batch on the planned workers. */
+        public long getMakespanMs() {
+            return makespanMs;
+        }
+
+        /** Wall time of the batch on a single thread (sum of all jobs). */
+        public long getTotalMs() {
+            return totalMs;
+        }
+    }
+
+    private static final class Worker<T> {
+        private final int index;
+        private final List<T> jobs = new ArrayList<>();
+        private long loadMs;
+
+        private Worker(int index) {
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.framework.execution;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PhaseTimings: Where per-test setup and teardown time goes, broken down by phase.
+ *
+ * Callers measure with System.nanoTime() and record the elapsed nanos against a browser, an
+ * execution mode and a phase name (e.g. "driver.launch", "configure.navigate", "teardown.reset").
+ * Samples feed suite-wide histograms (p50/p95/p99 per browser|mode|phase) and a per-thread tally
+ * that BaseTest drains into each test's Allure report.
+ */
+public class PhaseTimings {
+
+    private static final Map<String, Samples> histograms = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<String, Long>> currentTest = ThreadLocal.withInitial(LinkedHashMap::new);
+
+    private PhaseTimings() {
+    }
+
+    public static void record(String browser, String mode, String phase, long nanos) {
+        String key = browser.toLowerCase(Locale.ROOT) + "|" + mode.toLowerCase(Locale.ROOT) + "|" + phase;
+        histograms.computeIfAbsent(key, k -> new Samples()).add(nanos);
+        currentTest.get().merge(phase, nanos, Long::sum);
+    }
+
+    /**
+     * Returns and clears the phases recorded on this thread since the last drain (nanos per phase).
+     */
+    public static Map<String, Long> drainTest() {
+        Map<String, Long> phases = currentTest.get();
+        Map<String, Long> copy = new LinkedHashMap<>(phases);
+        phases.clear();
+        return copy;
+    }
+
+    // ==================================================
+    // REPORTING
+    // ==================================================
+
+    /**
+     * One entry per browser|mode|phase, sorted by key: count, min, mean, p50, p95, p99, max (ms).
+     */
+    public static JSONObject toJson() {
+        JSONArray entries = new JSONArray();
+        for (Map.Entry<String, Samples> entry : new TreeMap<>(histograms).entrySet()) {
+            String[] parts = entry.getKey().split("\\|", 3);
+            long[] sorted = entry.getValue().sorted();
+            if (sorted.length == 0) continue;
+
+            JSONObject histogram = new JSONObject();
+            histogram.put("browser", parts[0]);
+            histogram.put("mode", parts[1]);
+            histogram.put("phase", parts[2]);
+            histogram.put("count", sorted.length);
+            histogram.put("minMs", toMs(sorted[0]));
+            histogram.put("meanMs", toMs(Math.round(Arrays.stream(sorted).average().orElse(0))));
+            histogram.put("p50Ms", toMs(percentile(sorted, 50)));
+            histogram.put("p95Ms", toMs(percentile(sorted, 95)));
+            histogram.put("p99Ms", toMs(percentile(sorted, 99)));
+            histogram.put("maxMs", toMs(sorted[sorted.length - 1]));
+            entries.put(histogram);
+        }
+
+        JSONObject report = new JSONObject();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("javaVersion", System.getProperty("java.version"));
+        report.put("histograms", entries);
+        return report;
+    }
+
+    /**
+     * Writes the histograms as JSON so session-startup cost can be compared across Selenium/browser upgrades.
+     */
+    public static void writeJson(Path file) {
+        if (histograms.isEmpty()) return;
+        try {
+            if (file.getParent() != null) Files.createDirectories(file.getParent());
+            Files.write(file, toJson().toString(2).getBytes(StandardCharsets.UTF_8));
+            System.out.println("[TIMING] Phase timings written to " + file);
+        } catch (IOException e) {
+            System.out.println("[WARN] Could not write phase timings: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Console table: one line per browser|mode|phase.
+     */
+    public static String summary() {
+        StringBuilder table = new StringBuilder(String.format("%-32s | %5s | %8s | %8s | %8s%n", "browser|mode|phase", "n", "p50 ms", "p95 ms", "p99 ms"));
+        for (Map.Entry<String, Samples> entry : new TreeMap<>(histograms).entrySet()) {
+            long[] sorted = entry.getValue().sorted();
+            if (sorted.length == 0) continue;
+            table.append(String.format("%-32s | %5d | %8.1f | %8.1f | %8.1f%n", entry.getKey(), sorted.length,
+                    toMs(percentile(sorted, 50)), toMs(percentile(sorted, 95)), toMs(percentile(sorted, 99))));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Nearest-rank percentile of an ascending array.
+     */
+    public static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.min(sorted.length, Math.max(1, rank)) - 1];
+    }
+
+    private static double toMs(long nanos) {
+        return Math.round(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1) * 10) / 10.0;
+    }
+
+    /**
+     * Raw samples; suites record at most a few thousand per phase, so exact percentiles are affordable.
+     */
+    private static final class Samples {
+        private long[] values = new long[16];
+        private int size;
+
+        private synchronized void add(long nanos) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = nanos;
+        }
+
+        private synchronized long[] sorted() {
+            long[] copy = Arrays.copyOf(values, size);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.framework.execution;
+
+import com.framework.utils.ConfigReader;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ShardPlanner: Splits a suite's work units deterministically across CI runners.
+ *
+ * A unit is a test method ("Class.method") or one DataProvider row ("Class.method#row").
+ * Units with a recorded duration are balanced across shards longest-first (LptScheduler);
+ * units with no history fall back to a stable hash of their key. Every runner computes the same
+ * plan from the same committed history file, so no coordination between runners is needed.
+ *
+ * Enabled with -Dshard.count=N -Dshard.index=i (0-based, 0 <= i < N).
+ */
+public class ShardPlanner {
+
+    private static final int COUNT = Integer.parseInt(ConfigReader.getProperty("shard.count", "1"));
+    private static final int INDEX = Integer.parseInt(ConfigReader.getProperty("shard.index", "0"));
+
+    // "Class.method#localRow" -> original row, for DataProvider rows filtered down on this shard
+    private static final Map<String, Integer> originalRows = new ConcurrentHashMap<>();
+
+    private ShardPlanner() {
+    }
+
+    public static boolean isActive() {
+        return COUNT > 1;
+    }
+
+    public static int getCount() {
+        return COUNT;
+    }
+
+    public static int getIndex() {
+        return INDEX;
+    }
+
+    /**
+     * Fails fast on a bad -Dshard.index/-Dshard.count instead of silently running nothing (or everything).
+     */
+    public static void validate() {
+        if (COUNT < 1 || INDEX < 0 || INDEX >= COUNT) {
+            throw new IllegalStateException("[FATAL] Invalid sharding: shard.index=" + INDEX + ", shard.count=" + COUNT
+                    + ". Expected 0 <= shard.index < shard.count.");
+        }
+    }
+
+    // ==================================================
+    // 1. PLANNING
+    // ==================================================
+
+    /**
+     * Assigns every unit to a shard. The result only depends on the unit keys and the history,
+     * never on the order the units were discovered in.
+     */
+    public static Map<String, Integer> assign(Collection<String> units, DurationHistory history, int count) {
+        Map<String, Integer> shards = new ConcurrentHashMap<>();
+        if (count <= 1) {
+            units.forEach(unit -> shards.put(unit, 0));
+            return shards;
+        }
+
+        List<String> known = new ArrayList<>();
+        for (String unit : new TreeSet<>(units)) {
+            if (history.hasEstimate(unit)) {
+                known.add(unit);
+            } else {
+                shards.put(unit, hashShard(unit, count));
+            }
+        }
+
+        LptScheduler.Plan<String> plan = LptScheduler.plan(known, unit -> history.estimateMs(unit, 0), count);
+        List<List<String>> assignments = plan.getAssignments();
+        for (int shard = 0; shard < assignments.size(); shard++) {
+            for (String unit : assignments.get(shard)) {
+                shards.put(unit, shard);
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * Stable across JVMs and machines: String.hashCode() is fixed by the language spec.
+     */
+    public static int hashShard(String unit, int count) {
+        return Math.floorMod(unit.hashCode(), count);
+    }
+
+    // ==================================================
+    // 2. DATAPROVIDER ROW MAPPING
+    // ==================================================
+
+    /**
+     * Remembers which original row a shard-local row index stands for, so durations are
+     * recorded (and merged) under the same key on every shard.
+     */
+    public static void mapRow(String methodKey, int localRow, int originalRow) {
+        originalRows.put(methodKey + "#" + localRow, originalRow);
+    }
+
+    /**
+     * Original DataProvider row for a row index TestNG reports on this shard.
+     */
+    public static int originalRow(String methodKey, int localRow) {
+        Integer original = originalRows.get(methodKey + "#" + localRow);
+        return (original != null) ? original : localRow;
+    }
+}
@@ -0,0 +1,108 @@
+package com.framework.execution;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * ShardResultMerger: Combines the output of sharded runs into one Allure report and one duration history.
+ *
+ * Usage (after downloading each runner's artifacts into its own folder):
+ *   mvn -q compile exec:java -Dexec.mainClass=com.framework.execution.ShardResultMerger \
+ *       -Dexec.args="target/merged shard-0 shard-1 shard-2"
+ *
+ * Each shard folder may hold allure-results/ (or target/allure-results/) and durations.properties
+ * (or .test-history/durations.properties). Results are copied into <output>/allure-results, ready
+ * for "allure generate". Durations a shard re-measured are folded into the committed history file.
+ */
+public class ShardResultMerger {
+
+    // Suite-level Allure files every shard writes identically; the first copy wins
+    private static final List<String> SHARED_FILES = List.of("environment.properties", "categories.json", "executor.json");
+
+    private ShardResultMerger() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ShardResultMerger <outputDir> <shardDir> [<shardDir> ...]");
+            System.exit(2);
+        }
+
+        Path output = Paths.get(args[0]).resolve("allure-results");
+        Files.createDirectories(output);
+
+        DurationHistory base = DurationHistory.shared();
+        Map<String, Long> committed = base.snapshot();
+        Map<String, List<Long>> remeasured = new HashMap<>();
+
+        int copied = 0;
+        for (int i = 1; i < args.length; i++) {
+            Path shard = Paths.get(args[i]);
+            if (!Files.isDirectory(shard)) {
+                System.out.println("[WARN] Shard folder not found, skipping: " + shard);
+                continue;
+            }
+
+            Path results = firstExisting(shard.resolve("allure-results"), shard.resolve("target").resolve("allure-results"));
+            if (results != null) {
+                copied += copyResults(results, output);
+            }
+
+            Path durations = firstExisting(shard.resolve("durations.properties"),
+                    shard.resolve(".test-history").resolve("durations.properties"));
+            if (durations != null) {
+                // Every shard rewrites the whole file; only values that moved were measured on that shard
+                DurationHistory.load(durations).snapshot().forEach((key, ms) -> {
+                    if (!ms.equals(committed.get(key))) {
+                        remeasured.computeIfAbsent(key, k -> new ArrayList<>()).add(ms);
+                    }
+                });
+            }
+        }
+
+        Map<String, Long> merged = new HashMap<>();
+        remeasured.forEach((key, values) ->
+                merged.put(key, Math.round(values.stream().mapToLong(Long::longValue).average().orElse(0))));
+        base.putAll(merged);
+        base.save();
+
+        System.out.println("[SHARD] Merged " + copied + " Allure result file(s) into " + output);
+        System.out.println("[SHARD] Duration history: " + merged.size() + " updated entr" + (merged.size() == 1 ? "y" : "ies")
+                + " -> " + base.getFile());
+    }
+
+    private static int copyResults(Path source, Path target) throws IOException {
+        int copied = 0;
+        try (Stream<Path> files = Files.walk(source)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Path destination = target.resolve(source.relativize(file).toString());
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(destination);
+                    continue;
+                }
+                if (Files.exists(destination) && SHARED_FILES.contains(file.getFileName().toString())) {
+                    continue;
+                }
+                // Result/attachment names are UUIDs, so anything else never collides across shards
+                Files.copy(file, destination, StandardCopyOption.REPLACE_EXISTING);
+                copied++;
+            }
+        }
+        return copied;
+    }
+
+    private static Path firstExisting(Path... candidates) {
+        for (Path candidate : candidates) {
+            if (Files.exists(candidate)) return candidate;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,248 @@
+package com.framework.execution;
+
+import com.framework.utils.ConfigReader;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SuiteMetrics: Live suite telemetry in OpenMetrics text format, served while the suite runs.
+ *
+ * Counters are always updated (LongAdder: striped, so parallel test threads never contend on one cell);
+ * the HTTP endpoint only starts when metrics.server.enabled=true, on metrics.server.port (GET /metrics).
+ * Point Prometheus (or curl) at it during long Grid runs instead of waiting for the Slack summary.
+ */
+public class SuiteMetrics {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.getProperty("metrics.server.enabled", "false"));
+    private static final int PORT = Integer.parseInt(ConfigReader.getProperty("metrics.server.port", "9464"));
+
+    private static final String CONTENT_TYPE = "application/openmetrics-text; version=1.0.0; charset=utf-8";
+
+    // Upper bounds in seconds
+    private static final double[] SESSION_BUCKETS = {0.5, 1, 2, 5, 10, 20, 30, 60, 120, 300};
+    private static final double[] WAIT_BUCKETS = {0.01, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 20};
+
+    private static final LongAdder testsStarted = new LongAdder();
+    private static final LongAdder testsPassed = new LongAdder();
+    private static final LongAdder testsFailed = new LongAdder();
+    private static final LongAdder testsSkipped = new LongAdder();
+    private static final LongAdder testsRetried = new LongAdder();
+    private static final LongAdder retries = new LongAdder();
+
+    private static final Map<String, LongAdder> activeSessions = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, String> leasedBrowsers = Collections.synchronizedMap(new IdentityHashMap<>());
+    private static final Map<String, Histogram> sessionCreation = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> waits = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> interactions = new ConcurrentHashMap<>();
+
+    private static HttpServer server;
+    private static ExecutorService serverExecutor;
+
+    private SuiteMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    // ==================================================
+    // 1. RECORDING
+    // ==================================================
+
+    public static void testStarted() {
+        testsStarted.increment();
+    }
+
+    public static void testPassed() {
+        testsPassed.increment();
+    }
+
+    public static void testFailed() {
+        testsFailed.increment();
+    }
+
+    public static void testSkipped() {
+        testsSkipped.increment();
+    }
+
+    /**
+     * A failed attempt is about to be re-run; {@code firstRetry} is true the first time a given test is retried.
+     */
+    public static void retryScheduled(boolean firstRetry) {
+        retries.increment();
+        if (firstRetry) testsRetried.increment();
+    }
+
+    public static void sessionLeased(WebDriver driver, String browser) {
+        if (driver == null) return;
+        String label = browser.toLowerCase(Locale.ROOT);
+        leasedBrowsers.put(driver, label);
+        activeSessions.computeIfAbsent(label, k -> new LongAdder()).increment();
+    }
+
+    public static void sessionReturned(WebDriver driver) {
+        if (driver == null) return;
+        String label = leasedBrowsers.remove(driver);
+        if (label != null) activeSessions.get(label).decrement();
+    }
+
+    public static void observeSessionCreation(String browser, long nanos) {
+        sessionCreation.computeIfAbsent(browser.toLowerCase(Locale.ROOT), k -> new Histogram(SESSION_BUCKETS)).observe(nanos);
+    }
+
+    public static void observeWait(String action, long nanos) {
+        waits.computeIfAbsent(action, k -> new Histogram(WAIT_BUCKETS)).observe(nanos);
+    }
+
+    /**
+     * Clicks, typing and reads, kept out of selenium_wait_seconds so its percentiles stay wait-only.
+     */
+    public static void observeInteraction(String action, long nanos) {
+        interactions.computeIfAbsent(action, k -> new Histogram(WAIT_BUCKETS)).observe(nanos);
+    }
+
+    // ==================================================
+    // 2. EXPOSITION
+    // ==================================================
+
+    /**
+     * The current values in OpenMetrics text format.
+     */
+    public static String render() {
+        StringBuilder out = new StringBuilder(2048);
+        counter(out, "selenium_tests_started", "Test method attempts started", testsStarted);
+        counter(out, "selenium_tests_passed", "Test methods passed", testsPassed);
+        counter(out, "selenium_tests_failed", "Test methods failed after all retries", testsFailed);
+        counter(out, "selenium_tests_skipped", "Test methods skipped (retried attempts excluded)", testsSkipped);
+        counter(out, "selenium_tests_retried", "Test methods that needed at least one retry", testsRetried);
+        counter(out, "selenium_test_retries", "Retry attempts scheduled by RetryAnalyzer", retries);
+
+        out.append("# TYPE selenium_active_sessions gauge\n");
+        out.append("# HELP selenium_active_sessions Sessions currently leased to tests\n");
+        new TreeMap<>(activeSessions).forEach((browser, value) ->
+                out.append("selenium_active_sessions{browser=\"").append(escape(browser)).append("\"} ").append(value.sum()).append('\n'));
+
+        histograms(out, "selenium_session_creation_seconds", "Time to create a new WebDriver session", "browser", sessionCreation);
+        histograms(out, "selenium_wait_seconds", "Time spent in BasePage waits", "action", waits);
+        histograms(out, "selenium_interaction_seconds", "Time spent in BasePage interactions (click, type, read)", "action", interactions);
+        out.append("# EOF\n");
+        return out.toString();
+    }
+
+    /**
+     * Starts the endpoint on metrics.server.port when metrics.server.enabled=true.
+     */
+    public static void startServer() {
+        if (!ENABLED) return;
+        try {
+            int port = start(PORT);
+            System.out.println("[METRICS] OpenMetrics endpoint at http://localhost:" + port + "/metrics");
+        } catch (IOException e) {
+            System.out.println("[WARN] Metrics endpoint not started on port " + PORT + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Binds GET /metrics on the given port (0 picks a free one) and returns the bound port.
+     */
+    public static synchronized int start(int port) throws IOException {
+        if (server != null) return server.getAddress().getPort();
+
+        HttpServer created = HttpServer.create(new InetSocketAddress(port), 0);
+        created.createContext("/metrics", exchange -> {
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream stream = exchange.getResponseBody()) {
+                stream.write(body);
+            }
+        });
+        // One daemon thread: scrapes are rare and must never keep the test JVM alive
+        serverExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "metrics-endpoint");
+            t.setDaemon(true);
+            return t;
+        });
+        created.setExecutor(serverExecutor);
+        created.start();
+        server = created;
+        return created.getAddress().getPort();
+    }
+
+    public static synchronized void stop() {
+        if (server == null) return;
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        server = null;
+        serverExecutor = null;
+    }
+
+    private static void counter(StringBuilder out, String name, String help, LongAdder value) {
+        out.append("# TYPE ").append(name).append(" counter\n");
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append(name).append("_total ").append(value.sum()).append('\n');
+    }
+
+    private static void histograms(StringBuilder out, String name, String help, String label, Map<String, Histogram> series) {
+        out.append("# TYPE ").append(name).append(" histogram\n");
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        new TreeMap<>(series).forEach((value, histogram) -> histogram.render(out, name, label + "=\"" + escape(value) + "\""));
+    }
+
+    private static String escape(String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Fixed-bucket histogram; each bucket is its own LongAdder, made cumulative only when rendered.
+     */
+    private static final class Histogram {
+        private final double[] bounds;
+        private final LongAdder[] buckets;
+        private final LongAdder sumNanos = new LongAdder();
+
+        private Histogram(double[] bounds) {
+            this.bounds = bounds;
+            this.buckets = new LongAdder[bounds.length + 1];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        private void observe(long nanos) {
+            double seconds = nanos / (double) TimeUnit.SECONDS.toNanos(1);
+            int i = 0;
+            while (i < bounds.length && seconds > bounds[i]) i++;
+            buckets[i].increment();
+            sumNanos.add(nanos);
+        }
+
+        private void render(StringBuilder out, String name, String labels) {
+            long cumulative = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                cumulative += buckets[i].sum();
+                String le = (i < bounds.length) ? Double.toString(bounds[i]) : "+Inf";
+                out.append(name).append("_bucket{").append(labels).append(",le=\"").append(le).append("\"} ").append(cumulative).append('\n');
+            }
+            // +Inf bucket and count come from the same read so they always agree
+            out.append(name).append("_count{").append(labels).append("} ").append(cumulative).append('\n');
+            out.append(name).append("_sum{").append(labels).append("} ")
+                    .append(String.format(Locale.ROOT, "%.6f", sumNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1))).append('\n');
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.framework.pages;
+
+import com.framework.utils.ConfigReader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ActionBatch: A recorded sequence of page operations (set value, click, expect visible) that runs
+ * in a single async script on web sessions instead of several wire calls per step.
+ *
+ * Set value goes through the element's native value setter and fires focus, input, change and blur;
+ * clicks fire pointer/mouse down and up before click(). React handlers therefore run as they
+ * do for real input. On Appium, for locators the page cannot resolve, or from the first step that
+ * fails in-page, the remaining steps run through the regular BasePage methods.
+ *
+ * Usage (from a page object): batch("Login").setValue(user, "alice", "Username").click(submit, "Login").run();
+ */
+public class ActionBatch {
+
+    private static final long BUDGET_MS = Long.parseLong(ConfigReader.getProperty("batch.budget.ms", "10000"));
+    private static final AtomicLong ids = new AtomicLong();
+
+    // args: steps, budget ms, progress key, callback. Completed steps are mirrored to sessionStorage so a
+    // navigation that kills the script mid-batch does not make the fallback repeat them.
+    private static final String BATCH_SCRIPT =
+            JsLocator.resolverSource() + JsLocator.visibilitySource() +
+            "var steps = arguments[0], deadline = Date.now() + arguments[1], key = arguments[2];" +
+            "var done = arguments[arguments.length - 1];" +
+            "function setValue(el, value) {" +
+            "  el.focus();" +
+            "  var proto = (el instanceof HTMLTextAreaElement) ? HTMLTextAreaElement.prototype" +
+            "      : (el instanceof HTMLSelectElement) ? HTMLSelectElement.prototype : HTMLInputElement.prototype;" +
+            "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);" +
+            "  el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "  el.blur();" +
+            "}" +
+            "function click(el) {" +
+            "  el.scrollIntoView({block: 'center'});" +
+            "  ['pointerdown', 'mousedown', 'pointerup', 'mouseup'].forEach(function (type) {" +
+            "    var Type = (type.indexOf('pointer') === 0 && window.PointerEvent) ? PointerEvent : MouseEvent;" +
+            "    el.dispatchEvent(new Type(type, {bubbles: true, cancelable: true, view: window}));" +
+            "  });" +
+            "  el.click();" +
+            "}" +
+            "function run(i) {" +
+            "  if (i >= steps.length) { sessionStorage.removeItem(key); done({ok: true}); return; }" +
+            "  var step = steps[i], el = resolve(step.locator);" +
+            "  if (!visible(el) || (step.action !== 'expectVisible' && el.disabled)) {" +
+            "    if (Date.now() > deadline) { done({ok: false, step: i, reason: el ? 'not visible or disabled' : 'not found'}); return; }" +
+            "    setTimeout(function () { run(i); }, 50);" +
+            "    return;" +
+            "  }" +
+            "  try {" +
+            "    if (step.action === 'setValue') setValue(el, step.value);" +
+            "    else if (step.action === 'click') click(el);" +
+            "  } catch (e) { done({ok: false, step: i, reason: String(e)}); return; }" +
+            "  sessionStorage.setItem(key, String(i + 1));" +
+            "  run(i + 1);" +
+            "}" +
+            "run(0);";
+
+    private final BasePage page;
+    private final WebDriver driver;
+    private final String name;
+    private final boolean perCommand;
+    private final List<Step> steps = new ArrayList<>();
+
+    ActionBatch(BasePage page, WebDriver driver, String name, boolean perCommand) {
+        this.page = page;
+        this.driver = driver;
+        this.name = name;
+        this.perCommand = perCommand || !(driver instanceof JavascriptExecutor);
+    }
+
+    public ActionBatch setValue(By locator, String value, String elementName) {
+        steps.add(new Step("setValue", locator, value, elementName));
+        return this;
+    }
+
+    public ActionBatch click(By locator, String elementName) {
+        steps.add(new Step("click", locator, null, elementName));
+        return this;
+    }
+
+    /**
+     * Waits (in-page) until the element is visible, e.g. the state change a click should cause.
+     */
+    public ActionBatch expectVisible(By locator) {
+        steps.add(new Step("expectVisible", locator, null, String.valueOf(locator)));
+        return this;
+    }
+
+    public void run() {
+        if (steps.isEmpty()) return;
+        boolean inPage = !perCommand && allResolvableInPage();
+        long start = System.nanoTime();
+        int from = inPage ? runInPage() : 0;
+        for (int i = from; i < steps.size(); i++) {
+            Step step = steps.get(i);
+            try {
+                if (inPage && i == from) {
+                    // The script already waited on this step: only what is left of timeout.explicit remains
+                    page.withinBudget(page.remaining(start), () -> runStep(step));
+                } else {
+                    runStep(step);
+                }
+            } catch (RuntimeException e) {
+                System.err.println("[BATCH] '" + name + "' failed at " + describe(i) + ": " + e.getClass().getSimpleName());
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Runs the whole batch in one script. Returns the index of the first step still to do per command
+     * (steps.size() when everything ran in-page).
+     */
+    private int runInPage() {
+        String key = "__batch_" + ids.incrementAndGet();
+        List<Map<String, Object>> script = new ArrayList<>();
+        for (Step step : steps) {
+            script.add(step.toArgument());
+        }
+
+        Object response;
+        try {
+            response = ((JavascriptExecutor) driver).executeAsyncScript(BATCH_SCRIPT, script, BUDGET_MS, key);
+        } catch (WebDriverException e) {
+            int completed = completedSteps(key);
+            System.out.println("[BATCH] '" + name + "' script interrupted after " + completed + "/" + steps.size()
+                    + " step(s); continuing per command");
+            return completed;
+        }
+
+        Map<?, ?> result = (response instanceof Map) ? (Map<?, ?>) response : null;
+        if (result != null && Boolean.TRUE.equals(result.get("ok"))) {
+            System.out.println("[BATCH] '" + name + "' ran " + steps.size() + " step(s) in one round-trip");
+            return steps.size();
+        }
+
+        int failed = (result != null && result.get("step") instanceof Number) ? ((Number) result.get("step")).intValue() : 0;
+        String reason = (result != null) ? String.valueOf(result.get("reason")) : "unexpected response " + response;
+        System.out.println("[BATCH] '" + name + "' " + describe(failed) + " failed in-page (" + reason + "); continuing per command");
+        return failed;
+    }
+
+    private int completedSteps(String key) {
+        try {
+            Object progress = ((JavascriptExecutor) driver).executeScript(
+                    "var p = sessionStorage.getItem(arguments[0]); sessionStorage.removeItem(arguments[0]); return p;", key);
+            return progress == null ? 0 : Integer.parseInt(progress.toString());
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private void runStep(Step step) {
+        switch (step.action) {
+            case "setValue": page.enterText(step.locator, step.value, step.elementName); break;
+            case "click": page.click(step.locator, step.elementName); break;
+            default: page.waitForVisibility(step.locator);
+        }
+    }
+
+    private boolean allResolvableInPage() {
+        for (Step step : steps) {
+            if (JsLocator.of(step.locator) == null) return false;
+        }
+        return true;
+    }
+
+    private String describe(int index) {
+        Step step = steps.get(index);
+        return "step " + (index + 1) + "/" + steps.size() + " (" + step.action + " " + step.elementName + ")";
+    }
+
+    private static final class Step {
+        private final String action;
+        private final By locator;
+        private final String value;
+        private final String elementName;
+
+        private Step(String action, By locator, String value, String elementName) {
+            this.action = action;
+            this.locator = locator;
+            this.value = value;
+            this.elementName = elementName;
+        }
+
+        private Map<String, Object> toArgument() {
+            Map<String, Object> argument = new LinkedHashMap<>();
+            argument.put("action", action);
+            argument.put("locator", JsLocator.of(locator).toArgument());
+            argument.put("value", value);
+            return argument;
+        }
+    }
+}
@@ -1,22 +1,42 @@
 package com.framework.pages;
 
+import com.framework.driver.HealedLocatorCache;
+import com.framework.driver.SessionTimeouts;
+import com.framework.execution.SuiteMetrics;
 import com.framework.utils.ConfigReader;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.ios.IOSDriver;
 import org.openqa.selenium.*;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 public class BasePage {
+    // "polling" (WebDriverWait) or "observer" (in-page MutationObserver, see ObserverWait)
+    private static final boolean OBSERVER_ENGINE = "observer".equalsIgnoreCase(ConfigReader.getProperty("wait.engine", "polling"));
+
     protected WebDriver driver;
     protected WebDriverWait wait;
+    private final Duration waitTimeout;
+    private Duration waitBudget; // Set while an ActionBatch resumes a step it already waited on in-page
+    private ObserverWait observer;
+    private boolean observerUnavailable;
+    private String urlPattern;
+    private final List<PageSnapshot.Declaration> declared = new ArrayList<>();
+    private final ElementCache elementCache = new ElementCache();
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        int timeout = Integer.parseInt(ConfigReader.getProperty("timeout.explicit", "20"));
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeout));
+        // Parsed once per config snapshot, not on every page instantiation
+        this.waitTimeout = ConfigReader.snapshot().getDuration("timeout.explicit", ChronoUnit.SECONDS, 20);
+        this.wait = new WebDriverWait(driver, waitTimeout);
     }
 
     // ==================================================
@@ -24,11 +44,17 @@ public class BasePage {
     // ==================================================
 
     protected void waitForVisibility(By locator) {
+        PageInteractionEvent event = beginEvent();
+        String outcome = PageInteractionEvent.FAILED;
         try {
-            wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            visibleElement(locator);
+            outcome = PageInteractionEvent.OK;
         } catch (TimeoutException e) {
+            outcome = PageInteractionEvent.TIMEOUT;
             System.err.println("[ERROR] Element not visible after timeout: " + locator);
             throw e;
+        } finally {
+            commitEvent(event, "waitForVisibility", locator, null, outcome);
         }
     }
 
@@ -37,13 +63,23 @@ public class BasePage {
      * Waits for the actual text value to change before proceeding.
      */
     public boolean waitForTextToBePresent(By locator, String expectedText) {
+        PageInteractionEvent event = beginEvent();
+        String outcome = PageInteractionEvent.FAILED;
         try {
+            boolean present;
             if(expectedText.isEmpty()) {
-                return wait.until(ExpectedConditions.invisibilityOfElementLocated(locator));
+                // Absence check: never through the healed-locator cache, a substitute matching nothing would pass at once
+                present = awaitGone(locator);
+            } else {
+                present = withHealing(locator, l -> awaitText(l, expectedText));
             }
-            return wait.until(ExpectedConditions.textToBePresentInElementLocated(locator, expectedText));
+            outcome = present ? PageInteractionEvent.OK : PageInteractionEvent.NOT_MET;
+            return present;
         } catch (TimeoutException e) {
+            outcome = PageInteractionEvent.TIMEOUT;
             return false;
+        } finally {
+            commitEvent(event, "waitForTextToBePresent", locator, expectedText, outcome);
         }
     }
 
@@ -52,7 +88,7 @@ public class BasePage {
      */
     protected boolean isElementDisplayed(By locator) {
         try {
-            wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            visibleElement(locator);
             return true;
         } catch (Exception e) {
             return false;
@@ -60,11 +96,19 @@ public class BasePage {
     }
 
     public boolean waitForUrlToContain(String fraction) {
+        PageInteractionEvent event = beginEvent();
+        String outcome = PageInteractionEvent.FAILED;
         try {
-            return wait.until(ExpectedConditions.urlContains(fraction));
+            boolean matched = awaitUrl(fraction);
+            if (matched) elementCache.invalidate(); // New URL: cached references may belong to the old document
+            outcome = matched ? PageInteractionEvent.OK : PageInteractionEvent.NOT_MET;
+            return matched;
         } catch (TimeoutException e) {
+            outcome = PageInteractionEvent.TIMEOUT;
             System.err.println("[ERROR] URL did not contain '" + fraction + "' | Current URL: " + driver.getCurrentUrl());
             return false;
+        } finally {
+            commitEvent(event, "waitForUrlToContain", "url contains: " + fraction, null, outcome);
         }
     }
 
@@ -73,19 +117,27 @@ public class BasePage {
     // ==================================================
 
     protected void click(By locator, String elementName) {
+        PageInteractionEvent event = beginEvent();
+        String outcome = PageInteractionEvent.FAILED;
         try {
-            WebElement element = wait.until(ExpectedConditions.elementToBeClickable(locator));
+            WebElement element = clickableElement(locator);
             if (!isMobile(driver)) {
                 highlightElement(element);
                 // Lead Move: Move to element before clicking to ensure it's in the viewport
                 new org.openqa.selenium.interactions.Actions(driver).moveToElement(element).perform();
             }
             element.click();
+            outcome = PageInteractionEvent.OK;
             System.out.println("[WEB-ACTION] Clicking on: " + elementName);
         } catch (Exception e) {
-            // Fallback: If standard click fails due to intercept, use JS
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", driver.findElement(locator));
+            // Fallback: If standard click fails due to intercept, use JS (on a fresh reference: the failure may be staleness)
+            elementCache.invalidate();
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", cachedElement(locator));
+            outcome = PageInteractionEvent.JS_FALLBACK;
             System.out.println("[WEB-ACTION] JS Force Clicked: " + elementName);
+        } finally {
+            elementCache.invalidate(); // A click can navigate or re-render the page
+            commitEvent(event, "click", locator, elementName, outcome);
         }
     }
 
@@ -94,18 +146,24 @@ public class BasePage {
     }
 
     protected void enterText(By locator, String text, String elementName) {
+        PageInteractionEvent event = beginEvent();
+        String outcome = PageInteractionEvent.FAILED;
         try {
-            WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+            WebElement element = visibleElement(locator);
             element.clear();
             element.sendKeys(text);
 
             if (isMobile(driver)) {
                 hideKeyboard();
             }
+            outcome = PageInteractionEvent.OK;
             System.out.println("[" + getPlatform() + "] Entered '" + text + "' into: " + elementName);
         } catch (TimeoutException e) {
+            outcome = PageInteractionEvent.TIMEOUT;
             System.err.println("[ERROR] Could not type into " + elementName);
             throw e;
+        } finally {
+            commitEvent(event, "enterText", locator, elementName, outcome);
         }
     }
 
@@ -114,11 +172,18 @@ public class BasePage {
      * trim() prevents "Expected '1' but found ' 1 '" failures.
      */
     protected String getText(By locator) {
+        PageInteractionEvent event = beginEvent();
+        String outcome = PageInteractionEvent.FAILED;
         try {
-            return wait.until(ExpectedConditions.visibilityOfElementLocated(locator)).getText().trim();
+            String text = visibleElement(locator).getText().trim();
+            outcome = PageInteractionEvent.OK;
+            return text;
         } catch (Exception e) {
+            if (e instanceof TimeoutException) outcome = PageInteractionEvent.TIMEOUT;
             System.err.println("[ERROR] Failed to get text from locator: " + locator);
             return "";
+        } finally {
+            commitEvent(event, "getText", locator, null, outcome);
         }
     }
 
@@ -136,6 +201,256 @@ public class BasePage {
         return "WEB";
     }
 
+    // ==================================================
+    // WAIT ENGINE (observer when configured and possible, polling otherwise)
+    // ==================================================
+
+    /**
+     * Polls an explicit wait with the session's implicit wait at 0, so the two never stack
+     * (no extra commands under the default timeout.policy=explicit, where it already is 0).
+     */
+    protected <T> T until(ExpectedCondition<T> condition) {
+        return until(condition, waitBudget());
+    }
+
+    private <T> T until(ExpectedCondition<T> condition, Duration timeout) {
+        WebDriverWait budgetWait = timeout.equals(waitTimeout) ? wait : new WebDriverWait(driver, timeout);
+        return SessionTimeouts.of(driver).withoutImplicitWait(() -> budgetWait.until(condition));
+    }
+
+    /**
+     * Starts a batch of steps that runs in one script round-trip on web (see ActionBatch);
+     * on mobile the steps run one by one through the methods above.
+     */
+    protected ActionBatch batch(String name) {
+        return new ActionBatch(this, driver, name, isMobile(driver));
+    }
+
+    /**
+     * Runs one step with its waits capped at {@code budget} instead of timeout.explicit.
+     */
+    void withinBudget(Duration budget, Runnable step) {
+        Duration previous = waitBudget;
+        waitBudget = budget;
+        try {
+            step.run();
+        } finally {
+            waitBudget = previous;
+        }
+    }
+
+    private Duration waitBudget() {
+        return (waitBudget != null) ? waitBudget : waitTimeout;
+    }
+
+    // ==================================================
+    // LOCATOR CATALOG (see LocatorCatalog, locators/<Page>.properties)
+    // ==================================================
+
+    /**
+     * This page's catalog locator for the session's platform; params fill {0}, {1}, ... in template entries.
+     * Subclasses of a page fall back to the catalog of the page they extend.
+     */
+    protected By locator(String element, String... params) {
+        LocatorTemplate template = LocatorCatalog.template(getClass(), element, LocatorCatalog.Platform.of(driver));
+        return params.length == 0 ? template.resolve() : template.resolve(params);
+    }
+
+    // ==================================================
+    // ELEMENT CACHE (per page instance, see ElementCache)
+    // ==================================================
+
+    /**
+     * The element once it is visible. A cached reference costs one isDisplayed instead of a find plus isDisplayed.
+     */
+    private WebElement visibleElement(By locator) {
+        return elementCache.resolve(locator, l -> withHealing(l, this::awaitVisible),
+                e -> until(d -> e.isDisplayed() ? e : null));
+    }
+
+    private WebElement clickableElement(By locator) {
+        return elementCache.resolve(locator, l -> withHealing(l, x -> until(ExpectedConditions.elementToBeClickable(x))),
+                e -> until(d -> e.isDisplayed() && e.isEnabled() ? e : null));
+    }
+
+    /**
+     * The element as found (no wait, no visibility check), from this page's cache when an earlier step already found it.
+     * For script arguments such as JS clicks; a stale reference surfaces from the script call itself.
+     */
+    protected WebElement cachedElement(By locator) {
+        return elementCache.resolve(locator, driver::findElement, e -> e);
+    }
+
+    /**
+     * Hit/miss/stale counts for this page object's cache.
+     */
+    public ElementCache getElementCache() {
+        return elementCache;
+    }
+
+    // ==================================================
+    // PAGE SNAPSHOTS (declared elements, read in one call)
+    // ==================================================
+
+    /**
+     * Declares an element for snapshot(), e.g. declare("cartBadge", cartBadge) or declare("username", usernameField, "value").
+     */
+    protected void declare(String name, By locator, String... attributes) {
+        declared.removeIf(d -> d.name.equals(name));
+        declared.add(new PageSnapshot.Declaration(name, locator, attributes));
+    }
+
+    /**
+     * Captures every declared element as it is right now: one script on web, a read per element on mobile.
+     */
+    public PageSnapshot snapshot() {
+        return PageSnapshot.capture(driver, getClass().getSimpleName(), declared, null, 0, isMobile(driver));
+    }
+
+    /**
+     * Waits (up to the explicit timeout) for the named declared element to be visible, then captures the page.
+     * On web the wait and the capture are the same script, so a page load plus its assertions costs one command.
+     */
+    public PageSnapshot snapshotWhenVisible(String name) {
+        PageSnapshot.Declaration ready = declared.stream().filter(d -> d.name.equals(name)).findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("'" + name + "' is not declared on " + getClass().getSimpleName()));
+
+        if (isMobile(driver) || JsLocator.of(ready.locator) == null) {
+            try {
+                waitForVisibility(ready.locator);
+            } catch (TimeoutException e) {
+                // Capture anyway: the snapshot shows the state the assertion will report
+            }
+            return snapshot();
+        }
+        return PageSnapshot.capture(driver, getClass().getSimpleName(), declared, name, waitTimeout.toMillis(), false);
+    }
+
+    private WebElement awaitVisible(By locator) {
+        long start = System.nanoTime();
+        ObserverWait engine = observer(locator);
+        if (engine != null) {
+            try {
+                return engine.untilVisible(locator);
+            } catch (ObserverWait.Unavailable e) {
+                disableObserver(e);
+            } catch (TimeoutException e) {
+                return lookupAfterMiss(locator, WebElement::isDisplayed, e);
+            }
+        }
+        return until(ExpectedConditions.visibilityOfElementLocated(locator), remaining(start));
+    }
+
+    private Boolean awaitGone(By locator) {
+        long start = System.nanoTime();
+        ObserverWait engine = observer(locator);
+        if (engine != null) {
+            try {
+                return engine.untilGone(locator);
+            } catch (ObserverWait.Unavailable e) {
+                disableObserver(e);
+            }
+        }
+        return until(ExpectedConditions.invisibilityOfElementLocated(locator), remaining(start));
+    }
+
+    private Boolean awaitText(By locator, String expectedText) {
+        long start = System.nanoTime();
+        ObserverWait engine = observer(locator);
+        if (engine != null) {
+            try {
+                return engine.untilTextPresent(locator, expectedText);
+            } catch (ObserverWait.Unavailable e) {
+                disableObserver(e);
+            } catch (TimeoutException e) {
+                lookupAfterMiss(locator, element -> element.getText().contains(expectedText), e);
+                return true;
+            }
+        }
+        return until(ExpectedConditions.textToBePresentInElementLocated(locator, expectedText), remaining(start));
+    }
+
+    private boolean awaitUrl(String fraction) {
+        long start = System.nanoTime();
+        ObserverWait engine = observer(null);
+        if (engine != null) {
+            try {
+                return engine.untilUrlContains(fraction);
+            } catch (ObserverWait.Unavailable e) {
+                disableObserver(e);
+            }
+        }
+        return until(ExpectedConditions.urlContains(fraction), remaining(start));
+    }
+
+    /**
+     * Observer waits resolve the locator inside the page, out of Healenium's reach. Before a miss is reported
+     * the element is looked up once through the driver, which heals a drifted locator, and checked once.
+     */
+    private WebElement lookupAfterMiss(By locator, Predicate<WebElement> condition, TimeoutException miss) {
+        try {
+            WebElement element = SessionTimeouts.of(driver).withoutImplicitWait(() -> driver.findElement(locator));
+            if (condition.test(element)) return element;
+        } catch (WebDriverException e) {
+            miss.addSuppressed(e);
+        }
+        throw miss;
+    }
+
+    /**
+     * What is left of the explicit timeout for a wait that started at {@code startNanos}, e.g. when the
+     * observer engine gave up part-way and the wait continues by polling.
+     */
+    Duration remaining(long startNanos) {
+        Duration left = waitBudget().minusNanos(System.nanoTime() - startNanos);
+        return left.isNegative() ? Duration.ZERO : left;
+    }
+
+    /**
+     * The observer engine for this wait, or null to poll (engine off, mobile, or a locator the page cannot resolve).
+     */
+    private ObserverWait observer(By locator) {
+        if (!OBSERVER_ENGINE || observerUnavailable || isMobile(driver)) return null;
+        if (locator != null && JsLocator.of(locator) == null) return null;
+        if (waitBudget != null) return new ObserverWait(driver, waitBudget);
+        if (observer == null) observer = new ObserverWait(driver, waitTimeout);
+        return observer;
+    }
+
+    private void disableObserver(ObserverWait.Unavailable reason) {
+        observerUnavailable = true;
+        System.out.println("[WARN] Observer waits unavailable on " + getClass().getSimpleName() + ", polling instead: " + reason.getMessage());
+    }
+
+    private PageInteractionEvent beginEvent() {
+        PageInteractionEvent event = new PageInteractionEvent();
+        event.startNanos = System.nanoTime();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends the JFR event and fills in its fields only if a recording will keep it.
+     */
+    private void commitEvent(PageInteractionEvent event, String action, Object target, String elementName, String outcome) {
+        event.end();
+        long nanos = System.nanoTime() - event.startNanos;
+        if (action.startsWith("wait")) { // waitForVisibility, waitForTextToBePresent, waitForUrlToContain
+            SuiteMetrics.observeWait(action, nanos);
+        } else {
+            SuiteMetrics.observeInteraction(action, nanos);
+        }
+        if (!event.shouldCommit()) return;
+
+        event.action = action;
+        event.locator = String.valueOf(target);
+        event.elementName = elementName;
+        event.page = getClass().getSimpleName();
+        event.platform = getPlatform();
+        event.outcome = outcome;
+        event.commit();
+    }
+
     private void hideKeyboard() {
         if (driver instanceof AndroidDriver) {
             try {
@@ -144,6 +459,50 @@ public class BasePage {
         }
     }
 
+    /**
+     * Runs a positive lookup (visible, clickable, text) through the local healed-locator cache. A cached
+     * healed selector is only waited on if it matches right now (one zero-wait findElements), so a stale
+     * substitute never costs a timeout before the original is tried; it is invalidated once the original
+     * finds the element without it. Elements found by Healenium are checked for healing.
+     */
+    private <T> T withHealing(By locator, Function<By, T> lookup) {
+        By healed = null;
+        if (!HealedLocatorCache.isEmpty() && !isMobile(driver)) {
+            healed = HealedLocatorCache.lookup(urlPattern(), locator);
+            if (healed != null && matchesNow(healed)) {
+                try {
+                    return lookup.apply(healed);
+                } catch (TimeoutException | NoSuchElementException e) {
+                    HealedLocatorCache.invalidate(urlPattern(), locator);
+                    healed = null;
+                }
+            }
+        }
+
+        T result = lookup.apply(locator);
+        if (healed != null && !matchesNow(healed)) {
+            HealedLocatorCache.invalidate(urlPattern(), locator);
+        }
+        if (result instanceof WebElement) {
+            HealedLocatorCache.learn(driver, this::urlPattern, locator, (WebElement) result, getClass().getSimpleName());
+        }
+        return result;
+    }
+
+    private boolean matchesNow(By locator) {
+        return SessionTimeouts.of(driver).withoutImplicitWait(() -> HealedLocatorCache.matchesNow(driver, locator));
+    }
+
+    /**
+     * URL pattern of the page this object was created on, fetched once per page instance.
+     */
+    private String urlPattern() {
+        if (urlPattern == null) {
+            urlPattern = HealedLocatorCache.toPattern(driver.getCurrentUrl());
+        }
+        return urlPattern;
+    }
+
     private void highlightElement(WebElement element) {
         if (!isMobile(driver)) {
             try {
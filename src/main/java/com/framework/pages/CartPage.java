@@ -1,8 +1,5 @@
 package com.framework.pages;
 
-import io.appium.java_client.AppiumBy;
-import io.appium.java_client.android.AndroidDriver;
-import io.appium.java_client.ios.IOSDriver;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
@@ -18,15 +15,9 @@ public class CartPage extends BasePage {
     }
 
     private void initLocators() {
-        boolean isNativeMobile = (driver instanceof AndroidDriver) || (driver instanceof IOSDriver);
-
-        if (isNativeMobile) {
-            cartItems = AppiumBy.accessibilityId("test-Item");
-            checkoutButton = AppiumBy.accessibilityId("test-CHECKOUT");
-        } else {
-            cartItems = By.className("cart_item");
-            checkoutButton = By.id("checkout");
-        }
+        // Per-platform entries in locators/CartPage.properties
+        cartItems = locator("cartItems");
+        checkoutButton = locator("checkoutButton");
     }
 
     /**
@@ -34,9 +25,8 @@ public class CartPage extends BasePage {
      * Uses the inherited getText() which includes the 20s safety wait.
      */
     public boolean isItemInCart(String productName) {
-        // Use a locator that finds the text anywhere in the name div
-        String xpath = String.format("//div[@class='inventory_item_name' and contains(normalize-space(text()), '%s')]", productName);
-        return isElementDisplayed(By.xpath(xpath));
+        // Catalog template: finds the text anywhere in the name div (built once per product name)
+        return isElementDisplayed(locator("itemName", productName));
     }
 
     /**
@@ -44,7 +34,7 @@ public class CartPage extends BasePage {
      */
     public void clickCheckout() {
         waitForVisibility(checkoutButton);
-        // Standard click
+        // Standard click (reuses the element the visibility wait found, see ElementCache)
         click(checkoutButton, "Checkout Button");
 
         // Sync check: Did we actually move?
@@ -53,7 +43,7 @@ public class CartPage extends BasePage {
         // Fallback if the UI is stuck
         if (!moved) {
             System.out.println("[WARN] Standard Checkout click failed. Forcing JS click.");
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", driver.findElement(checkoutButton));
+            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", cachedElement(checkoutButton));
         }
     }
 }
@@ -1,6 +1,5 @@
 package com.framework.pages;
 
-import io.appium.java_client.AppiumBy;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.ios.IOSDriver;
 import org.openqa.selenium.By;
@@ -25,24 +24,18 @@ public class DashboardPage extends BasePage {
     }
 
     /**
-     * Initializes locators dynamically based on the active platform.
+     * Resolves locators for the active platform from locators/DashboardPage.properties.
      */
     private void initLocators() {
-        boolean isNativeMobile = (driver instanceof AndroidDriver) || (driver instanceof IOSDriver);
+        cartIcon = locator("cartIcon");
+        menuButton = locator("menuButton");
+        logoutLink = locator("logoutLink");
+        pageTitle = locator("pageTitle");
 
-        if (isNativeMobile) {
-            // MOBILE (Accessibility IDs)
-            cartIcon = AppiumBy.accessibilityId("test-Cart");
-            menuButton = AppiumBy.accessibilityId("test-Menu");
-            logoutLink = AppiumBy.accessibilityId("test-LOGOUT");
-            pageTitle = By.xpath("//android.widget.TextView[@text='PRODUCTS']");
-        } else {
-            // WEB (Standard CSS/ID)
-            cartIcon = By.className("shopping_cart_link");
-            menuButton = By.id("react-burger-menu-btn");
-            logoutLink = By.id("logout_sidebar_link");
-            pageTitle = By.className("title");
-        }
+        // Snapshot elements (see snapshot() / snapshotWhenVisible())
+        declare("cartIcon", cartIcon);
+        declare("menuButton", menuButton);
+        declare("pageTitle", pageTitle);
     }
 
     // ==================================================
@@ -53,11 +46,8 @@ public class DashboardPage extends BasePage {
      * Verifies visibility of the Shopping Cart icon.
      */
     public boolean isCartIconDisplayed() {
-        try {
-            return driver.findElement(cartIcon).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        // Explicit wait: with timeout.policy=explicit there is no implicit wait to cover a raw findElement
+        return isElementDisplayed(cartIcon);
     }
 
     /**
@@ -75,7 +65,7 @@ public class DashboardPage extends BasePage {
         } else {
             // Web: Use JavascriptExecutor to bypass potential animation overlays
             try {
-                WebElement logoutBtn = wait.until(ExpectedConditions.presenceOfElementLocated(logoutLink));
+                WebElement logoutBtn = until(ExpectedConditions.presenceOfElementLocated(logoutLink));
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", logoutBtn);
                 System.out.println("[WEB-ACTION] Force Clicked Logout via JS");
             } catch (Exception e) {
@@ -0,0 +1,95 @@
+package com.framework.pages;
+
+import com.framework.utils.ConfigReader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * ElementCache: WebElement references found by one page-object instance, keyed by locator.
+ *
+ * A hit skips the findElement: the cached reference only gets the check the caller needed anyway (e.g. isDisplayed
+ * for a visibility wait). A StaleElementReferenceException means the document changed, so the whole cache is dropped
+ * and the element is found again. BasePage also drops it after clicks and URL changes (both can replace the document).
+ * Page objects are used from a single thread, so instances are not synchronized; only the suite counters are shared.
+ */
+public final class ElementCache {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.getProperty("element.cache.enabled", "true"));
+
+    private static final LongAdder totalHits = new LongAdder();
+    private static final LongAdder totalMisses = new LongAdder();
+    private static final LongAdder totalStale = new LongAdder();
+
+    private final Map<By, WebElement> elements = new HashMap<>();
+    private long hits;
+    private long misses;
+    private long stale;
+
+    /**
+     * Returns the cached element after the validation check, or finds (and caches) it with the lookup.
+     *
+     * @param lookup   finds the element, including any wait (called on a miss or after a stale hit)
+     * @param validate the check for a cached reference; must throw StaleElementReferenceException when it is dead
+     */
+    public WebElement resolve(By locator, Function<By, WebElement> lookup, UnaryOperator<WebElement> validate) {
+        if (!ENABLED) return lookup.apply(locator);
+
+        WebElement cached = elements.get(locator);
+        if (cached != null) {
+            try {
+                WebElement valid = validate.apply(cached);
+                hits++;
+                totalHits.increment();
+                return valid;
+            } catch (StaleElementReferenceException e) {
+                stale++;
+                totalStale.increment();
+                invalidate();
+            }
+        }
+
+        misses++;
+        totalMisses.increment();
+        WebElement found = lookup.apply(locator);
+        if (found != null) elements.put(locator, found);
+        return found;
+    }
+
+    /**
+     * Drops every cached reference (navigation, re-render or a stale element seen).
+     */
+    public void invalidate() {
+        elements.clear();
+    }
+
+    public int size() {
+        return elements.size();
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getStale() {
+        return stale;
+    }
+
+    public static String stats() {
+        long hit = totalHits.sum();
+        long lookups = hit + totalMisses.sum();
+        return String.format(Locale.ROOT, "Element cache [%s] Hits: %d | Misses: %d | Stale: %d | Hit rate: %.1f%%",
+                ENABLED ? "on" : "off", hit, totalMisses.sum(), totalStale.sum(), lookups == 0 ? 0.0 : 100.0 * hit / lookups);
+    }
+}
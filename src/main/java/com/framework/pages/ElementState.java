@@ -0,0 +1,66 @@
+package com.framework.pages;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ElementState: What one declared element looked like when a PageSnapshot was taken.
+ * Absent elements are not visible and have empty text and no attributes.
+ */
+public final class ElementState {
+
+    private final String name;
+    private final boolean present;
+    private final boolean visible;
+    private final String text;
+    private final Map<String, String> attributes;
+
+    ElementState(String name, boolean present, boolean visible, String text, Map<String, String> attributes) {
+        this.name = name;
+        this.present = present;
+        this.visible = present && visible;
+        this.text = (text == null) ? "" : text;
+        this.attributes = Collections.unmodifiableMap(new LinkedHashMap<>(attributes));
+    }
+
+    static ElementState absent(String name) {
+        return new ElementState(name, false, false, "", Collections.emptyMap());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isPresent() {
+        return present;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Rendered text, trimmed (empty when hidden, as with WebElement.getText()).
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Value of an attribute declared for this element, or null when it is unset or was not declared.
+     */
+    public String getAttribute(String attribute) {
+        return attributes.get(attribute);
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-20s | present=%-5s | visible=%-5s | text='%s'%s", name, present, visible, text,
+                attributes.isEmpty() ? "" : " | " + attributes);
+    }
+}
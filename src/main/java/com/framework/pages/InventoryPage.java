@@ -1,9 +1,7 @@
 package com.framework.pages;
 
+import com.framework.driver.SessionTimeouts;
 import com.framework.utils.ConfigReader;
-import io.appium.java_client.AppiumBy;
-import io.appium.java_client.android.AndroidDriver;
-import io.appium.java_client.ios.IOSDriver;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
@@ -22,21 +20,15 @@ public class InventoryPage extends BasePage {
     }
 
     private void initLocators() {
-        boolean isNativeMobile = (driver instanceof AndroidDriver) || (driver instanceof IOSDriver);
-
-        if (isNativeMobile) {
-            if (driver instanceof AndroidDriver) {
-                productsHeader = By.xpath("//android.widget.TextView[@text='PRODUCTS']");
-            } else {
-                productsHeader = AppiumBy.accessibilityId("PRODUCTS");
-            }
-            cartBadge = AppiumBy.accessibilityId("test-Cart badge");
-            cartLink = AppiumBy.accessibilityId("test-Cart");
-        } else {
-            productsHeader = By.className("title");
-            cartBadge = By.className("shopping_cart_badge");
-            cartLink = By.className("shopping_cart_link");
-        }
+        // Per-platform entries in locators/InventoryPage.properties
+        productsHeader = locator("productsHeader");
+        cartBadge = locator("cartBadge");
+        cartLink = locator("cartLink");
+
+        // Snapshot elements (see snapshot() / snapshotWhenVisible())
+        declare("productsHeader", productsHeader);
+        declare("cartBadge", cartBadge);
+        declare("cartLink", cartLink);
     }
 
     // ==================================================
@@ -53,16 +45,25 @@ public class InventoryPage extends BasePage {
     }
 
     public int getCartItemCount() {
-        // Disable implicit wait for this instant check — the badge either exists or it doesn't.
-        // With a 10s implicit wait, findElement hangs the full timeout on an empty cart.
-        driver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(0));
+        // Instant check — the badge either exists or it doesn't. Under an implicit wait, findElement would
+        // hang the full timeout on an empty cart; the zero-implicit block costs no commands when it is already 0.
+        return SessionTimeouts.of(driver).withoutImplicitWait(() -> {
+            try {
+                return Integer.parseInt(driver.findElement(cartBadge).getText());
+            } catch (Exception e) {
+                return 0;
+            }
+        });
+    }
+
+    /**
+     * Cart count as captured in a snapshot (no WebDriver commands): 0 when the badge is absent.
+     */
+    public int getCartItemCount(PageSnapshot snapshot) {
         try {
-            return Integer.parseInt(driver.findElement(cartBadge).getText());
-        } catch (Exception e) {
+            return Integer.parseInt(snapshot.getText("cartBadge"));
+        } catch (NumberFormatException e) {
             return 0;
-        } finally {
-            int implicit = Integer.parseInt(ConfigReader.getProperty("timeout.implicit", "10"));
-            driver.manage().timeouts().implicitlyWait(java.time.Duration.ofSeconds(implicit));
         }
     }
 
@@ -76,11 +77,11 @@ public class InventoryPage extends BasePage {
 
     public void addToCart(String productName) {
         String formattedName = productName.toLowerCase().replace(" ", "-");
-        By addButton = By.id("add-to-cart-" + formattedName);
-        By removeButton = By.id("remove-" + formattedName);
+        By addButton = locator("addToCart", formattedName);
+        By removeButton = locator("removeFromCart", formattedName);
 
         // 1. Wait and capture the element in one go
-        WebElement element = wait.until(ExpectedConditions.elementToBeClickable(addButton));
+        WebElement element = until(ExpectedConditions.elementToBeClickable(addButton));
 
         // 2. Log the action (Optional, but great for Allure reports)
         System.out.println("[WEB-ACTION] Force Clicking Add to Cart: " + productName);
@@ -92,10 +93,23 @@ public class InventoryPage extends BasePage {
         waitForVisibility(removeButton);
     }
 
+    /**
+     * Adds several products in one batch: each Add click is confirmed by its Remove button appearing.
+     */
+    public void addAllToCart(String... productNames) {
+        ActionBatch batch = batch("Add to Cart x" + productNames.length);
+        for (String productName : productNames) {
+            String formattedName = productName.toLowerCase().replace(" ", "-");
+            batch.click(locator("addToCart", formattedName), "Add to Cart: " + productName)
+                 .expectVisible(locator("removeFromCart", formattedName));
+        }
+        batch.run();
+    }
+
     public void removeFromCart(String productName) {
         // Use the same ID pattern as addToCart — reliable, no XPath traversal
         String formattedName = productName.toLowerCase().replace(" ", "-");
-        By removeButton = By.id("remove-" + formattedName);
+        By removeButton = locator("removeFromCart", formattedName);
 
         click(removeButton, "Remove Button: " + productName);
         // No DOM-invisibility wait here — getCartItemCount() is now a direct find (no timeout),
@@ -113,7 +127,7 @@ public class InventoryPage extends BasePage {
         if (!moved) {
             System.out.println("[WARN] Standard click failed to navigate. Forcing JS click on Cart Icon.");
             try {
-                WebElement element = driver.findElement(cartLink);
+                WebElement element = cachedElement(cartLink);
                 ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
                 waitForUrlToContain("cart.html");
             } catch (Exception e) {
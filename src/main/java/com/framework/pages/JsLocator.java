@@ -0,0 +1,95 @@
+package com.framework.pages;
+
+import org.openqa.selenium.By;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JsLocator: A Selenium By translated into something an in-page script can resolve
+ * (id, css, class, name, tag or xpath). Appium and custom locators have no translation.
+ */
+public final class JsLocator {
+
+    private final String using;
+    private final String value;
+
+    private JsLocator(String using, String value) {
+        this.using = using;
+        this.value = value;
+    }
+
+    /**
+     * Returns the script-side form of a locator, or null when the page cannot resolve it itself.
+     * Relies on the stable "By.strategy: value" form of Selenium's built-in locators.
+     */
+    public static JsLocator of(By locator) {
+        if (locator == null) return null;
+        String text = locator.toString();
+        int colon = text.indexOf(": ");
+        if (!text.startsWith("By.") || colon < 0) return null;
+
+        String value = text.substring(colon + 2);
+        switch (text.substring(3, colon)) {
+            case "id": return new JsLocator("id", value);
+            case "cssSelector": return new JsLocator("css", value);
+            case "className": return new JsLocator("class", value);
+            case "name": return new JsLocator("name", value);
+            case "tagName": return new JsLocator("tag", value);
+            case "xpath": return new JsLocator("xpath", value);
+            default: return null;
+        }
+    }
+
+    /**
+     * Script argument: {using, value}.
+     */
+    public Map<String, String> toArgument() {
+        Map<String, String> argument = new LinkedHashMap<>();
+        argument.put("using", using);
+        argument.put("value", value);
+        return argument;
+    }
+
+    /**
+     * The script function that resolves a toArgument() map to the first matching element (or null).
+     */
+    static String resolverSource() {
+        return "function resolve(l) {" +
+               "  switch (l.using) {" +
+               "    case 'id': return document.getElementById(l.value);" +
+               "    case 'css': return document.querySelector(l.value);" +
+               "    case 'class': return document.getElementsByClassName(l.value)[0] || null;" +
+               "    case 'name': return document.getElementsByName(l.value)[0] || null;" +
+               "    case 'tag': return document.getElementsByTagName(l.value)[0] || null;" +
+               "    case 'xpath': return document.evaluate(l.value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;" +
+               "  }" +
+               "  return null;" +
+               "}";
+    }
+
+    /**
+     * The script function visible(el): connected, rendered, not hidden and not fully transparent.
+     */
+    static String visibilitySource() {
+        return "function visible(el) {" +
+               "  if (!el || !el.isConnected) return false;" +
+               "  var style = getComputedStyle(el);" +
+               "  return style.visibility !== 'hidden' && style.display !== 'none' && parseFloat(style.opacity) > 0" +
+               "      && el.getClientRects().length > 0;" +
+               "}";
+    }
+
+    public String getUsing() {
+        return using;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return using + "=" + value;
+    }
+}
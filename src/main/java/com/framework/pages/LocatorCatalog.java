@@ -0,0 +1,237 @@
+package com.framework.pages;
+
+import com.framework.utils.ConfigReader;
+import io.appium.java_client.AppiumBy;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.ios.IOSDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * LocatorCatalog: Page-object locators loaded from src/main/resources/locators/&lt;Page&gt;.properties and compiled
+ * once per JVM into immutable By objects shared by every thread.
+ *
+ * Entry format: element[.web|.android|.ios|.mobile]=strategy:value, e.g. {@code loginButton.web=id:login-button}.
+ * A platform looks up its own key, then .mobile (Android and iOS), then the bare element name.
+ * Values may hold placeholders {0}, {1}, ... and are then resolved through a LocatorTemplate.
+ * Web XPaths are rewritten to ID/CSS by LocatorOptimizer where that is exactly equivalent (locator.optimize=true).
+ */
+public final class LocatorCatalog {
+
+    public enum Platform {
+        WEB, ANDROID, IOS;
+
+        public static Platform of(WebDriver driver) {
+            if (driver instanceof AndroidDriver) return ANDROID;
+            if (driver instanceof IOSDriver) return IOS;
+            return WEB;
+        }
+
+        private String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private static final Set<String> STRATEGIES = Set.of("id", "css", "xpath", "className", "name", "tagName",
+            "linkText", "partialLinkText", "accessibilityId", "androidUiAutomator", "iOSPredicate");
+    private static final boolean OPTIMIZE = Boolean.parseBoolean(ConfigReader.getProperty("locator.optimize", "true"));
+
+    // page -> platform -> element -> compiled locator (or template); each page is compiled on first use
+    private static final Map<String, Map<Platform, Map<String, LocatorTemplate>>> pages = new ConcurrentHashMap<>();
+    // page-object class -> its own and its superclasses' names that have a catalog, nearest first
+    private static final Map<Class<?>, List<String>> chains = new ConcurrentHashMap<>();
+    private static final AtomicInteger rewrites = new AtomicInteger();
+
+    private LocatorCatalog() {}
+
+    /**
+     * The locator for an element without placeholders.
+     */
+    public static By get(String page, String element, Platform platform) {
+        return template(page, element, platform).resolve();
+    }
+
+    /**
+     * The locator for an element whose entry has placeholders, e.g. get("InventoryPage", "addToCart", WEB, "sauce-labs-backpack").
+     */
+    public static By get(String page, String element, Platform platform, String... params) {
+        return template(page, element, platform).resolve(params);
+    }
+
+    public static LocatorTemplate template(String page, String element, Platform platform) {
+        LocatorTemplate template = entries(page, platform).get(element);
+        if (template == null) {
+            throw new IllegalArgumentException("[LOCATORS] No '" + element + "' locator for " + page + " on " + platform
+                    + " (add it to locators/" + page + ".properties)");
+        }
+        return template;
+    }
+
+    /**
+     * The template for a page object: its own catalog first, then the catalogs of the page classes it extends,
+     * so a subclass without a file (or without that element) keeps its parent's entries.
+     */
+    public static LocatorTemplate template(Class<?> pageClass, String element, Platform platform) {
+        List<String> chain = chains.computeIfAbsent(pageClass, LocatorCatalog::catalogChain);
+        for (String page : chain) {
+            LocatorTemplate template = entries(page, platform).get(element);
+            if (template != null) return template;
+        }
+        // Fails naming the nearest catalog (or the missing resource when the hierarchy has none)
+        return template(chain.isEmpty() ? pageClass.getSimpleName() : chain.get(0), element, platform);
+    }
+
+    /**
+     * Every locator a page has on a platform (templates included), in file order.
+     */
+    public static Map<String, LocatorTemplate> entries(String page, Platform platform) {
+        return pages.computeIfAbsent(page, LocatorCatalog::compile).get(platform);
+    }
+
+    /**
+     * Number of XPaths rewritten to ID/CSS so far.
+     */
+    public static int getRewrites() {
+        return rewrites.get();
+    }
+
+    // ==================================================
+    // 1. LOADING & COMPILING
+    // ==================================================
+
+    private static Map<Platform, Map<String, LocatorTemplate>> compile(String page) {
+        Properties properties = load(page);
+        Map<Platform, Map<String, LocatorTemplate>> compiled = new LinkedHashMap<>();
+        for (Platform platform : Platform.values()) {
+            Map<String, LocatorTemplate> locators = new LinkedHashMap<>();
+            for (String element : elementNames(properties)) {
+                String spec = lookup(properties, element, platform);
+                if (spec != null) locators.put(element, compileEntry(page, element, platform, spec));
+            }
+            compiled.put(platform, Collections.unmodifiableMap(locators));
+        }
+        return Collections.unmodifiableMap(compiled);
+    }
+
+    private static List<String> catalogChain(Class<?> pageClass) {
+        List<String> chain = new ArrayList<>();
+        for (Class<?> type = pageClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            if (LocatorCatalog.class.getClassLoader().getResource("locators/" + type.getSimpleName() + ".properties") != null) {
+                chain.add(type.getSimpleName());
+            }
+        }
+        return chain;
+    }
+
+    private static Properties load(String page) {
+        String resource = "locators/" + page + ".properties";
+        Properties properties = new OrderedProperties();
+        try (InputStream in = LocatorCatalog.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) throw new IllegalStateException("[LOCATORS] Missing classpath resource " + resource);
+            properties.load(new InputStreamReader(in, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("[LOCATORS] Could not read " + resource, e);
+        }
+        return properties;
+    }
+
+    private static Iterable<String> elementNames(Properties properties) {
+        Map<String, Boolean> names = new LinkedHashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            names.put(stripPlatform(key), Boolean.TRUE);
+        }
+        return names.keySet();
+    }
+
+    private static String stripPlatform(String key) {
+        int dot = key.lastIndexOf('.');
+        if (dot < 0) return key;
+        String suffix = key.substring(dot + 1);
+        boolean platform = suffix.equals("mobile");
+        for (Platform p : Platform.values()) platform |= suffix.equals(p.key());
+        return platform ? key.substring(0, dot) : key;
+    }
+
+    private static String lookup(Properties properties, String element, Platform platform) {
+        String spec = properties.getProperty(element + "." + platform.key());
+        if (spec == null && platform != Platform.WEB) spec = properties.getProperty(element + ".mobile");
+        if (spec == null) spec = properties.getProperty(element);
+        return spec;
+    }
+
+    private static LocatorTemplate compileEntry(String page, String element, Platform platform, String spec) {
+        int colon = spec.indexOf(':');
+        if (colon <= 0) {
+            throw new IllegalStateException("[LOCATORS] " + page + "." + element + " must be strategy:value, got '" + spec + "'");
+        }
+        String strategy = spec.substring(0, colon).trim();
+        String value = spec.substring(colon + 1).trim();
+        if (!STRATEGIES.contains(strategy)) {
+            throw new IllegalStateException("[LOCATORS] Unknown strategy '" + strategy + "' in " + page + "." + element);
+        }
+
+        LocatorTemplate template = new LocatorTemplate(strategy, value);
+        if (OPTIMIZE && platform == Platform.WEB && strategy.equals("xpath") && !template.hasParameters()) {
+            By optimized = LocatorOptimizer.optimize(value);
+            if (optimized != null) {
+                rewrites.incrementAndGet();
+                System.out.println("[LOCATORS] " + page + "." + element + ": " + value + " -> " + optimized);
+                return LocatorTemplate.of(optimized);
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Builds a By for a catalog strategy name.
+     */
+    static By toBy(String strategy, String value) {
+        switch (strategy) {
+            case "id": return By.id(value);
+            case "css": return By.cssSelector(value);
+            case "xpath": return By.xpath(value);
+            case "className": return By.className(value);
+            case "name": return By.name(value);
+            case "tagName": return By.tagName(value);
+            case "linkText": return By.linkText(value);
+            case "partialLinkText": return By.partialLinkText(value);
+            case "accessibilityId": return AppiumBy.accessibilityId(value);
+            case "androidUiAutomator": return AppiumBy.androidUIAutomator(value);
+            case "iOSPredicate": return AppiumBy.iOSNsPredicateString(value);
+            default: throw new IllegalStateException("[LOCATORS] Unknown strategy '" + strategy + "'");
+        }
+    }
+
+    /**
+     * Properties that remember insertion order, so entries() follows the file.
+     */
+    private static final class OrderedProperties extends Properties {
+        private final Map<String, Boolean> order = new LinkedHashMap<>();
+
+        @Override
+        public synchronized Object put(Object key, Object value) {
+            order.put(String.valueOf(key), Boolean.TRUE);
+            return super.put(key, value);
+        }
+
+        @Override
+        public Set<String> stringPropertyNames() {
+            return Collections.unmodifiableSet(order.keySet());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.framework.pages;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LocatorOptimizer: Rewrites simple web XPaths into the ID or CSS locator browsers resolve natively.
+ *
+ * Only rewrites that select exactly the same elements are made: descendant/child steps over lowercase tag names
+ * (or *) with attribute equality, contains() and starts-with() predicates joined by 'and'. Anything else
+ * (text(), positions, axes, unions, functions, native mobile class names) is left as XPath.
+ */
+public final class LocatorOptimizer {
+
+    private static final String VALUE = "(?:'([^'\"\\\\\\[\\]]*)'|\"([^'\"\\\\\\[\\]]*)\")";
+    private static final Pattern STEP = Pattern.compile("\\G(//|/)([a-z][a-z0-9-]*|\\*)(?:\\[([^\\[\\]]+)\\])?");
+    private static final Pattern EQUALS = Pattern.compile("@([a-z][a-z0-9_-]*)\\s*=\\s*" + VALUE);
+    private static final Pattern FUNCTION = Pattern.compile("(contains|starts-with)\\(\\s*@([a-z][a-z0-9_-]*)\\s*,\\s*" + VALUE + "\\s*\\)");
+    private static final Pattern ID_ONLY = Pattern.compile("//\\*\\[@id\\s*=\\s*" + VALUE + "\\]");
+
+    private LocatorOptimizer() {}
+
+    /**
+     * The equivalent ID or CSS locator, or null when the XPath cannot be rewritten safely.
+     */
+    public static By optimize(String xpath) {
+        if (xpath == null) return null;
+        String expression = xpath.trim();
+        if (!expression.startsWith("//")) return null; // absolute paths anchor at the root, CSS would not
+
+        Matcher id = ID_ONLY.matcher(expression);
+        if (id.matches()) return By.id(value(id, 1));
+
+        StringBuilder css = new StringBuilder();
+        Matcher step = STEP.matcher(expression);
+        int end = 0;
+        while (step.find()) {
+            if (step.start() != end) return null;
+            String conditions = toCss(step.group(3));
+            if (conditions == null) return null;
+
+            if (end > 0) css.append(step.group(1).equals("//") ? " " : " > ");
+            String tag = step.group(2);
+            css.append(tag.equals("*") && !conditions.isEmpty() ? "" : tag).append(conditions);
+            end = step.end();
+        }
+        return (end == expression.length() && end > 0) ? By.cssSelector(css.toString()) : null;
+    }
+
+    /**
+     * Other ways to write the same locator, for benchmarking strategies against each other (the original first).
+     */
+    public static Map<String, By> equivalents(By locator) {
+        Map<String, By> candidates = new LinkedHashMap<>();
+        candidates.put("original", locator);
+        JsLocator parsed = JsLocator.of(locator);
+        if (parsed == null) return candidates;
+
+        String value = parsed.getValue();
+        boolean quotable = !value.contains("'") && !value.contains("\"") && !value.contains("\\");
+        switch (parsed.getUsing()) {
+            case "id":
+                if (quotable) {
+                    candidates.put("css", By.cssSelector("[id='" + value + "']"));
+                    candidates.put("xpath", By.xpath("//*[@id='" + value + "']"));
+                }
+                break;
+            case "class":
+                if (quotable && !value.contains(" ")) {
+                    candidates.put("css", By.cssSelector("." + value));
+                    candidates.put("xpath", By.xpath("//*[contains(concat(' ', normalize-space(@class), ' '), ' " + value + " ')]"));
+                }
+                break;
+            case "xpath":
+                By optimized = optimize(value);
+                if (optimized != null) candidates.put("optimized", optimized);
+                break;
+            default:
+                break;
+        }
+        return candidates;
+    }
+
+    private static String toCss(String predicate) {
+        if (predicate == null) return "";
+        List<String> selectors = new ArrayList<>();
+        for (String condition : predicate.trim().split("\\s+and\\s+")) {
+            Matcher equals = EQUALS.matcher(condition.trim());
+            Matcher function = FUNCTION.matcher(condition.trim());
+            if (equals.matches()) {
+                selectors.add("[" + equals.group(1) + "='" + value(equals, 2) + "']");
+            } else if (function.matches()) {
+                String operator = function.group(1).equals("contains") ? "*=" : "^=";
+                String value = value(function, 3);
+                if (value.isEmpty()) return null; // contains(@a, '') matches any element with @a; [a*=''] matches none
+                selectors.add("[" + function.group(2) + operator + "'" + value + "']");
+            } else {
+                return null;
+            }
+        }
+        return String.join("", selectors);
+    }
+
+    /** The quoted value captured by VALUE starting at the given group (single- or double-quoted alternative). */
+    private static String value(Matcher matcher, int group) {
+        return matcher.group(group) != null ? matcher.group(group) : matcher.group(group + 1);
+    }
+}
@@ -0,0 +1,101 @@
+package com.framework.pages;
+
+import org.openqa.selenium.By;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * LocatorTemplate: One compiled LocatorCatalog entry. Without placeholders it is a single shared By;
+ * with placeholders ({0}, {1}, ...) the pattern is split once and each distinct argument list is built once
+ * and then reused (product names and similar parameters repeat across a suite).
+ */
+public final class LocatorTemplate {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(\\d+)}");
+    private static final int MAX_CACHED = 512;
+
+    private final String strategy;
+    private final String pattern;
+    private final List<String> literals = new ArrayList<>();   // literal text before each placeholder, plus the tail
+    private final List<Integer> indexes = new ArrayList<>();   // argument index of each placeholder
+    private final By fixed;
+    private final Map<List<String>, By> resolved = new ConcurrentHashMap<>();
+
+    LocatorTemplate(String strategy, String pattern) {
+        this.strategy = strategy;
+        this.pattern = pattern;
+        Matcher matcher = PLACEHOLDER.matcher(pattern);
+        int last = 0;
+        while (matcher.find()) {
+            literals.add(pattern.substring(last, matcher.start()));
+            indexes.add(Integer.parseInt(matcher.group(1)));
+            last = matcher.end();
+        }
+        literals.add(pattern.substring(last));
+        this.fixed = indexes.isEmpty() ? LocatorCatalog.toBy(strategy, pattern) : null;
+    }
+
+    private LocatorTemplate(By locator) {
+        this.strategy = "optimized";
+        this.pattern = locator.toString();
+        this.literals.add(pattern);
+        this.fixed = locator;
+    }
+
+    static LocatorTemplate of(By locator) {
+        return new LocatorTemplate(locator);
+    }
+
+    public boolean hasParameters() {
+        return fixed == null;
+    }
+
+    /**
+     * The compiled locator of an entry without placeholders.
+     */
+    public By resolve() {
+        if (fixed == null) throw new IllegalArgumentException("[LOCATORS] '" + pattern + "' needs " + arity() + " parameter(s)");
+        return fixed;
+    }
+
+    public By resolve(String... params) {
+        if (fixed != null) return fixed;
+        if (params.length < arity()) {
+            throw new IllegalArgumentException("[LOCATORS] '" + pattern + "' needs " + arity() + " parameter(s), got " + params.length);
+        }
+        List<String> key = Arrays.asList(params);
+        By locator = resolved.get(key);
+        if (locator != null) return locator;
+
+        StringBuilder value = new StringBuilder(literals.get(0));
+        for (int i = 0; i < indexes.size(); i++) {
+            value.append(params[indexes.get(i)]).append(literals.get(i + 1));
+        }
+        locator = LocatorCatalog.toBy(strategy, value.toString());
+        if (resolved.size() < MAX_CACHED) resolved.put(List.copyOf(key), locator);
+        return locator;
+    }
+
+    public String getStrategy() {
+        return strategy;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    private int arity() {
+        return indexes.stream().mapToInt(i -> i + 1).max().orElse(0);
+    }
+
+    @Override
+    public String toString() {
+        return fixed != null ? fixed.toString() : strategy + ":" + pattern;
+    }
+}
@@ -1,10 +1,10 @@
 package com.framework.pages;
 
-import io.appium.java_client.AppiumBy;
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.ios.IOSDriver;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
 
 public class LoginPage extends BasePage {
 
@@ -19,24 +19,19 @@ public class LoginPage extends BasePage {
     }
 
     /**
-     * Initializes locators based on the active Driver (Web vs. Mobile).
+     * Resolves locators for the active platform from locators/LoginPage.properties
+     * (accessibility IDs on the native app, IDs/CSS on web).
      */
     private void initLocators() {
-        boolean isNativeMobile = (driver instanceof AndroidDriver) || (driver instanceof IOSDriver);
+        usernameField = locator("username");
+        passwordField = locator("password");
+        loginButton = locator("loginButton");
+        errorMessage = locator("errorMessage");
 
-        if (isNativeMobile) {
-            // SWAG LABS NATIVE APP LOCATORS (Accessibility IDs)
-            usernameField = AppiumBy.accessibilityId("test-Username");
-            passwordField = AppiumBy.accessibilityId("test-Password");
-            loginButton = AppiumBy.accessibilityId("test-LOGIN");
-            errorMessage = AppiumBy.accessibilityId("test-Error message");
-        } else {
-            // SWAG LABS WEB LOCATORS (Standard IDs/CSS)
-            usernameField = By.id("user-name");
-            passwordField = By.id("password");
-            loginButton = By.id("login-button");
-            errorMessage = By.cssSelector("h3[data-test='error']");
-        }
+        // Snapshot elements (see snapshot() / snapshotWhenVisible()); the password value is never captured
+        declare("username", usernameField, "value");
+        declare("loginButton", loginButton);
+        declare("errorMessage", errorMessage);
     }
 
     // ==================================================
@@ -47,10 +42,12 @@ public class LoginPage extends BasePage {
      * Performs a unified login action.
      */
     public void login(String username, String password) {
-        // We use the 3-parameter version to maintain descriptive logs.
-        enterText(usernameField, username, "Username Field");
-        enterText(passwordField, password, "Password Field");
-        click(loginButton, "Login Button");
+        // One round-trip on web; falls back to enterText/click (with their descriptive logs) on mobile or failure.
+        batch("Login")
+                .setValue(usernameField, username, "Username Field")
+                .setValue(passwordField, password, "Password Field")
+                .click(loginButton, "Login Button")
+                .run();
     }
 
     /**
@@ -65,16 +62,18 @@ public class LoginPage extends BasePage {
             if (driver instanceof AndroidDriver) {
                 try {
                     text = driver.findElement(errorMessage)
-                            .findElement(By.className("android.widget.TextView"))
+                            .findElement(locator("errorText"))
                             .getText();
                 } catch (Exception e) {
                     System.out.println("[WARN] Failed to find child TextView on Android");
                 }
             } else if (driver instanceof IOSDriver) {
                 try {
-                    text = driver.findElement(errorMessage).getAttribute("label");
+                    // One lookup for both attributes: getText() above already cached the element when it was visible
+                    WebElement error = cachedElement(errorMessage);
+                    text = error.getAttribute("label");
                     if (text == null || text.isEmpty()) {
-                        text = driver.findElement(errorMessage).getAttribute("name");
+                        text = error.getAttribute("name");
                     }
                 } catch (Exception e) {
                     System.out.println("[WARN] Failed to retrieve iOS attribute");
@@ -88,10 +87,7 @@ public class LoginPage extends BasePage {
      * Verifies if the login button is visible, used for session state validation.
      */
     public boolean isLoginButtonDisplayed() {
-        try {
-            return driver.findElement(loginButton).isDisplayed();
-        } catch (Exception e) {
-            return false;
-        }
+        // Explicit wait: with timeout.policy=explicit there is no implicit wait to cover a raw findElement
+        return isElementDisplayed(loginButton);
     }
 }
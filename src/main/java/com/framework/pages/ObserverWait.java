@@ -0,0 +1,152 @@
+package com.framework.pages;
+
+import com.framework.utils.ConfigReader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * ObserverWait: Event-driven waits. One async script installs a MutationObserver and answers as soon
+ * as the condition holds, instead of WebDriverWait re-checking over HTTP every poll interval.
+ *
+ * Used by BasePage when wait.engine=observer. Throws Unavailable when the session cannot run
+ * the script (the caller then polls), and TimeoutException exactly like WebDriverWait.
+ */
+public class ObserverWait {
+
+    // In-page wait per script call; the session script timeout (30s by default) must stay above it
+    private static final long SLICE_MS = Long.parseLong(ConfigReader.getProperty("wait.observer.slice.ms", "10000"));
+    // Consecutive script failures tolerated while the page navigates (document unloaded mid-wait)
+    private static final int MAX_SCRIPT_FAILURES = 3;
+
+    // args: locator, condition, expected text, budget ms, callback
+    private static final String WATCH_SCRIPT =
+            JsLocator.resolverSource() + JsLocator.visibilitySource() +
+            "var locator = arguments[0], condition = arguments[1], expected = arguments[2], budget = arguments[3];" +
+            "var done = arguments[arguments.length - 1];" +
+            "function check() {" +
+            "  if (condition === 'url') return location.href.indexOf(expected) >= 0 ? true : null;" +
+            "  var el = resolve(locator);" +
+            "  if (condition === 'visible') return visible(el) ? el : null;" +
+            "  if (condition === 'gone') return visible(el) ? null : true;" +
+            "  if (condition === 'text') return (el && (el.innerText || el.textContent || '').indexOf(expected) >= 0) ? true : null;" +
+            "  throw new Error('unknown condition ' + condition);" +
+            "}" +
+            "var finished = false, observer, poll, timer;" +
+            "function finish(result) {" +
+            "  if (finished) return;" +
+            "  finished = true;" +
+            "  if (observer) observer.disconnect();" +
+            "  clearInterval(poll); clearTimeout(timer);" +
+            "  removeEventListener('popstate', evaluate); removeEventListener('hashchange', evaluate);" +
+            "  done(result);" +
+            "}" +
+            "function evaluate() {" +
+            "  try { var value = check(); if (value !== null) finish({status: 'ok', value: value}); }" +
+            "  catch (e) { finish({status: 'error', message: String(e)}); }" +
+            "}" +
+            "evaluate();" +
+            "if (!finished) {" +
+            "  observer = new MutationObserver(evaluate);" +
+            "  observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});" +
+            "  addEventListener('popstate', evaluate); addEventListener('hashchange', evaluate);" +
+            // CSS transitions/animations can change visibility without a DOM mutation
+            "  poll = setInterval(evaluate, 250);" +
+            "  timer = setTimeout(function () { finish({status: 'timeout'}); }, budget);" +
+            "}";
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private int scriptCalls;
+
+    public ObserverWait(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+    }
+
+    public WebElement untilVisible(By locator) {
+        return (WebElement) await("visible", locator, null, "visibility of element located by " + locator);
+    }
+
+    public boolean untilGone(By locator) {
+        return Boolean.TRUE.equals(await("gone", locator, null, "invisibility of element located by " + locator));
+    }
+
+    public boolean untilTextPresent(By locator, String text) {
+        return Boolean.TRUE.equals(await("text", locator, text, "text ('" + text + "') to be present in element found by " + locator));
+    }
+
+    public boolean untilUrlContains(String fraction) {
+        return Boolean.TRUE.equals(await("url", null, fraction, "url to contain \"" + fraction + "\""));
+    }
+
+    /**
+     * Script round-trips made by this engine so far (one per wait unless it outlasts a slice or a navigation).
+     */
+    public int getScriptCalls() {
+        return scriptCalls;
+    }
+
+    private Object await(String condition, By locator, String expected, String description) {
+        JsLocator jsLocator = null;
+        if (locator != null) {
+            jsLocator = JsLocator.of(locator);
+            if (jsLocator == null) throw new Unavailable("No in-page form for " + locator);
+        }
+        if (!(driver instanceof JavascriptExecutor)) throw new Unavailable("Driver cannot execute scripts");
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        int failures = 0;
+        while (true) {
+            long remainingMs = Math.max(0, (deadline - System.nanoTime()) / 1_000_000);
+            Object response;
+            try {
+                scriptCalls++;
+                response = ((JavascriptExecutor) driver).executeAsyncScript(WATCH_SCRIPT,
+                        jsLocator == null ? null : jsLocator.toArgument(), condition, expected, Math.min(remainingMs, SLICE_MS));
+                failures = 0;
+            } catch (WebDriverException e) {
+                // A navigation unloads the document under the script; anything persistent means scripts are off
+                if (++failures >= MAX_SCRIPT_FAILURES) {
+                    throw new Unavailable("Observer script failed: " + firstLine(e.getMessage()));
+                }
+                if (System.nanoTime() >= deadline) throw timeout(description);
+                continue;
+            }
+
+            if (!(response instanceof Map)) throw new Unavailable("Unexpected observer response: " + response);
+            Map<?, ?> result = (Map<?, ?>) response;
+            String status = String.valueOf(result.get("status"));
+            if ("ok".equals(status)) return result.get("value");
+            if ("error".equals(status)) throw new Unavailable("Observer script error: " + result.get("message"));
+
+            if (System.nanoTime() >= deadline) throw timeout(description);
+        }
+    }
+
+    private TimeoutException timeout(String description) {
+        return new TimeoutException("Expected condition failed: waiting for " + description
+                + " (observer wait, " + timeout.getSeconds() + "s)");
+    }
+
+    private static String firstLine(String message) {
+        if (message == null) return "unknown";
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+
+    /**
+     * The observer engine cannot serve this wait on this session; poll instead.
+     */
+    public static class Unavailable extends RuntimeException {
+        public Unavailable(String message) {
+            super(message);
+        }
+    }
+}
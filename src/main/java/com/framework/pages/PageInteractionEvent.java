@@ -0,0 +1,53 @@
+package com.framework.pages;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * PageInteractionEvent: Java Flight Recorder event for one BasePage interaction or wait.
+ *
+ * Duration comes from JFR (begin/end). String fields are only filled in when the event will
+ * actually be committed, so with no recording running an interaction pays for one small
+ * allocation and two no-op calls. Read back with JfrAnalyzer (or JDK Mission Control).
+ */
+@Name(PageInteractionEvent.NAME)
+@Label("Page Interaction")
+@Category({"Selenium POM", "Page Objects"})
+@Description("A BasePage click, text entry, text read or wait, with its locator and outcome")
+@StackTrace(false)
+public class PageInteractionEvent extends Event {
+
+    public static final String NAME = "com.framework.PageInteraction";
+
+    // Outcomes
+    public static final String OK = "OK";
+    public static final String JS_FALLBACK = "JS_FALLBACK";
+    public static final String TIMEOUT = "TIMEOUT";
+    public static final String NOT_MET = "NOT_MET";
+    public static final String FAILED = "FAILED";
+
+    @Label("Action")
+    String action;
+
+    @Label("Locator")
+    String locator;
+
+    @Label("Element Name")
+    String elementName;
+
+    @Label("Page Object")
+    String page;
+
+    @Label("Platform")
+    String platform;
+
+    @Label("Outcome")
+    String outcome;
+
+    // Not recorded by JFR: feeds the live wait histogram (SuiteMetrics) whether or not a recording runs
+    transient long startNanos;
+}
@@ -0,0 +1,265 @@
+package com.framework.pages;
+
+import com.framework.driver.SessionTimeouts;
+import com.framework.utils.ConfigReader;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PageSnapshot: Immutable state of every element a page object declared, captured in one script execution
+ * on web sessions (presence, visibility, text and the declared attributes).
+ *
+ * Assertions against a snapshot cost no further WebDriver commands. The last snapshot taken on a thread is
+ * kept so TestListener can attach it to a failed test without touching the browser again.
+ */
+public final class PageSnapshot {
+
+    // Same bound as ObserverWait: one script must finish well inside the session's script timeout
+    private static final long SLICE_MS = Long.parseLong(ConfigReader.getProperty("wait.observer.slice.ms", "10000"));
+    private static final ThreadLocal<PageSnapshot> last = new ThreadLocal<>();
+
+    // args: declarations, index of the element to wait for (-1 = capture now), budget ms, callback
+    private static final String CAPTURE_SCRIPT =
+            JsLocator.resolverSource() + JsLocator.visibilitySource() +
+            "var declared = arguments[0], ready = arguments[1], deadline = Date.now() + arguments[2];" +
+            "var done = arguments[arguments.length - 1];" +
+            "function attribute(el, a) {" +
+            "  var p = el[a];" +
+            "  if (p !== undefined && p !== null && typeof p !== 'object' && typeof p !== 'function') return String(p);" +
+            "  return el.getAttribute(a);" +
+            "}" +
+            "function capture() {" +
+            "  return declared.map(function (d) {" +
+            "    var el = resolve(d.locator);" +
+            "    if (!el) return {present: false};" +
+            "    var shown = visible(el), attrs = {};" +
+            "    d.attributes.forEach(function (a) { attrs[a] = attribute(el, a); });" +
+            "    return {present: true, visible: shown, text: shown ? (el.innerText || '').trim() : '', attributes: attrs};" +
+            "  });" +
+            "}" +
+            "(function poll() {" +
+            "  if (ready < 0 || visible(resolve(declared[ready].locator)) || Date.now() > deadline) {" +
+            "    done({url: location.href, elements: capture()});" +
+            "    return;" +
+            "  }" +
+            "  setTimeout(poll, 50);" +
+            "})();";
+
+    private final String page;
+    private final String url;
+    private final Instant capturedAt;
+    private final int commands;
+    private final Map<String, ElementState> elements;
+
+    private PageSnapshot(String page, String url, int commands, Map<String, ElementState> elements) {
+        this.page = page;
+        this.url = url;
+        this.capturedAt = Instant.now();
+        this.commands = commands;
+        this.elements = Collections.unmodifiableMap(elements);
+    }
+
+    // ==================================================
+    // 1. CAPTURE
+    // ==================================================
+
+    /**
+     * An element a page object declared for snapshots: its name, locator and the attributes to read.
+     */
+    static final class Declaration {
+        final String name;
+        final By locator;
+        final List<String> attributes;
+
+        Declaration(String name, By locator, String... attributes) {
+            this.name = name;
+            this.locator = locator;
+            this.attributes = List.of(attributes);
+        }
+    }
+
+    /**
+     * Captures the declared elements in one script when every locator translates (web), otherwise reads them
+     * one at a time. The in-page path waits up to budgetMs for the 'readyName' element to be visible first.
+     */
+    static PageSnapshot capture(WebDriver driver, String page, List<Declaration> declared,
+                                String readyName, long budgetMs, boolean perCommand) {
+        PageSnapshot snapshot = (perCommand || !allResolvableInPage(declared) || !(driver instanceof JavascriptExecutor))
+                ? readPerCommand(driver, page, declared)
+                : readInPage(driver, page, declared, readyName, Math.min(budgetMs, SLICE_MS));
+        last.set(snapshot);
+        return snapshot;
+    }
+
+    private static PageSnapshot readInPage(WebDriver driver, String page, List<Declaration> declared, String readyName, long budgetMs) {
+        List<Map<String, Object>> arguments = new ArrayList<>();
+        int ready = -1;
+        for (Declaration declaration : declared) {
+            if (declaration.name.equals(readyName)) ready = arguments.size();
+            Map<String, Object> argument = new LinkedHashMap<>();
+            argument.put("locator", JsLocator.of(declaration.locator).toArgument());
+            argument.put("attributes", declaration.attributes);
+            arguments.add(argument);
+        }
+
+        Object response;
+        try {
+            response = ((JavascriptExecutor) driver).executeAsyncScript(CAPTURE_SCRIPT, arguments, ready, budgetMs);
+        } catch (WebDriverException e) {
+            System.out.println("[WARN] Snapshot script failed on " + page + ", reading elements one by one: " + e.getClass().getSimpleName());
+            return readPerCommand(driver, page, declared);
+        }
+        Object captured = (response instanceof Map) ? ((Map<?, ?>) response).get("elements") : null;
+        if (!(captured instanceof List) || ((List<?>) captured).size() != declared.size()) {
+            return readPerCommand(driver, page, declared);
+        }
+
+        List<?> states = (List<?>) captured;
+        Map<String, ElementState> elements = new LinkedHashMap<>();
+        for (int i = 0; i < declared.size(); i++) {
+            String name = declared.get(i).name;
+            Map<?, ?> state = (Map<?, ?>) states.get(i);
+            if (!Boolean.TRUE.equals(state.get("present"))) {
+                elements.put(name, ElementState.absent(name));
+                continue;
+            }
+            Map<String, String> attributes = new LinkedHashMap<>();
+            Object values = state.get("attributes");
+            if (values instanceof Map) {
+                ((Map<?, ?>) values).forEach((k, v) -> attributes.put(String.valueOf(k), v == null ? null : String.valueOf(v)));
+            }
+            elements.put(name, new ElementState(name, true, Boolean.TRUE.equals(state.get("visible")),
+                    (String) state.get("text"), attributes));
+        }
+        return new PageSnapshot(page, String.valueOf(((Map<?, ?>) response).get("url")), 1, elements);
+    }
+
+    /**
+     * Mobile and untranslatable locators: one findElements per element (zero implicit wait, so absent
+     * elements answer at once) plus the reads for present ones.
+     */
+    private static PageSnapshot readPerCommand(WebDriver driver, String page, List<Declaration> declared) {
+        Map<String, ElementState> elements = new LinkedHashMap<>();
+        int[] commands = {0};
+        SessionTimeouts.of(driver).withoutImplicitWait(() -> {
+            for (Declaration declaration : declared) {
+                elements.put(declaration.name, read(driver, declaration, commands));
+            }
+            return null;
+        });
+        return new PageSnapshot(page, null, commands[0], elements);
+    }
+
+    private static ElementState read(WebDriver driver, Declaration declaration, int[] commands) {
+        try {
+            commands[0]++;
+            List<WebElement> found = driver.findElements(declaration.locator);
+            if (found.isEmpty()) return ElementState.absent(declaration.name);
+
+            WebElement element = found.get(0);
+            boolean visible = element.isDisplayed();
+            String text = visible ? element.getText().trim() : "";
+            Map<String, String> attributes = new LinkedHashMap<>();
+            for (String attribute : declaration.attributes) {
+                attributes.put(attribute, element.getAttribute(attribute));
+            }
+            commands[0] += 2 + declaration.attributes.size();
+            return new ElementState(declaration.name, true, visible, text, attributes);
+        } catch (WebDriverException e) {
+            // Stale or gone between the find and the reads: report it as absent rather than failing the capture
+            return ElementState.absent(declaration.name);
+        }
+    }
+
+    private static boolean allResolvableInPage(List<Declaration> declared) {
+        for (Declaration declaration : declared) {
+            if (JsLocator.of(declaration.locator) == null) return false;
+        }
+        return true;
+    }
+
+    // ==================================================
+    // 2. ASSERTION ACCESSORS
+    // ==================================================
+
+    /**
+     * State of a declared element. Throws for names the page never declared, so typos fail loudly.
+     */
+    public ElementState get(String name) {
+        ElementState state = elements.get(name);
+        if (state == null) {
+            throw new IllegalArgumentException("'" + name + "' is not declared on " + page + " (declared: " + elements.keySet() + ")");
+        }
+        return state;
+    }
+
+    public boolean isPresent(String name) {
+        return get(name).isPresent();
+    }
+
+    public boolean isVisible(String name) {
+        return get(name).isVisible();
+    }
+
+    public String getText(String name) {
+        return get(name).getText();
+    }
+
+    public String getAttribute(String name, String attribute) {
+        return get(name).getAttribute(attribute);
+    }
+
+    public Map<String, ElementState> getElements() {
+        return elements;
+    }
+
+    public String getPage() {
+        return page;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Instant getCapturedAt() {
+        return capturedAt;
+    }
+
+    /**
+     * WebDriver commands the capture took: 1 for the in-page path.
+     */
+    public int getCommands() {
+        return commands;
+    }
+
+    /**
+     * The last snapshot taken on this thread, or null.
+     */
+    public static PageSnapshot last() {
+        return last.get();
+    }
+
+    public static void clearLast() {
+        last.remove();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        text.append(page).append(" @ ").append(capturedAt);
+        if (url != null) text.append(" | ").append(url);
+        text.append('\n');
+        elements.values().forEach(state -> text.append(state).append('\n'));
+        return text.toString();
+    }
+}
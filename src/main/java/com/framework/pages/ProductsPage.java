@@ -12,12 +12,16 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
  */
 public class ProductsPage extends BasePage {
 
-    private final By title     = By.className("title");
-    private final By cartBadge = By.className("shopping_cart_badge");
-    private final By cartLink  = By.className("shopping_cart_link");
+    private final By title;
+    private final By cartBadge;
+    private final By cartLink;
 
     public ProductsPage(WebDriver driver) {
         super(driver);
+        // Entries in locators/ProductsPage.properties
+        title = locator("title");
+        cartBadge = locator("cartBadge");
+        cartLink = locator("cartLink");
     }
 
     public boolean isProductsPageDisplayed() {
@@ -30,10 +34,10 @@ public class ProductsPage extends BasePage {
 
     public void addToCart(String productName) {
         String formattedName = productName.toLowerCase().replace(" ", "-");
-        By addButton    = By.id("add-to-cart-" + formattedName);
-        By removeButton = By.id("remove-" + formattedName);
+        By addButton    = locator("addToCart", formattedName);
+        By removeButton = locator("removeFromCart", formattedName);
 
-        WebElement element = wait.until(ExpectedConditions.elementToBeClickable(addButton));
+        WebElement element = until(ExpectedConditions.elementToBeClickable(addButton));
         ((JavascriptExecutor) driver).executeScript("arguments[0].click();", element);
         waitForVisibility(removeButton);
     }
@@ -2,6 +2,7 @@ package com.framework.services;
 
 import com.framework.pages.InventoryPage;
 import com.framework.pages.LoginPage;
+import com.framework.pages.PageSnapshot;
 
 /**
  * LoginService: Orchestrates the login flow by coordinating LoginPage and InventoryPage.
@@ -28,6 +29,15 @@ public class LoginService {
         return inventoryPage.isProductsHeaderDisplayed();
     }
 
+    /**
+     * Performs login and captures the products page once its header renders (one script on web),
+     * so callers can assert on header, cart badge and cart link without further round-trips.
+     */
+    public PageSnapshot loginAndCapture(String username, String password) {
+        loginPage.login(username, password);
+        return inventoryPage.snapshotWhenVisible("productsHeader");
+    }
+
     /**
      * Returns the error message text shown when login fails.
      */
@@ -0,0 +1,505 @@
+package com.framework.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AiClient: Asynchronous chat-completions client behind AiHelper.
+ *
+ * A prompt is answered from the first source that has it:
+ *   1. the reservoir of pre-generated values for that prompt (matched case- and whitespace-insensitively, so
+ *      "invalid email" never gets values generated for "valid email"), refilled in the background with one
+ *      multi-value request once it runs low;
+ *   2. the on-disk cache, content-addressed by SHA-256(model + prompt) and valid for ai.cache.ttl.hours,
+ *      so repeated runs do not call the API again;
+ *   3. the API. Prompts arriving within ai.batch.window.ms share one request (a numbered list answered
+ *      as a JSON array), and at most ai.max.concurrent requests are in flight on one shared HttpClient.
+ *
+ * Batches whose answer is not a usable JSON array are retried one prompt at a time.
+ */
+public class AiClient implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String SYSTEM_PROMPT = "You are a test data generator. Return ONLY the raw data string requested.";
+    private static final long REFILL_BACKOFF_MS = 30_000;
+
+    private static volatile AiClient shared;
+
+    private final URI endpoint;
+    private final String apiKey;
+    private final String model;
+    private final Semaphore permits;
+    private final int batchSize;
+    private final long batchWindowMs;
+    private final Path cacheDir;
+    private final Duration cacheTtl;
+    private final int reservoirSize;
+    private final Duration timeout;
+
+    private final HttpClient http;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService dispatcher;
+    private final Map<String, Reservoir> reservoirs = new ConcurrentHashMap<>();
+
+    private final Object batchLock = new Object();
+    private List<Pending> pending = new ArrayList<>();
+    private ScheduledFuture<?> flushTimer;
+
+    // Metrics
+    private final LongAdder apiCalls = new LongAdder();
+    private final LongAdder promptsSent = new LongAdder();
+    private final LongAdder batchedPrompts = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder reservoirHits = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    /**
+     * @param cacheDir      null (or a zero TTL) disables the disk cache
+     * @param reservoirSize values kept per prompt class; 0 disables the reservoir
+     */
+    public AiClient(URI endpoint, String apiKey, String model, int maxConcurrent, int batchSize, long batchWindowMs,
+                    Path cacheDir, Duration cacheTtl, int reservoirSize, Duration timeout) {
+        this.endpoint = endpoint;
+        this.apiKey = apiKey;
+        this.model = model;
+        this.permits = new Semaphore(Math.max(1, maxConcurrent), true);
+        this.batchSize = Math.max(1, batchSize);
+        this.batchWindowMs = Math.max(0, batchWindowMs);
+        this.cacheDir = (cacheTtl == null || cacheTtl.isZero() || cacheTtl.isNegative()) ? null : cacheDir;
+        this.cacheTtl = cacheTtl;
+        this.reservoirSize = Math.max(0, reservoirSize);
+        this.timeout = timeout;
+        this.http = HttpClient.newBuilder().connectTimeout(timeout).build();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "ai-batcher");
+            t.setDaemon(true);
+            return t;
+        });
+        this.dispatcher = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "ai-dispatch-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * The client used by AiHelper, created on first use from the ai.* keys and OPENAI_API_KEY.
+     */
+    public static AiClient shared() {
+        if (shared == null) {
+            synchronized (AiClient.class) {
+                if (shared == null) {
+                    shared = new AiClient(
+                            URI.create(ConfigReader.getProperty("ai.endpoint", "https://api.openai.com/v1/chat/completions")),
+                            System.getenv("OPENAI_API_KEY"),
+                            ConfigReader.getProperty("ai.model", "gpt-4o-mini"),
+                            Integer.parseInt(ConfigReader.getProperty("ai.max.concurrent", "4")),
+                            Integer.parseInt(ConfigReader.getProperty("ai.batch.size", "8")),
+                            Long.parseLong(ConfigReader.getProperty("ai.batch.window.ms", "50")),
+                            Paths.get(ConfigReader.getProperty("ai.cache.dir",
+                                    System.getProperty("user.home") + "/.cache/selenium-pom/ai-cache")),
+                            Duration.ofHours(Long.parseLong(ConfigReader.getProperty("ai.cache.ttl.hours", "24"))),
+                            Integer.parseInt(ConfigReader.getProperty("ai.reservoir.size", "10")),
+                            Duration.ofSeconds(Long.parseLong(ConfigReader.getProperty("ai.timeout.seconds", "20"))));
+                }
+            }
+        }
+        return shared;
+    }
+
+    // ==================================================
+    // 1. GENERATION
+    // ==================================================
+
+    /**
+     * Answers the prompt from the reservoir, the disk cache or the API (batched with concurrent prompts).
+     */
+    public CompletableFuture<String> generateAsync(String prompt) {
+        if (reservoirSize > 0) {
+            String value = reservoirs.computeIfAbsent(reservoirKey(prompt), k -> new Reservoir(prompt)).poll();
+            if (value != null) {
+                reservoirHits.increment();
+                return CompletableFuture.completedFuture(value);
+            }
+        }
+
+        List<String> cached = cacheGet(prompt);
+        if (cached != null && !cached.isEmpty()) {
+            cacheHits.increment();
+            return CompletableFuture.completedFuture(cached.get(0));
+        }
+        return enqueue(prompt);
+    }
+
+    /**
+     * Blocking variant of {@link #generateAsync(String)}.
+     */
+    public String generate(String prompt) {
+        try {
+            return generateAsync(prompt).get(timeout.toMillis() * 2 + batchWindowMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("[AI] Interrupted while generating '" + prompt + "'", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("[AI] Generation failed for '" + prompt + "': " + unwrap(e).getMessage(), unwrap(e));
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("[AI] No answer for '" + prompt + "' within " + timeout.multipliedBy(2), e);
+        }
+    }
+
+    /**
+     * Starts filling the reservoir for this prompt ahead of the first test that needs it.
+     */
+    public void prime(String prompt) {
+        if (reservoirSize > 0) {
+            reservoirs.computeIfAbsent(reservoirKey(prompt), k -> new Reservoir(prompt)).refill();
+        }
+    }
+
+    /**
+     * Values currently waiting in the reservoir of this prompt.
+     */
+    public int getReservoirLevel(String prompt) {
+        Reservoir reservoir = reservoirs.get(reservoirKey(prompt));
+        return reservoir == null ? 0 : reservoir.size.get();
+    }
+
+    /**
+     * The whole prompt, lower-cased with whitespace collapsed. Prompts that merely share a word ("valid email",
+     * "invalid email") ask for different data, so each gets its own reservoir.
+     */
+    static String reservoirKey(String prompt) {
+        return prompt.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // ==================================================
+    // 2. BATCHING
+    // ==================================================
+
+    private CompletableFuture<String> enqueue(String prompt) {
+        Pending request = new Pending(prompt);
+        List<Pending> ready = null;
+        synchronized (batchLock) {
+            pending.add(request);
+            if (pending.size() >= batchSize) {
+                ready = pending;
+                pending = new ArrayList<>();
+                if (flushTimer != null) flushTimer.cancel(false);
+                flushTimer = null;
+            } else if (pending.size() == 1) {
+                flushTimer = scheduler.schedule(this::flushPending, batchWindowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (ready != null) dispatch(ready);
+        return request.future;
+    }
+
+    private void flushPending() {
+        List<Pending> ready;
+        synchronized (batchLock) {
+            ready = pending;
+            pending = new ArrayList<>();
+            flushTimer = null;
+        }
+        if (!ready.isEmpty()) dispatch(ready);
+    }
+
+    private void dispatch(List<Pending> batch) {
+        if (batch.size() == 1) {
+            Pending request = batch.get(0);
+            call(request.prompt, 1, false).whenComplete((values, error) -> request.complete(values, 0, error));
+            return;
+        }
+
+        StringBuilder numbered = new StringBuilder("Answer each numbered request. Return ONLY a JSON array of ")
+                .append(batch.size()).append(" strings, in the same order.");
+        for (int i = 0; i < batch.size(); i++) {
+            numbered.append('\n').append(i + 1).append(". ").append(batch.get(i).prompt);
+        }
+        batchedPrompts.add(batch.size());
+        call(numbered.toString(), batch.size(), true).whenComplete((values, error) -> {
+            if (error instanceof IllegalArgumentException) {
+                // The model did not return a usable array: ask one by one
+                System.out.println("[AI] Batch of " + batch.size() + " prompts not answered as an array, retrying individually");
+                batch.forEach(request -> dispatch(List.of(request)));
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).complete(values, i, error);
+            }
+        });
+    }
+
+    // ==================================================
+    // 3. HTTP (shared client, bounded concurrency)
+    // ==================================================
+
+    private CompletableFuture<List<String>> call(String userContent, int expected, boolean array) {
+        CompletableFuture<List<String>> result = new CompletableFuture<>();
+        dispatcher.execute(() -> {
+            HttpRequest request;
+            try {
+                request = request(userContent, expected);
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.completeExceptionally(e);
+                return;
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+                return;
+            }
+
+            apiCalls.increment();
+            promptsSent.add(expected);
+            http.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8)).whenComplete((response, error) -> {
+                permits.release();
+                if (error != null) {
+                    failures.increment();
+                    result.completeExceptionally(unwrap(error));
+                    return;
+                }
+                try {
+                    result.complete(parse(response, expected, array));
+                } catch (Exception e) {
+                    failures.increment();
+                    result.completeExceptionally(e);
+                }
+            });
+        });
+        return result;
+    }
+
+    private HttpRequest request(String userContent, int expected) throws IOException {
+        String body = MAPPER.writeValueAsString(Map.of(
+                "model", model,
+                "max_tokens", 20 + 20 * expected,
+                "messages", List.of(
+                        Map.of("role", "system", "content", SYSTEM_PROMPT),
+                        Map.of("role", "user", "content", userContent))));
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(endpoint)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+        if (apiKey != null && !apiKey.isEmpty()) builder.header("Authorization", "Bearer " + apiKey);
+        return builder.build();
+    }
+
+    /**
+     * HTTP errors fail with IllegalStateException; answers that are not the expected JSON array fail with
+     * IllegalArgumentException (so batches can be retried one by one).
+     */
+    static List<String> parse(HttpResponse<String> response, int expected, boolean array) throws IOException {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("[AI] HTTP " + response.statusCode() + " from " + response.uri());
+        }
+        String content = MAPPER.readTree(response.body()).path("choices").path(0).path("message").path("content").asText("").trim();
+        if (!array) {
+            if (content.isEmpty()) throw new IllegalStateException("[AI] Empty completion");
+            return List.of(content);
+        }
+
+        // Models sometimes wrap JSON in a Markdown fence
+        content = content.replaceAll("^```[a-zA-Z]*\\s*", "").replaceAll("\\s*```$", "");
+        JsonNode values;
+        try {
+            values = MAPPER.readTree(content);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("[AI] Expected a JSON array of " + expected + " values, got: " + content, e);
+        }
+        if (values == null || !values.isArray() || values.size() < expected) {
+            throw new IllegalArgumentException("[AI] Expected a JSON array of " + expected + " values, got: " + content);
+        }
+        List<String> result = new ArrayList<>(expected);
+        for (int i = 0; i < expected; i++) {
+            result.add(values.get(i).asText().trim());
+        }
+        return result;
+    }
+
+    // ==================================================
+    // 4. DISK CACHE (content-addressed, TTL)
+    // ==================================================
+
+    private List<String> cacheGet(String key) {
+        if (cacheDir == null) return null;
+        Path file = cacheFile(key);
+        if (!Files.isRegularFile(file)) return null;
+        try {
+            JsonNode entry = MAPPER.readTree(file.toFile());
+            long ageMs = System.currentTimeMillis() - entry.path("createdAt").asLong();
+            if (ageMs > cacheTtl.toMillis()) return null;
+
+            List<String> values = new ArrayList<>();
+            entry.path("values").forEach(value -> values.add(value.asText()));
+            return values;
+        } catch (IOException e) {
+            System.out.println("[WARN] Ignoring unreadable AI cache entry " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private void cachePut(String key, List<String> values) {
+        if (cacheDir == null) return;
+        try {
+            Files.createDirectories(cacheDir);
+            Path file = cacheFile(key);
+            Path temp = Files.createTempFile(cacheDir, file.getFileName().toString(), ".tmp");
+            MAPPER.writeValue(temp.toFile(), Map.of("model", model, "key", key, "createdAt", System.currentTimeMillis(), "values", values));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("[WARN] Could not write AI cache entry: " + e.getMessage());
+        }
+    }
+
+    private Path cacheFile(String key) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest((model + '\n' + key).getBytes(StandardCharsets.UTF_8));
+            return cacheDir.resolve(HexFormat.of().formatHex(hash) + ".json");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // ==================================================
+    // 5. METRICS & LIFECYCLE
+    // ==================================================
+
+    public Map<String, Long> metrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put("api.calls", apiCalls.sum());
+        metrics.put("prompts.sent", promptsSent.sum());
+        metrics.put("batched.prompts", batchedPrompts.sum());
+        metrics.put("cache.hits", cacheHits.sum());
+        metrics.put("reservoir.hits", reservoirHits.sum());
+        metrics.put("failures", failures.sum());
+        return metrics;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        dispatcher.shutdownNow();
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        while ((error instanceof CompletionException || error instanceof ExecutionException) && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
+    /**
+     * One prompt waiting for its batch.
+     */
+    private final class Pending {
+        private final String prompt;
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+
+        Pending(String prompt) {
+            this.prompt = prompt;
+        }
+
+        void complete(List<String> values, int index, Throwable error) {
+            if (error != null) {
+                future.completeExceptionally(unwrap(error));
+                return;
+            }
+            String value = values.get(index);
+            cachePut(prompt, List.of(value));
+            future.complete(value);
+        }
+    }
+
+    /**
+     * Pre-generated values for one prompt. Refills are numbered so that every refill of a run has its own
+     * cache entry (the next run replays the same sequence from disk instead of repeating one batch).
+     */
+    private final class Reservoir {
+        private final String prompt;
+        private final ConcurrentLinkedQueue<String> values = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicInteger round = new AtomicInteger();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+        private final AtomicLong retryAfter = new AtomicLong();
+
+        Reservoir(String prompt) {
+            this.prompt = prompt;
+        }
+
+        String poll() {
+            String value = values.poll();
+            if (value != null) size.decrementAndGet();
+            if (size.get() <= reservoirSize / 2) refill();
+            return value;
+        }
+
+        void refill() {
+            if (System.currentTimeMillis() < retryAfter.get() || !refilling.compareAndSet(false, true)) return;
+            String key = "reservoir#" + round.getAndIncrement() + "#" + reservoirSize + "\n" + prompt;
+            scheduler.execute(() -> {
+                List<String> cached = cacheGet(key);
+                if (cached != null && cached.size() >= reservoirSize) {
+                    add(cached);
+                    return;
+                }
+                call("Return ONLY a JSON array of " + reservoirSize + " distinct values. Each value: " + prompt, reservoirSize, true)
+                        .whenComplete((generated, error) -> {
+                            if (error != null) {
+                                System.out.println("[WARN] AI reservoir refill failed for '" + prompt + "': " + unwrap(error).getMessage());
+                                retryAfter.set(System.currentTimeMillis() + REFILL_BACKOFF_MS);
+                                refilling.set(false);
+                                return;
+                            }
+                            cachePut(key, generated);
+                            add(generated);
+                        });
+            });
+        }
+
+        private void add(List<String> generated) {
+            values.addAll(generated);
+            size.addAndGet(generated.size());
+            refilling.set(false);
+        }
+    }
+}
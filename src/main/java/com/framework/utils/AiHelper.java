@@ -1,25 +1,18 @@
 package com.framework.utils;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.framework.data.TestDataGenerator;
 
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
-import java.util.List;
-import java.util.Map;
-import java.util.Scanner;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * AiHelper: Generates dynamic test data using OpenAI.
  * Demonstrates integration of LLMs for autonomous testing capabilities.
+ * Requests go through the shared AiClient (batched, cached on disk, served from a pre-generated reservoir).
  */
 public class AiHelper {
 
     private static final String API_KEY = System.getenv("OPENAI_API_KEY");
     private static final boolean USE_REAL_AI = (API_KEY != null && !API_KEY.isEmpty());
-    private static final String MODEL = ConfigReader.getProperty("ai.model", "gpt-4o-mini");
 
     /**
      * Generates test data based on a natural language prompt.
@@ -31,44 +24,28 @@ public class AiHelper {
         }
 
         try {
-            URL url = new URL("https://api.openai.com/v1/chat/completions");
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("POST");
-            conn.setRequestProperty("Authorization", "Bearer " + API_KEY);
-            conn.setRequestProperty("Content-Type", "application/json");
-            conn.setDoOutput(true);
-
-            // Build request payload with Jackson to safely handle any characters in prompt
-            ObjectMapper mapper = new ObjectMapper();
-            String jsonInput = mapper.writeValueAsString(Map.of(
-                    "model", MODEL,
-                    "max_tokens", 20,
-                    "messages", List.of(
-                            Map.of("role", "system",
-                                   "content", "You are a test data generator. Return ONLY the raw data string requested."),
-                            Map.of("role", "user", "content", prompt)
-                    )
-            ));
-
-            try (OutputStream os = conn.getOutputStream()) {
-                byte[] input = jsonInput.getBytes(StandardCharsets.UTF_8);
-                os.write(input, 0, input.length);
-            }
-
-            // Read and parse response using Jackson
-            Scanner scanner = new Scanner(conn.getInputStream(), StandardCharsets.UTF_8);
-            String responseBody = scanner.useDelimiter("\\A").next();
-            scanner.close();
-
-            JsonNode root = mapper.readTree(responseBody);
-            return root.get("choices").get(0).get("message").get("content").asText().trim();
-
+            return AiClient.shared().generate(prompt);
         } catch (Exception e) {
             System.err.println("[ERROR] AI Data Generation Failed: " + e.getMessage());
             return generateMockData(prompt);
         }
     }
 
+    /**
+     * Non-blocking variant: start several prompts, then join them (concurrent prompts share one API request).
+     * Never completes exceptionally; failures fall back to mock data.
+     */
+    public static CompletableFuture<String> generateTestDataAsync(String prompt) {
+        if (!USE_REAL_AI) {
+            return CompletableFuture.completedFuture(generateMockData(prompt));
+        }
+
+        return AiClient.shared().generateAsync(prompt).exceptionally(e -> {
+            System.err.println("[ERROR] AI Data Generation Failed: " + e.getMessage());
+            return generateMockData(prompt);
+        });
+    }
+
     /**
      * Fallback mock data to ensure test stability when API is unavailable.
      */
@@ -76,13 +53,13 @@ public class AiHelper {
         String lowerPrompt = prompt.toLowerCase();
 
         if (lowerPrompt.contains("email")) {
-            return "test_user_" + System.currentTimeMillis() + "@example.com";
+            return TestDataGenerator.email();
         }
         if (lowerPrompt.contains("password")) {
-            return "SecurePass!" + (int) (Math.random() * 1000);
+            return TestDataGenerator.password();
         }
         if (lowerPrompt.contains("username")) {
-            return "QA_User_" + (int) (Math.random() * 1000);
+            return TestDataGenerator.username();
         }
 
         return "Default_Test_Value";
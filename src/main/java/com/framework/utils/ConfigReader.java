@@ -1,11 +1,24 @@
 package com.framework.utils;
 
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
 
 /**
  * ConfigReader: Manages framework configuration with a strict priority hierarchy.
@@ -13,9 +26,12 @@ import java.util.Properties;
  *           2. Explicit env var aliases (e.g. SAUCE_USERNAME for cloud_username)
  *           3. Auto-converted env var  (cloud_username -> CLOUD_USERNAME)
  *           4. Property file           (config.properties)
+ *
+ * The hierarchy is resolved once into an immutable ConfigSnapshot published through a volatile reference,
+ * so lookups on hot paths are a map read. With config.reload.enabled=true a WatchService swaps in a new snapshot
+ * when config.properties changes on disk; values already copied into static finals keep their startup value.
  */
 public class ConfigReader {
-    private static final Properties properties = new Properties();
 
     /**
      * Explicit env var name overrides for keys whose standard CI variable names
@@ -23,62 +39,166 @@ public class ConfigReader {
      * Add entries here whenever a vendor/CI system uses its own naming convention.
      */
     private static final Map<String, String> ENV_VAR_ALIASES = new HashMap<>();
+    private static final String LOCAL_FILE = "src/test/resources/config.properties";
+
+    private static volatile ConfigSnapshot current;
+    private static Path sourceFile; // file system location of the loaded config.properties, null inside a JAR
 
     static {
         // Sauce Labs credentials use their own well-known env var names
         ENV_VAR_ALIASES.put("cloud_username", "SAUCE_USERNAME");
         ENV_VAR_ALIASES.put("cloud_key",      "SAUCE_ACCESS_KEY");
 
+        sourceFile = locate();
+        current = build(load(), 1);
+        if (current.getBoolean("config.reload.enabled", false)) {
+            preferSourceFile();
+            startWatching();
+        }
+    }
+
+    /**
+     * Retrieves a property value using the priority hierarchy.
+     * Returns null if the key is not found at any level.
+     */
+    public static String getProperty(String key) {
+        return current.get(key);
+    }
+
+    /**
+     * Retrieves a property value, returning {@code defaultValue} instead of null
+     * when the key is absent from all sources.
+     */
+    public static String getProperty(String key, String defaultValue) {
+        return current.get(key, defaultValue);
+    }
+
+    /**
+     * The current immutable snapshot, for typed lookups: ConfigReader.snapshot().getInt("timeout.explicit", 20).
+     * Hold on to it for a consistent view across several keys.
+     */
+    public static ConfigSnapshot snapshot() {
+        return current;
+    }
+
+    // ==================================================
+    // 1. LOADING
+    // ==================================================
+
+    /**
+     * Re-reads config.properties (and the current system properties/env) and publishes a new snapshot.
+     * Returns the keys whose file values changed; values themselves are not logged (they may be credentials).
+     */
+    public static synchronized Set<String> reload() {
+        ConfigSnapshot previous = current;
+        ConfigSnapshot next = build(load(), previous.getVersion() + 1);
+
+        Set<String> changed = new TreeSet<>(previous.getFileValues().keySet());
+        changed.addAll(next.getFileValues().keySet());
+        changed.removeIf(key -> Objects.equals(previous.getFileValues().get(key), next.getFileValues().get(key)));
+
+        current = next;
+        System.out.println("[CONFIG] Snapshot v" + next.getVersion() + " published" + (changed.isEmpty() ? "" : ", changed keys: " + changed));
+        return changed;
+    }
+
+    private static ConfigSnapshot build(Properties file, long version) {
+        return new ConfigSnapshot(file, System.getProperties(), System.getenv(), ENV_VAR_ALIASES, version,
+                sourceFile != null ? sourceFile.toString() : "classpath:config.properties");
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
         // 1. Attempt to load from Classpath (Standard Maven/JAR execution)
-        try (InputStream input = ConfigReader.class.getClassLoader().getResourceAsStream("config.properties")) {
+        try (InputStream input = (sourceFile != null) ? Files.newInputStream(sourceFile)
+                : ConfigReader.class.getClassLoader().getResourceAsStream("config.properties")) {
             if (input != null) {
                 properties.load(input);
-                System.out.println("[INFO] Configuration loaded from Classpath.");
+                System.out.println("[INFO] Configuration loaded from " + (sourceFile != null ? sourceFile : "Classpath") + ".");
             } else {
-                // 2. Fallback: Direct file system access (Local IDE execution)
-                try (FileInputStream fileInput = new FileInputStream("src/test/resources/config.properties")) {
-                    properties.load(fileInput);
-                    System.out.println("[INFO] Configuration loaded from local file system.");
-                } catch (Exception e) {
-                    System.err.println("[FATAL] config.properties missing from both Classpath and File System.");
-                }
+                System.err.println("[FATAL] config.properties missing from both Classpath and File System.");
             }
         } catch (IOException e) {
             System.err.println("[ERROR] Failed to initialize properties: " + e.getMessage());
         }
+        return properties;
     }
 
     /**
-     * Retrieves a property value using the priority hierarchy.
-     * Returns null if the key is not found at any level.
+     * Where config.properties lives on disk: the classpath copy, or (local IDE execution) the source file.
      */
-    public static String getProperty(String key) {
-        // Priority 1: JVM system property  (-Dkey=value)
-        String value = System.getProperty(key);
-        if (value != null && !value.isEmpty()) return value;
-
-        // Priority 2: Explicit env var alias (cloud_username -> SAUCE_USERNAME)
-        String alias = ENV_VAR_ALIASES.get(key);
-        if (alias != null) {
-            String aliasValue = System.getenv(alias);
-            if (aliasValue != null && !aliasValue.isEmpty()) return aliasValue;
+    private static Path locate() {
+        URL resource = ConfigReader.class.getClassLoader().getResource("config.properties");
+        if (resource != null) {
+            if (!"file".equals(resource.getProtocol())) return null; // Inside a JAR: read via the classpath, no watching
+            try {
+                return Paths.get(resource.toURI());
+            } catch (URISyntaxException e) {
+                return null;
+            }
         }
-
-        // Priority 3: Auto-converted env var  (app_username -> APP_USERNAME)
-        String envKey = key.toUpperCase().replace(".", "_");
-        String envValue = System.getenv(envKey);
-        if (envValue != null && !envValue.isEmpty()) return envValue;
-
-        // Priority 4: config.properties file
-        return properties.getProperty(key);
+        // 2. Fallback: Direct file system access (Local IDE execution)
+        Path local = Paths.get(LOCAL_FILE);
+        return Files.exists(local) ? local : null;
     }
 
     /**
-     * Retrieves a property value, returning {@code defaultValue} instead of null
-     * when the key is absent from all sources.
+     * Hot reload only: switches from the build-output copy (target/test-classes) to the source file
+     * src/test/resources/config.properties when it exists, since that is the file people edit. Without reload
+     * the classpath copy stays authoritative, so packaged or forked runs never pick up a stale source file.
      */
-    public static String getProperty(String key, String defaultValue) {
-        String value = getProperty(key);
-        return (value != null && !value.isEmpty()) ? value : defaultValue;
+    private static void preferSourceFile() {
+        Path local = Paths.get(LOCAL_FILE);
+        if (sourceFile == null || !Files.exists(local)) return; // Packaged config is never swapped for a source file
+        try {
+            if (Files.isSameFile(sourceFile, local)) return;
+        } catch (IOException e) {
+            return;
+        }
+        sourceFile = local;
+        current = build(load(), 1);
+    }
+
+    // ==================================================
+    // 2. HOT RELOAD (config.reload.enabled=true)
+    // ==================================================
+
+    private static void startWatching() {
+        if (sourceFile == null) {
+            System.out.println("[CONFIG] Hot reload needs config.properties on disk; it is packaged, so reload is off.");
+            return;
+        }
+        Path directory = sourceFile.toAbsolutePath().getParent();
+        Path fileName = sourceFile.getFileName();
+        Thread watcher = new Thread(() -> watch(directory, fileName), "config-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        System.out.println("[CONFIG] Watching " + sourceFile + " for changes");
+    }
+
+    private static void watch(Path directory, Path fileName) {
+        try (WatchService service = FileSystems.getDefault().newWatchService()) {
+            directory.register(service, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+            while (true) {
+                WatchKey key = service.take();
+                boolean touched = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    touched |= fileName.equals(event.context());
+                }
+                key.reset();
+                if (touched) {
+                    Thread.sleep(100); // Editors often write in two steps; read once the file has settled
+                    for (WatchKey extra = service.poll(); extra != null; extra = service.poll()) {
+                        extra.pollEvents();
+                        extra.reset();
+                    }
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | ClosedWatchServiceException e) {
+            System.err.println("[CONFIG] Stopped watching config.properties: " + e.getMessage());
+        }
     }
 }
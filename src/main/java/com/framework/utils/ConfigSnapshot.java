@@ -0,0 +1,182 @@
+package com.framework.utils;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * ConfigSnapshot: One immutable resolution of the ConfigReader priority hierarchy.
+ *
+ * System properties and environment variables are copied when the snapshot is built, and every key in
+ * config.properties is resolved up front. Keys that only exist as -D/env overrides are resolved on first use and
+ * remembered. Typed accessors parse a value once per snapshot. ConfigReader publishes the current snapshot through
+ * a volatile reference and swaps in a new one when config.properties changes.
+ */
+public final class ConfigSnapshot {
+
+    private static final Object MISSING = new Object();
+
+    private final Map<String, String> fileValues;
+    private final Map<String, String> systemValues;
+    private final Map<String, String> envValues;
+    private final Map<String, String> envAliases;
+    private final Map<String, Optional<String>> resolved = new ConcurrentHashMap<>();
+    private final Map<String, Object> parsed = new ConcurrentHashMap<>();
+    private final long version;
+    private final String source;
+    private final Instant loadedAt = Instant.now();
+
+    /**
+     * Builds a snapshot from explicit sources; ConfigReader passes the real file, System.getProperties() and System.getenv().
+     */
+    public ConfigSnapshot(Properties file, Properties system, Map<String, String> env, Map<String, String> envAliases,
+                          long version, String source) {
+        this.fileValues = copy(file);
+        this.systemValues = copy(system);
+        this.envValues = Collections.unmodifiableMap(new HashMap<>(env));
+        this.envAliases = Collections.unmodifiableMap(new HashMap<>(envAliases));
+        this.version = version;
+        this.source = source;
+        for (String key : fileValues.keySet()) {
+            resolved.put(key, Optional.ofNullable(resolve(key)));
+        }
+    }
+
+    // ==================================================
+    // 1. RAW VALUES
+    // ==================================================
+
+    /**
+     * The value by priority (system property, env alias, auto-converted env var, file), or null.
+     */
+    public String get(String key) {
+        Optional<String> value = resolved.get(key);
+        if (value == null) {
+            value = resolved.computeIfAbsent(key, k -> Optional.ofNullable(resolve(k)));
+        }
+        return value.orElse(null);
+    }
+
+    /**
+     * The value, or {@code defaultValue} when the key is absent or empty at every level.
+     */
+    public String get(String key, String defaultValue) {
+        String value = get(key);
+        return (value != null && !value.isEmpty()) ? value : defaultValue;
+    }
+
+    private String resolve(String key) {
+        // Priority 1: JVM system property  (-Dkey=value)
+        String value = systemValues.get(key);
+        if (value != null && !value.isEmpty()) return value;
+
+        // Priority 2: Explicit env var alias (cloud_username -> SAUCE_USERNAME)
+        String alias = envAliases.get(key);
+        if (alias != null) {
+            String aliasValue = envValues.get(alias);
+            if (aliasValue != null && !aliasValue.isEmpty()) return aliasValue;
+        }
+
+        // Priority 3: Auto-converted env var  (app_username -> APP_USERNAME)
+        String envValue = envValues.get(key.toUpperCase().replace(".", "_"));
+        if (envValue != null && !envValue.isEmpty()) return envValue;
+
+        // Priority 4: config.properties file
+        return fileValues.get(key);
+    }
+
+    // ==================================================
+    // 2. TYPED ACCESSORS (parsed once per snapshot)
+    // ==================================================
+
+    public int getInt(String key, int defaultValue) {
+        Object value = typed("int", key, Integer::valueOf);
+        return value == MISSING ? defaultValue : (Integer) value;
+    }
+
+    public long getLong(String key, long defaultValue) {
+        Object value = typed("long", key, Long::valueOf);
+        return value == MISSING ? defaultValue : (Long) value;
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Object value = typed("boolean", key, Boolean::valueOf);
+        return value == MISSING ? defaultValue : (Boolean) value;
+    }
+
+    /**
+     * A duration stored as a plain number in the given unit, e.g. getDuration("timeout.explicit", ChronoUnit.SECONDS, 20).
+     */
+    public Duration getDuration(String key, ChronoUnit unit, long defaultAmount) {
+        Object value = typed("duration." + unit.name(), key, v -> Duration.of(Long.parseLong(v), unit));
+        return value == MISSING ? Duration.of(defaultAmount, unit) : (Duration) value;
+    }
+
+    /**
+     * A URL value, or null when the key is absent. Malformed URLs fail with the key in the message.
+     */
+    public URL getUrl(String key) {
+        Object value = typed("url", key, v -> {
+            try {
+                return new URL(v);
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException("[CONFIG] '" + key + "' is not a valid URL: " + v, e);
+            }
+        });
+        return value == MISSING ? null : (URL) value;
+    }
+
+    private Object typed(String type, String key, Function<String, Object> parser) {
+        String cacheKey = type + ':' + key;
+        Object value = parsed.get(cacheKey);
+        if (value != null) return value;
+
+        String raw = get(key);
+        value = (raw == null || raw.isEmpty()) ? MISSING : parser.apply(raw.trim());
+        parsed.putIfAbsent(cacheKey, value);
+        return value;
+    }
+
+    // ==================================================
+    // 3. METADATA
+    // ==================================================
+
+    /**
+     * 1 for the snapshot built at startup, +1 per reload.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * config.properties values only (no overrides), e.g. to diff two snapshots on reload.
+     */
+    public Map<String, String> getFileValues() {
+        return fileValues;
+    }
+
+    private static Map<String, String> copy(Properties properties) {
+        Map<String, String> values = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key));
+        }
+        return Collections.unmodifiableMap(values);
+    }
+}
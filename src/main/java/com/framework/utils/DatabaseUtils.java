@@ -1,12 +1,11 @@
 package com.framework.utils;
 
+import com.framework.db.PooledDataSource;
+
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
-import java.sql.*;
 
 // TODO: Integrate with User Management DB once environment is available
 
@@ -17,15 +16,12 @@ import java.sql.*;
 public class DatabaseUtils {
 
     /**
-     * Establishes a connection to the database using credentials from ConfigReader.
+     * Borrows a connection from the shared pool (credentials and pool sizing from ConfigReader).
+     * Closing it returns it to the pool.
      */
     public static Connection getConnection() throws SQLException {
         try {
-            return DriverManager.getConnection(
-                    ConfigReader.getProperty("db.url"),
-                    ConfigReader.getProperty("db.user"),
-                    ConfigReader.getProperty("db.password")
-            );
+            return PooledDataSource.shared().getConnection();
         } catch (SQLException e) {
             System.err.println("[ERROR] Failed to connect to Database: " + e.getMessage());
             throw e;
@@ -35,15 +31,16 @@ public class DatabaseUtils {
     /**
      * Fetches a single active username from the database.
      * Demonstrates dynamic data sourcing for test scripts.
+     * Every caller gets the same user; parallel tests that need their own account use UserLeaseManager.
      */
     public static String getValidUser() {
         String username = null;
         String query = "SELECT username FROM users WHERE is_active = 1 LIMIT 1";
 
-        // Using try-with-resources to ensure Connection, Statement, and ResultSet are closed automatically
+        // Using try-with-resources to ensure Connection, Statement, and ResultSet are closed (returned to the pool)
         try (Connection conn = getConnection();
-             Statement stmt = conn.createStatement();
-             ResultSet rs = stmt.executeQuery(query)) {
+             PreparedStatement stmt = conn.prepareStatement(query);
+             ResultSet rs = stmt.executeQuery()) {
 
             if (rs.next()) {
                 username = rs.getString("username");
@@ -1,5 +1,6 @@
 package com.framework.utils;
 
+import com.framework.execution.SuiteMetrics;
 import org.testng.IRetryAnalyzer;
 import org.testng.ITestResult;
 
@@ -21,6 +22,7 @@ public class RetryAnalyzer implements IRetryAnalyzer {
         if (!result.isSuccess()) { // Only retry if the test failed
             if (count < MAX_RETRY_COUNT) {
                 count++;
+                SuiteMetrics.retryScheduled(count == 1);
                 System.out.println("[WARN] Test Failed: " + result.getName() +
                         " | Attempt: " + count + "/" + MAX_RETRY_COUNT + ". Retrying...");
                 return true; // Tells TestNG to re-execute
@@ -1,17 +1,21 @@
 package com.framework.utils;
 
+import com.framework.data.DataValidators;
+import com.framework.data.TestDataGenerator;
+
 /**
  * StringUtils: Provides logic for string manipulation and random data generation.
  */
 public class StringUtils {
 
     /**
-     * Generates a random test email.
-     * Uses System.nanoTime() to avoid collisions in parallel runs.
+     * Generates a unique test email.
+     * Uses TestDataGenerator (run stamp + run salt + node id + thread slot + per-thread counter), so parallel
+     * threads never produce the same address and separate runs or shards practically never do.
      * @return a string formatted as user<digits>@test.com
      */
     public static String generateRandomEmail() {
-        return "user" + System.nanoTime() + "@test.com";
+        return TestDataGenerator.email();
     }
 
     /**
@@ -19,7 +23,6 @@ public class StringUtils {
      * Requires a valid local part, @, domain with at least one label, and a TLD of 2+ chars.
      */
     public static boolean isValidEmail(String email) {
-        if (email == null || email.isEmpty()) return false;
-        return email.matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+        return DataValidators.isValidEmail(email);
     }
 }
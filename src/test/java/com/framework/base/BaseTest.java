@@ -1,9 +1,18 @@
 package com.framework.base;
 
+import com.framework.data.UserLease;
+import com.framework.data.UserLeaseManager;
 import com.framework.driver.DriverFactory;
 import com.framework.driver.DriverManager;
+import com.framework.driver.DriverPool;
+import com.framework.driver.FastModeProfile;
+import com.framework.driver.SessionContext;
+import com.framework.driver.SessionTimeouts;
+import com.framework.driver.WireCommandProfiler;
+import com.framework.execution.PhaseTimings;
+import com.framework.pages.PageSnapshot;
 import com.framework.utils.ConfigReader;
-import org.openqa.selenium.JavascriptExecutor;
+import io.qameta.allure.Allure;
 import org.openqa.selenium.WebDriver;
 import org.testng.ITestContext;
 import org.testng.annotations.AfterMethod;
@@ -12,7 +21,9 @@ import org.testng.annotations.Optional;
 import org.testng.annotations.Parameters;
 
 import java.net.MalformedURLException;
-import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 public class BaseTest {
 
@@ -37,68 +48,176 @@ public class BaseTest {
         System.out.println("[SETUP] Target: " + targetBrowser + " | Headless: " + targetHeadless);
 
         // ======================================================
-        // 2. CREATE DRIVER
+        // 2. LEASE DRIVER (Warm session from the pool, or a fresh launch on a miss)
         // ======================================================
-        WebDriver driver = DriverFactory.createInstance(targetBrowser, targetHeadless);
+        // The SessionContext holds this test's sessions; DriverPool registers the lease as its "default" session.
+        PhaseTimings.drainTest(); // Start this test's phase tally clean
+        WireCommandProfiler.drainTest();
+        SessionTimeouts.drainTest();
+        PageSnapshot.clearLast(); // A failure report must never show the previous test's page
+        long phaseStart = System.nanoTime();
+        SessionContext.open(testName, targetBrowser, targetHeadless);
+        WebDriver driver = DriverPool.lease(targetBrowser, targetHeadless);
+        PhaseTimings.record(targetBrowser, DriverFactory.resolveMode(), "session.lease", System.nanoTime() - phaseStart);
 
         if (driver == null) {
             throw new RuntimeException("[FATAL] DriverFactory returned NULL. Check your Config/Grid status.");
         }
 
-        // 3. SET TO MANAGER (ThreadLocal)
-        DriverManager.setDriver(driver);
-
-        // 4. CONFIGURE WINDOW & WAITS
+        // 3. CONFIGURE WINDOW & WAITS
         configureDriver(driver, targetBrowser, targetHeadless);
     }
 
     @AfterMethod(alwaysRun = true)
     public void tearDown() {
-        WebDriver driver = DriverManager.getDriver();
+        try {
+            WebDriver driver = DriverManager.getDriver();
 
-        if (driver != null) {
+            if (driver != null) {
+                attachFastModeSavings(driver);
+            }
+            attachWireCommands();
+            reportTimeoutCommands();
+        } finally {
+            // Sessions and users are given back even when a report above failed, or they stay leased for the run
             try {
-                driver.manage().deleteAllCookies();
-                JavascriptExecutor js = (JavascriptExecutor) driver;
-                js.executeScript("window.localStorage.clear();");
-                js.executeScript("window.sessionStorage.clear();");
-
-                // CRITICAL: Small delay to let the browser commit the clear commands
-                Thread.sleep(100);
-
-                System.out.println("[TEARDOWN] Browser state cleared for Thread " + Thread.currentThread().getId());
-            } catch (Exception e) {
-                // Silently fail if session is already closed
+                releaseSessions();
+                attachPhaseTimings();
             } finally {
-                driver.quit();
-                DriverManager.unload();
+                // Only once the session (and the user logged in on it) is gone
+                releaseUserLeases();
             }
         }
     }
 
+    /**
+     * The pool clears cookies/storage and keeps sessions warm; unpooled sessions are quit.
+     * Closing the context gives back the default session and every named one the test opened.
+     */
+    private void releaseSessions() {
+        SessionContext context = SessionContext.currentOrNull();
+        long phaseStart = System.nanoTime();
+        int released = SessionContext.close();
+        if (released > 0) {
+            PhaseTimings.record(context.getBrowser(), DriverFactory.resolveMode(), "teardown.release", System.nanoTime() - phaseStart);
+            System.out.println("[TEARDOWN] " + released + " session(s) released for Thread " + Thread.currentThread().getId());
+        }
+    }
+
+    /**
+     * Attaches where this test's setup/teardown time went (ms per phase) to Allure.
+     * Suite-wide p50/p95/p99 per browser/mode go to target/phase-timings.json (TestListener).
+     */
+    private void attachPhaseTimings() {
+        Map<String, Long> phases = PhaseTimings.drainTest();
+        if (phases.isEmpty()) return;
+
+        String json = phases.entrySet().stream()
+                .map(e -> String.format(Locale.ROOT, "  \"%s\": %.1f", e.getKey(), e.getValue() / 1_000_000.0))
+                .collect(Collectors.joining(",\n", "{\n", "\n}"));
+        Allure.addAttachment("Phase Timings (ms)", "application/json", json, ".json");
+    }
+
+    /**
+     * Attaches this test's WebDriver command counts, latencies and flagged round-trips to Allure.
+     * Drained before the session goes back to the pool, so reset commands are not counted.
+     */
+    private void attachWireCommands() {
+        if (!WireCommandProfiler.isEnabled()) return;
+
+        WireCommandProfiler.Tally tally = WireCommandProfiler.drainTest();
+        if (tally.isEmpty()) return;
+
+        Allure.addAttachment("Wire Commands", "text/plain", tally.toTable(), ".txt");
+        System.out.println(String.format(Locale.ROOT, "[WIRE] %d round-trip(s) | %.1f ms | %d finding(s)",
+                tally.getRoundTrips(), tally.getTotalNanos() / 1_000_000.0, tally.getFindings().size()));
+    }
+
+    /**
+     * Logs the implicit-wait commands this test sent and the ones SessionTimeouts skipped.
+     */
+    private void reportTimeoutCommands() {
+        Map<String, Long> timeouts = SessionTimeouts.drainTest();
+        if (timeouts.get("sent") + timeouts.get("skipped") == 0) return;
+        System.out.println("[TIMEOUTS] Implicit-wait commands sent: " + timeouts.get("sent")
+                + " | Skipped (round-trips saved): " + timeouts.get("skipped"));
+    }
+
+    /**
+     * Leases a test user no other running test holds (released in tearDown), e.g.
+     * {@code UserLease user = leaseUser(); loginPage.login(user.getUsername(), user.getPassword());}
+     */
+    protected UserLease leaseUser() {
+        return UserLeaseManager.shared().acquire();
+    }
+
+    /**
+     * Gives back every user this thread leased, so the next test can have them.
+     */
+    private void releaseUserLeases() {
+        UserLeaseManager leases = UserLeaseManager.current();
+        if (leases == null) return;
+        int released = leases.releaseThreadLeases();
+        if (released > 0) {
+            System.out.println("[LEASE] " + released + " user lease(s) released for Thread " + Thread.currentThread().getId());
+        }
+    }
+
+    /**
+     * Opens (or returns) an additional named session for this test, e.g. openSession("admin").
+     * It uses the same browser settings as the default session and is released in tearDown.
+     */
+    protected WebDriver openSession(String name) throws MalformedURLException {
+        return SessionContext.current().session(name);
+    }
+
+    /**
+     * Attaches this test's fast-mode counters (blocked requests, estimated bytes saved) to Allure.
+     */
+    private void attachFastModeSavings(WebDriver driver) {
+        if (!FastModeProfile.isEnabled()) return;
+
+        Map<String, Long> savings = FastModeProfile.drainSavings(driver);
+        if (savings.isEmpty()) return;
+
+        String json = savings.entrySet().stream()
+                .map(e -> "  \"" + e.getKey() + "\": " + e.getValue())
+                .collect(Collectors.joining(",\n", "{\n", "\n}"));
+        Allure.addAttachment("Fast Mode Network Savings", "application/json", json, ".json");
+        System.out.println("[FAST-MODE] Blocked " + savings.get("blocked.total") + " request(s) | ~"
+                + savings.get("estimatedBytesSaved") / 1024 + " KB saved");
+    }
+
     /**
      * Helper method to configure timeouts, window size, and navigation.
      */
     private void configureDriver(WebDriver driver, String browser, String headless) {
-        int implicitTimeout = Integer.parseInt(ConfigReader.getProperty("timeout.implicit", "10"));
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitTimeout));
+        String mode = DriverFactory.resolveMode();
+        long phaseStart = System.nanoTime();
+        // 0 under timeout.policy=explicit; skipped entirely when a pooled session already has it
+        SessionTimeouts.of(driver).implicitlyWait(SessionTimeouts.configuredImplicitWait());
+        PhaseTimings.record(browser, mode, "configure.implicitWait", System.nanoTime() - phaseStart);
 
         boolean isMobile = browser.equalsIgnoreCase("android") || browser.equalsIgnoreCase("ios");
 
         if (!isMobile) {
             // WEB CONFIGURATION
+            phaseStart = System.nanoTime();
             if (Boolean.parseBoolean(headless)) {
                 // Headless needs explicit size to "see" elements
                 driver.manage().window().setSize(new org.openqa.selenium.Dimension(1920, 1080));
             } else {
                 driver.manage().window().maximize();
             }
+            PhaseTimings.record(browser, mode, "configure.window", System.nanoTime() - phaseStart);
 
             // Navigate to URL from Config
             String url = ConfigReader.getProperty("url");
             if (url != null) {
                 // System.out.println("[NAV] Navigating to: " + url);
+                phaseStart = System.nanoTime();
                 driver.get(url);
+                PhaseTimings.record(browser, mode, "configure.navigate", System.nanoTime() - phaseStart);
             }
         }
     }
@@ -0,0 +1,104 @@
+package com.framework.benchmarks;
+
+import com.framework.utils.ConfigReader;
+import com.framework.utils.ConfigSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConfigLookupBenchmark: The old per-call ConfigReader lookup (system property, two env lookups and a key
+ * conversion on every call, then parsing) against the snapshot lookups that replaced it.
+ *
+ * Run with:
+ *   mvn -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *       -Dexec.args="-cp %classpath org.openjdk.jmh.Main ConfigLookupBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ConfigLookupBenchmark {
+
+    private static final Map<String, String> ENV_VAR_ALIASES = Map.of("cloud_username", "SAUCE_USERNAME", "cloud_key", "SAUCE_ACCESS_KEY");
+
+    private final Properties properties = new Properties();
+
+    @Setup
+    public void loadFile() throws Exception {
+        try (InputStream input = ConfigLookupBenchmark.class.getClassLoader().getResourceAsStream("config.properties")) {
+            if (input != null) properties.load(input);
+        }
+        ConfigReader.snapshot(); // Initialise the snapshot outside the measurement
+    }
+
+    // ---------------------------------------------------------
+    // BASELINE: the lookup path before snapshots (BasePage constructor: timeout.explicit)
+    // ---------------------------------------------------------
+    @Benchmark
+    public Duration legacyLookupAndParse() {
+        return Duration.ofSeconds(Integer.parseInt(legacyGetProperty("timeout.explicit", "20")));
+    }
+
+    @Benchmark
+    public String legacyLookupMissingKey() {
+        return legacyGetProperty("benchmark.absent.key", "fallback");
+    }
+
+    // ---------------------------------------------------------
+    // SNAPSHOT: resolved once, typed values parsed once
+    // ---------------------------------------------------------
+    @Benchmark
+    public Duration snapshotTypedDuration() {
+        return ConfigReader.snapshot().getDuration("timeout.explicit", ChronoUnit.SECONDS, 20);
+    }
+
+    @Benchmark
+    public String snapshotStringLookup() {
+        return ConfigReader.getProperty("timeout.explicit", "20");
+    }
+
+    @Benchmark
+    public String snapshotMissingKey() {
+        ConfigSnapshot snapshot = ConfigReader.snapshot();
+        return snapshot.get("benchmark.absent.key", "fallback");
+    }
+
+    /**
+     * Copy of ConfigReader.getProperty before snapshots were introduced.
+     */
+    private String legacyGetProperty(String key, String defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isEmpty()) {
+            value = null;
+            String alias = ENV_VAR_ALIASES.get(key);
+            if (alias != null) {
+                String aliasValue = System.getenv(alias);
+                if (aliasValue != null && !aliasValue.isEmpty()) value = aliasValue;
+            }
+            if (value == null) {
+                String envValue = System.getenv(key.toUpperCase().replace(".", "_"));
+                value = (envValue != null && !envValue.isEmpty()) ? envValue : properties.getProperty(key);
+            }
+        }
+        return (value != null && !value.isEmpty()) ? value : defaultValue;
+    }
+}
@@ -0,0 +1,101 @@
+package com.framework.benchmarks;
+
+import com.framework.db.PooledDataSource;
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConnectionPoolBenchmark: The old DatabaseUtils path (DriverManager.getConnection per query) against
+ * PooledDataSource, running the getValidUser query through an H2 TCP server on localhost so every new
+ * connection pays a real socket + login handshake (a remote MySQL pays more).
+ *
+ * Run with:
+ *   mvn -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *       -Dexec.args="-cp %classpath org.openjdk.jmh.Main ConnectionPoolBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class ConnectionPoolBenchmark {
+
+    private static final String QUERY = "SELECT username FROM users WHERE is_active = ? LIMIT 1";
+
+    private Server server;
+    private String url;
+    private PooledDataSource pool;
+
+    @Setup
+    public void startDatabase() throws SQLException, IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = Server.createTcpServer("-tcpPort", String.valueOf(port), "-ifNotExists").start();
+        url = "jdbc:h2:tcp://localhost:" + port + "/mem:benchmark;DB_CLOSE_DELAY=-1";
+        try (Connection conn = DriverManager.getConnection(url, "sa", ""); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE users (id INT PRIMARY KEY, username VARCHAR(50), is_active INT)");
+            stmt.execute("INSERT INTO users VALUES (1, 'standard_user', 1), (2, 'locked_out_user', 0)");
+        }
+        pool = new PooledDataSource(url, "sa", "", 8, 8, 10_000, 2, 0, 300_000, 32);
+    }
+
+    @TearDown
+    public void stopDatabase() {
+        pool.close();
+        server.stop();
+    }
+
+    // ---------------------------------------------------------
+    // BASELINE: connect per query (DatabaseUtils before the pool)
+    // ---------------------------------------------------------
+    @Benchmark
+    public String connectPerQuery() throws SQLException {
+        try (Connection conn = DriverManager.getConnection(url, "sa", "")) {
+            return query(conn);
+        }
+    }
+
+    // ---------------------------------------------------------
+    // POOLED: validated borrow + cached prepared statement
+    // ---------------------------------------------------------
+    @Benchmark
+    public String pooled() throws SQLException {
+        try (Connection conn = pool.getConnection()) {
+            return query(conn);
+        }
+    }
+
+    private static String query(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(QUERY)) {
+            stmt.setInt(1, 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+}
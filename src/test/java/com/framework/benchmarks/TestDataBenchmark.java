@@ -0,0 +1,137 @@
+package com.framework.benchmarks;
+
+import com.framework.data.DataValidators;
+import com.framework.data.TestDataGenerator;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestDataBenchmark: The old StringUtils/AiHelper data generation (System.nanoTime emails, String.matches,
+ * Math.random) against TestDataGenerator and DataValidators, with 64 threads.
+ *
+ * The *Collisions benchmarks record every value in a shared set. The legacy one reports duplicates in the
+ * "collisions" column; the TestDataGenerator one throws on the first duplicate, so JMH marks the benchmark as
+ * failed instead of printing a number nobody checks. Run with:
+ *   mvn -q test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *       -Dexec.args="-cp %classpath org.openjdk.jmh.Main TestDataBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+public class TestDataBenchmark {
+
+    private static final String SAMPLE_EMAIL = "user.name@domain.co.uk";
+
+    // ---------------------------------------------------------
+    // BASELINE: generation and validation before TestDataGenerator
+    // ---------------------------------------------------------
+    @Benchmark
+    public String legacyNanoTimeEmail() {
+        return "user" + System.nanoTime() + "@test.com";
+    }
+
+    @Benchmark
+    public String legacyMathRandomPassword() {
+        return "SecurePass!" + (int) (Math.random() * 1000);
+    }
+
+    @Benchmark
+    public boolean legacyStringMatches() {
+        return SAMPLE_EMAIL.matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$");
+    }
+
+    // ---------------------------------------------------------
+    // GENERATOR: per-thread counters, ThreadLocalRandom, precompiled patterns
+    // ---------------------------------------------------------
+    @Benchmark
+    public String generatorEmail() {
+        return TestDataGenerator.email();
+    }
+
+    @Benchmark
+    public String generatorPassword() {
+        return TestDataGenerator.password();
+    }
+
+    @Benchmark
+    public boolean precompiledValidator() {
+        return DataValidators.isValidEmail(SAMPLE_EMAIL);
+    }
+
+    /**
+     * 100 emails per call into a buffer owned by the benchmark thread.
+     */
+    @Benchmark
+    public String[] generatorBulkEmails(Buffer buffer) {
+        return TestDataGenerator.fill(TestDataGenerator.Kind.EMAIL, buffer.values);
+    }
+
+    // ---------------------------------------------------------
+    // COLLISIONS: 64 threads x 10,000 values per iteration into one shared set
+    // ---------------------------------------------------------
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1, batchSize = 10_000)
+    @Measurement(iterations = 5, batchSize = 10_000)
+    public void legacyNanoTimeCollisions(Seen seen, Collisions collisions) {
+        if (!seen.values.add("user" + System.nanoTime() + "@test.com")) collisions.collisions++;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1, batchSize = 10_000)
+    @Measurement(iterations = 5, batchSize = 10_000)
+    public void generatorCollisions(Seen seen) {
+        String email = TestDataGenerator.email();
+        if (!seen.values.add(email)) {
+            throw new IllegalStateException("[DATA] TestDataGenerator produced a duplicate: " + email);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Buffer {
+        final String[] values = new String[100];
+    }
+
+    @State(Scope.Benchmark)
+    public static class Seen {
+        final Set<String> values = ConcurrentHashMap.newKeySet();
+
+        @Setup(Level.Iteration)
+        public void clear() {
+            values.clear();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Collisions {
+        public long collisions;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            collisions = 0;
+        }
+    }
+}
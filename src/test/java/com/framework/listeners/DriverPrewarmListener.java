@@ -0,0 +1,120 @@
+package com.framework.listeners;
+
+import com.framework.base.BaseTest;
+import com.framework.driver.DriverFactory;
+import com.framework.driver.DriverPool;
+import com.framework.utils.ConfigReader;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DriverPrewarmListener: Starts browser sessions in the background at suite start.
+ *
+ * Reads the suite XML's browser/headless parameters and thread counts (including the method workers
+ * MethodSchedulerListener assigns), works out how many sessions the BaseTest-driven tests will need,
+ * and asks DriverPool to launch them while TestNG is still preparing the run. Also reports time-to-first-test so the gain is measurable
+ * (compare runs with -Dprewarm.enabled=true and -Dprewarm.enabled=false).
+ */
+public class DriverPrewarmListener implements ISuiteListener, ITestListener {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.getProperty("prewarm.enabled", "true"));
+
+    private final AtomicBoolean firstTestSeen = new AtomicBoolean(false);
+    private volatile long suiteStartNanos;
+
+    @Override
+    public void onStart(ISuite suite) {
+        suiteStartNanos = System.nanoTime();
+        if (!ENABLED) {
+            System.out.println("[PREWARM] Disabled. Sessions will be launched on first use.");
+            return;
+        }
+
+        Map<String, Integer> demand = estimateDemand(suite.getXmlSuite());
+        for (Map.Entry<String, Integer> entry : demand.entrySet()) {
+            String[] target = entry.getKey().split("\\|");
+            DriverPool.prewarm(target[0], target[1], entry.getValue());
+        }
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        if (firstTestSeen.compareAndSet(false, true)) {
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - suiteStartNanos);
+            System.out.println("[PREWARM] Time-to-first-test: " + elapsedMs + " ms (pre-warm "
+                    + (ENABLED ? "ON" : "OFF") + ")");
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        System.out.println("[PREWARM] " + DriverPool.stats());
+    }
+
+    /**
+     * Sessions needed per browser|headless target.
+     * Each <test> needs one session per thread it runs methods on: the scheduler.workers count when
+     * MethodSchedulerListener schedules it, its thread-count for method/class parallelism, otherwise one.
+     * With parallel="tests" up to the suite thread-count <test> blocks run at once, so a target needs the
+     * sum over its busiest that-many tests; otherwise the busiest single test.
+     */
+    private Map<String, Integer> estimateDemand(XmlSuite xmlSuite) {
+        int concurrentTests = (xmlSuite.getParallel() == XmlSuite.ParallelMode.TESTS) ? Math.max(1, xmlSuite.getThreadCount()) : 1;
+
+        Map<String, List<Integer>> perTest = new LinkedHashMap<>();
+        for (XmlTest test : xmlSuite.getTests()) {
+            if (!usesBaseTest(test)) continue;
+
+            // Same priority as BaseTest: System property > XML parameter > default
+            Map<String, String> params = test.getAllParameters();
+            String browser = System.getProperty("browser", params.getOrDefault("browser", "chrome"));
+            String headless = System.getProperty("headless", params.getOrDefault("headless", "false"));
+            if (DriverFactory.isMobile(browser)) continue;
+
+            perTest.computeIfAbsent(browser + "|" + headless, k -> new ArrayList<>()).add(threadsFor(test));
+        }
+
+        Map<String, Integer> demand = new LinkedHashMap<>();
+        perTest.forEach((target, sessions) -> demand.put(target, sessions.stream()
+                .sorted(Comparator.reverseOrder())
+                .limit(concurrentTests)
+                .mapToInt(Integer::intValue)
+                .sum()));
+        return demand;
+    }
+
+    private static int threadsFor(XmlTest test) {
+        int scheduled = MethodSchedulerListener.workersFor(test);
+        if (scheduled > 0) return scheduled;
+
+        XmlSuite.ParallelMode parallel = test.getParallel(); // Inherits the suite's mode when the <test> sets none
+        boolean withinTest = parallel == XmlSuite.ParallelMode.METHODS
+                || parallel == XmlSuite.ParallelMode.CLASSES
+                || parallel == XmlSuite.ParallelMode.INSTANCES;
+        return withinTest ? Math.max(1, test.getThreadCount()) : 1;
+    }
+
+    private boolean usesBaseTest(XmlTest test) {
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+            try {
+                if (BaseTest.class.isAssignableFrom(xmlClass.getSupportClass())) return true;
+            } catch (Exception e) {
+                // Unloadable class — TestNG will report it; it doesn't need a browser from us
+            }
+        }
+        return false;
+    }
+}
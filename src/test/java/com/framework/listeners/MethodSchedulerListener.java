@@ -0,0 +1,192 @@
+package com.framework.listeners;
+
+import com.framework.base.BaseTest;
+import com.framework.execution.DurationHistory;
+import com.framework.execution.LptScheduler;
+import com.framework.execution.ShardPlanner;
+import com.framework.utils.ConfigReader;
+import org.testng.IAlterSuiteListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * MethodSchedulerListener: Spreads browser test methods across a worker pool, longest first.
+ *
+ * 1. Before the run, every <test> holding BaseTest classes is switched to parallel="methods"
+ *    with scheduler.workers threads (the XML keeps parallel="tests" between <test> blocks).
+ * 2. Methods are handed to TestNG longest-expected-first (LptScheduler) using DurationHistory.
+ *    TestNG's method pool is a shared queue, so whichever worker goes idle first pulls the next
+ *    method — long methods start early and short ones fill the gaps at the end.
+ * 3. Each method's wall time (including @BeforeMethod/@AfterMethod) is recorded per DataProvider
+ *    row and folded into the history file at suite end. Predicted vs actual makespan is printed.
+ *
+ * Workers keep driver affinity through DriverPool, which hands a thread back the session it released.
+ */
+public class MethodSchedulerListener implements IAlterSuiteListener, IMethodInterceptor,
+        IInvokedMethodListener, ITestListener, ISuiteListener {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(ConfigReader.getProperty("scheduler.enabled", "true"));
+    private static final int WORKERS = Integer.parseInt(ConfigReader.getProperty("scheduler.workers", "3"));
+    private static final long DEFAULT_ESTIMATE_MS =
+            Long.parseLong(ConfigReader.getProperty("scheduler.default.estimate.ms", "5000"));
+
+    private final DurationHistory history = DurationHistory.shared();
+    private final Map<String, Long> predictedMs = new ConcurrentHashMap<>();
+    private final Map<String, Long> contextStartNanos = new ConcurrentHashMap<>();
+
+    // Per worker thread: when the current invocation started, setup time waiting for its test, last test key
+    private final ThreadLocal<Long> invocationStart = new ThreadLocal<>();
+    private final ThreadLocal<Long> pendingSetupNanos = ThreadLocal.withInitial(() -> 0L);
+    private final ThreadLocal<String> lastTestKey = new ThreadLocal<>();
+
+    // ==================================================
+    // 1. SUITE SHAPE
+    // ==================================================
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!ENABLED) return;
+
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : suite.getTests()) {
+                int workers = workersFor(test);
+                if (workers == 0) continue;
+                test.setParallel(XmlSuite.ParallelMode.METHODS);
+                test.setThreadCount(workers);
+                System.out.println("[SCHEDULER] " + test.getName() + " -> parallel=methods | Workers: " + workers);
+            }
+        }
+    }
+
+    /**
+     * Worker threads the scheduler runs this <test> on, or 0 when it leaves the test alone.
+     * DriverPrewarmListener sizes its pre-warm from the same number.
+     */
+    static int workersFor(XmlTest test) {
+        return (ENABLED && usesBaseTest(test)) ? WORKERS : 0;
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        XmlTest test = context.getCurrentXmlTest();
+        if (!ENABLED || test.getParallel() != XmlSuite.ParallelMode.METHODS || methods.size() < 2) {
+            return methods;
+        }
+
+        LptScheduler.Plan<IMethodInstance> plan =
+                LptScheduler.plan(methods, this::estimateMs, test.getThreadCount());
+        predictedMs.put(test.getName(), plan.getMakespanMs());
+
+        System.out.println("[SCHEDULER] " + test.getName() + " | " + methods.size() + " methods on "
+                + test.getThreadCount() + " workers | Predicted makespan: " + plan.getMakespanMs()
+                + " ms (serial: " + plan.getTotalMs() + " ms)" + (history.isEmpty() ? " | No history yet" : ""));
+        System.out.println("[SCHEDULER] Dispatch order: " + plan.getOrder().stream()
+                .map(m -> m.getMethod().getMethodName() + "~" + estimateMs(m) + "ms")
+                .collect(Collectors.joining(", ")));
+        return new ArrayList<>(plan.getOrder());
+    }
+
+    // ==================================================
+    // 2. WALL-TIME RECORDING
+    // ==================================================
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        invocationStart.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        Long start = invocationStart.get();
+        if (start == null) return;
+        long elapsed = System.nanoTime() - start;
+        invocationStart.remove();
+
+        ITestNGMethod testMethod = method.getTestMethod();
+        if (method.isTestMethod()) {
+            String key = keyOf(testMethod, testResult);
+            history.record(key, elapsed + pendingSetupNanos.get());
+            pendingSetupNanos.set(0L);
+            lastTestKey.set(key);
+        } else if (testMethod.isBeforeMethodConfiguration()) {
+            pendingSetupNanos.set(pendingSetupNanos.get() + elapsed);
+        } else if (testMethod.isAfterMethodConfiguration() && lastTestKey.get() != null) {
+            history.record(lastTestKey.get(), elapsed);
+        }
+    }
+
+    // ==================================================
+    // 3. MAKESPAN REPORT
+    // ==================================================
+
+    @Override
+    public void onStart(ITestContext context) {
+        contextStartNanos.put(context.getName(), System.nanoTime());
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        Long predicted = predictedMs.get(context.getName());
+        Long start = contextStartNanos.remove(context.getName());
+        if (predicted == null || start == null) return;
+
+        long actual = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        System.out.println("[SCHEDULER] " + context.getName() + " | Predicted makespan: " + predicted
+                + " ms | Actual: " + actual + " ms");
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        history.save();
+        System.out.println("[SCHEDULER] Duration history updated: " + history.getFile());
+    }
+
+    // ==================================================
+    // HELPERS
+    // ==================================================
+
+    private long estimateMs(IMethodInstance instance) {
+        ITestNGMethod method = instance.getMethod();
+        return history.methodEstimateMs(method.getRealClass().getName(), method.getMethodName(), DEFAULT_ESTIMATE_MS);
+    }
+
+    private static String keyOf(ITestNGMethod method, ITestResult result) {
+        String className = method.getRealClass().getName();
+        if (!method.isDataDriven()) {
+            return DurationHistory.keyOf(className, method.getMethodName(), -1);
+        }
+        // On a shard TestNG numbers only the rows it kept; record them under their original row
+        String methodKey = DurationHistory.keyOf(className, method.getMethodName(), -1);
+        int row = ShardPlanner.originalRow(methodKey, result.getParameterIndex());
+        return DurationHistory.keyOf(className, method.getMethodName(), row);
+    }
+
+    private static boolean usesBaseTest(XmlTest test) {
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+            try {
+                if (BaseTest.class.isAssignableFrom(xmlClass.getSupportClass())) return true;
+            } catch (Exception e) {
+                // Unloadable class — TestNG will report it
+            }
+        }
+        return false;
+    }
+}
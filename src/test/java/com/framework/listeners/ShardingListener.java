@@ -0,0 +1,113 @@
+package com.framework.listeners;
+
+import com.framework.execution.DurationHistory;
+import com.framework.execution.ShardPlanner;
+import org.testng.IDataProviderInterceptor;
+import org.testng.IDataProviderMethod;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ShardingListener: Runs only this runner's share of the suite (-Dshard.index=i -Dshard.count=N).
+ *
+ * Plain test methods are filtered in the method interceptor. Data-driven methods are kept on every
+ * shard and their rows are filtered in the DataProvider interceptor, so DashboardTest's personas
+ * can land on different runners. Registered before MethodSchedulerListener so the scheduler
+ * only plans the methods this shard actually runs.
+ */
+public class ShardingListener implements IMethodInterceptor, IDataProviderInterceptor, ISuiteListener {
+
+    private final DurationHistory history = DurationHistory.shared();
+    private final Map<String, Map<String, Integer>> plans = new ConcurrentHashMap<>();
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!ShardPlanner.isActive()) return;
+        ShardPlanner.validate();
+        System.out.println("[SHARD] Running shard " + ShardPlanner.getIndex() + " of " + ShardPlanner.getCount()
+                + " (0-based) | Balancing: " + (history.isEmpty() ? "hash (no duration history)" : "duration history + hash"));
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!ShardPlanner.isActive()) return methods;
+
+        Map<String, Integer> plan = planFor(context);
+        List<IMethodInstance> mine = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            // Data-driven methods stay on every shard; their rows are split in the DataProvider interceptor
+            if (method.isDataDriven() || shardOf(plan, methodKey(method)) == ShardPlanner.getIndex()) {
+                mine.add(instance);
+            }
+        }
+
+        System.out.println("[SHARD] " + context.getName() + " | Kept " + mine.size() + " of " + methods.size() + " methods");
+        return mine;
+    }
+
+    @Override
+    public Iterator<Object[]> intercept(Iterator<Object[]> original, IDataProviderMethod dataProviderMethod,
+                                        ITestNGMethod method, ITestContext context) {
+        if (!ShardPlanner.isActive()) return original;
+
+        Map<String, Integer> plan = planFor(context);
+        String methodKey = methodKey(method);
+        List<Object[]> mine = new ArrayList<>();
+        int row = 0;
+        while (original.hasNext()) {
+            Object[] parameters = original.next();
+            if (shardOf(plan, methodKey + "#" + row) == ShardPlanner.getIndex()) {
+                ShardPlanner.mapRow(methodKey, mine.size(), row);
+                mine.add(parameters);
+            }
+            row++;
+        }
+
+        System.out.println("[SHARD] " + method.getMethodName() + " | Kept " + mine.size() + " of " + row + " data rows");
+        return mine.iterator();
+    }
+
+    /**
+     * One plan per <test>, built from every method in it plus the DataProvider rows the history knows about.
+     * Rows the history has never seen are hashed when the DataProvider runs.
+     */
+    private Map<String, Integer> planFor(ITestContext context) {
+        return plans.computeIfAbsent(context.getName(), name -> {
+            Set<String> rowKeys = history.snapshot().keySet();
+            Set<String> units = new TreeSet<>();
+            for (ITestNGMethod method : context.getAllTestMethods()) {
+                String key = methodKey(method);
+                if (!method.isDataDriven()) {
+                    units.add(key);
+                    continue;
+                }
+                for (String known : rowKeys) {
+                    if (known.startsWith(key + "#")) units.add(known);
+                }
+            }
+            return ShardPlanner.assign(units, history, ShardPlanner.getCount());
+        });
+    }
+
+    private static int shardOf(Map<String, Integer> plan, String unit) {
+        Integer shard = plan.get(unit);
+        return (shard != null) ? shard : ShardPlanner.hashShard(unit, ShardPlanner.getCount());
+    }
+
+    private static String methodKey(ITestNGMethod method) {
+        return DurationHistory.keyOf(method.getRealClass().getName(), method.getMethodName(), -1);
+    }
+}
@@ -1,23 +1,39 @@
 package com.framework.listeners;
 
+import com.framework.data.UserLeaseManager;
+import com.framework.db.PooledDataSource;
 import com.framework.driver.DriverManager;
+import com.framework.driver.DriverPool;
+import com.framework.driver.GridAdmissionController;
+import com.framework.driver.HealeniumCircuitBreaker;
+import com.framework.driver.SessionTimeouts;
+import com.framework.driver.WireCommandProfiler;
+import com.framework.execution.PhaseTimings;
+import com.framework.execution.SuiteMetrics;
+import com.framework.pages.ElementCache;
+import com.framework.pages.PageSnapshot;
 import com.framework.utils.SlackUtils;
 import io.qameta.allure.Attachment;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
 import org.testng.ITestContext;
 import org.testng.ITestListener;
 import org.testng.ITestResult;
 
+import java.nio.file.Paths;
+
 /**
  * TestListener: Global observer for test execution events.
  * Handles logging, screenshot capture on failure, and CI/CD notifications.
  */
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, ISuiteListener {
 
     @Override
     public void onTestStart(ITestResult result) {
+        SuiteMetrics.testStarted();
         System.out.println("--------------------------------------------------");
         System.out.println("[INFO] STARTED TEST: " + result.getMethod().getMethodName());
         System.out.println("--------------------------------------------------");
@@ -25,11 +41,13 @@ public class TestListener implements ITestListener {
 
     @Override
     public void onTestSuccess(ITestResult result) {
+        SuiteMetrics.testPassed();
         System.out.println("[PASS] " + result.getMethod().getMethodName());
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
+        SuiteMetrics.testFailed();
         System.err.println("[FAIL] " + result.getMethod().getMethodName());
         Throwable t = result.getThrowable();
         String reason = (t != null) ? t.getMessage() : "No exception captured";
@@ -40,10 +58,18 @@ public class TestListener implements ITestListener {
             System.out.println("[INFO] Capturing failure screenshot for Allure report...");
             saveScreenshot(driver);
         }
+
+        // The page state the test last asserted against: already in memory, no browser round-trip
+        PageSnapshot snapshot = PageSnapshot.last();
+        if (snapshot != null) {
+            saveSnapshot(snapshot);
+        }
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
+        // Attempts handed back to RetryAnalyzer are reported as skips; they are counted as retries instead
+        if (!result.wasRetried()) SuiteMetrics.testSkipped();
         System.out.println("[WARN] SKIPPED: " + result.getMethod().getMethodName());
     }
 
@@ -64,10 +90,45 @@ public class TestListener implements ITestListener {
                 context.getSkippedTests().size()
         );
 
+        System.out.println("[INFO] " + DriverPool.stats());
+        System.out.println("[INFO] " + SessionTimeouts.stats());
+        System.out.println("[INFO] " + ElementCache.stats());
+        System.out.println("[INFO] Healenium: " + HealeniumCircuitBreaker.getState() + " | " + HealeniumCircuitBreaker.metrics());
+        if (GridAdmissionController.current() != null) {
+            System.out.println("[INFO] Grid admission: " + GridAdmissionController.current().metrics());
+        }
+        if (PooledDataSource.current() != null) {
+            System.out.println("[INFO] DB pool: " + PooledDataSource.current().metrics());
+        }
+        if (UserLeaseManager.current() != null) {
+            System.out.println("[INFO] User leases: " + UserLeaseManager.current().metrics());
+        }
         System.out.println("[INFO] Dispatching execution summary to Slack...");
         SlackUtils.sendResult(summary);
     }
 
+    /**
+     * Suite start: opens the live OpenMetrics endpoint (no-op unless metrics.server.enabled=true).
+     */
+    @Override
+    public void onStart(ISuite suite) {
+        SuiteMetrics.startServer();
+    }
+
+    /**
+     * Suite end: writes the setup/teardown phase histograms (p50/p95/p99 per browser/mode)
+     * and ranks page-object methods by WebDriver round-trips when the wire profiler is on.
+     */
+    @Override
+    public void onFinish(ISuite suite) {
+        System.out.println("[TIMING] Phase timings for " + suite.getName() + ":\n" + PhaseTimings.summary());
+        PhaseTimings.writeJson(Paths.get("target", "phase-timings.json"));
+        if (WireCommandProfiler.isEnabled()) {
+            System.out.println("[WIRE] Most expensive page-object methods:\n" + WireCommandProfiler.ranking(20));
+        }
+        SuiteMetrics.stop();
+    }
+
     /**
      * Captures a screenshot and attaches it directly to the Allure Report.
      */
@@ -75,4 +136,12 @@ public class TestListener implements ITestListener {
     public byte[] saveScreenshot(WebDriver driver) {
         return ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
     }
+
+    /**
+     * Attaches the last PageSnapshot taken by the failed test to the Allure Report.
+     */
+    @Attachment(value = "Last Page Snapshot", type = "text/plain")
+    public String saveSnapshot(PageSnapshot snapshot) {
+        return snapshot.toString();
+    }
 }
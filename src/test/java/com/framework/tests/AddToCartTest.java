@@ -53,10 +53,8 @@ public class AddToCartTest extends BaseTest {
 
         loginPage.login(ConfigReader.getProperty("app_username"), ConfigReader.getProperty("app_password"));
 
-        // Action: Add 3 specific items
-        inventoryPage.addToCart("Sauce Labs Backpack");
-        inventoryPage.addToCart("Sauce Labs Bike Light");
-        inventoryPage.addToCart("Sauce Labs Bolt T-Shirt");
+        // Action: Add 3 specific items (one batched round-trip on web)
+        inventoryPage.addAllToCart("Sauce Labs Backpack", "Sauce Labs Bike Light", "Sauce Labs Bolt T-Shirt");
 
         // UI Sync
         inventoryPage.waitForCartBadge();
@@ -7,15 +7,20 @@ import com.framework.utils.AiHelper;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.CompletableFuture;
+
 public class AiDrivenTest extends BaseTest {
 
     @Test(groups = {"ai", "web"})
     public void testLoginWithAiGeneratedData() {
         LoginPage loginPage = new LoginPage(DriverManager.getDriver());
 
-        // 1. Ask "AI" to generate diverse (invalid) test data
-        String aiUsername = AiHelper.generateTestData("Generate a valid looking email address");
-        String aiPassword = AiHelper.generateTestData("Generate a complex password");
+        // 1. Ask "AI" to generate diverse (invalid) test data. Both prompts are in flight at once and share one
+        //    batched request; on a cold run each also starts its reservoir refill, so expect up to three API calls.
+        CompletableFuture<String> username = AiHelper.generateTestDataAsync("Generate a valid looking email address");
+        CompletableFuture<String> password = AiHelper.generateTestDataAsync("Generate a complex password");
+        String aiUsername = username.join();
+        String aiPassword = password.join();
 
         System.out.println("[AI] Testing with generated credentials: " + aiUsername);
 
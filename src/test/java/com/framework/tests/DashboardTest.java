@@ -4,6 +4,7 @@ import com.framework.base.BaseTest;
 import com.framework.driver.DriverManager;
 import com.framework.pages.DashboardPage;
 import com.framework.pages.LoginPage;
+import com.framework.pages.PageSnapshot;
 import com.framework.utils.ConfigReader;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
@@ -25,11 +26,12 @@ public class DashboardTest extends BaseTest {
         // 1. Unified Login
         loginPage.login(username, password);
 
-        // 2. Functional UI Assertions
-        Assert.assertTrue(dashboardPage.isCartIconDisplayed(),
+        // 2. Functional UI Assertions (one snapshot once the header renders, then no further WebDriver traffic)
+        PageSnapshot dashboard = dashboardPage.snapshotWhenVisible("pageTitle");
+        Assert.assertTrue(dashboard.isVisible("cartIcon"),
                 "CRITICAL: Shopping cart icon missing for user: " + username);
 
-        String headerText = dashboardPage.getWelcomeMessageText();
+        String headerText = dashboard.getText("pageTitle");
 
         // Products is the standard header for Swag Labs
         Assert.assertTrue(headerText.equalsIgnoreCase("Products"),
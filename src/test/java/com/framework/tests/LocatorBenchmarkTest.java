@@ -0,0 +1,110 @@
+package com.framework.tests;
+
+import com.framework.base.BaseTest;
+import com.framework.driver.DriverManager;
+import com.framework.driver.SessionTimeouts;
+import com.framework.pages.CartPage;
+import com.framework.pages.InventoryPage;
+import com.framework.pages.LocatorCatalog;
+import com.framework.pages.LocatorOptimizer;
+import com.framework.pages.LocatorTemplate;
+import com.framework.pages.LoginPage;
+import com.framework.utils.ConfigReader;
+import io.qameta.allure.Allure;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * LocatorBenchmarkTest: Times every web locator in the catalog against the live page it belongs to,
+ * next to its equivalent strategies (ID vs CSS vs XPath, optimized rewrites), and records the fastest one.
+ *
+ * Results go to target/locator-benchmark.json and an Allure attachment. Template entries are skipped
+ * (they need parameters). Run with: mvn test -Pbenchmark
+ */
+public class LocatorBenchmarkTest extends BaseTest {
+
+    private static final int ITERATIONS = Integer.parseInt(ConfigReader.getProperty("benchmark.locator.iterations", "25"));
+
+    // ---------------------------------------------------------
+    // BENCHMARK: Mean findElements latency per locator strategy, per catalog entry
+    // ---------------------------------------------------------
+    @Test(groups = "benchmark")
+    public void benchmarkLocatorStrategies() throws IOException {
+        WebDriver driver = DriverManager.getDriver();
+        JSONArray results = new JSONArray();
+        StringBuilder table = new StringBuilder(String.format("%-34s | %-9s | %10s | %s%n", "entry", "strategy", "mean us", "locator"));
+
+        // Each page's entries are timed while that page is showing
+        measurePage(driver, "LoginPage", results, table);
+        new LoginPage(driver).login(ConfigReader.getProperty("app_username"), ConfigReader.getProperty("app_password"));
+        InventoryPage inventory = new InventoryPage(driver);
+        Assert.assertTrue(inventory.isProductsHeaderDisplayed(), "Benchmark needs the inventory page");
+        inventory.addToCart("Sauce Labs Backpack");
+        measurePage(driver, "InventoryPage", results, table);
+        measurePage(driver, "DashboardPage", results, table);
+        measurePage(driver, "ProductsPage", results, table);
+        CartPage cart = inventory.goToCart();
+        Assert.assertTrue(cart.isItemInCart("Sauce Labs Backpack"), "Benchmark needs an item in the cart");
+        measurePage(driver, "CartPage", results, table);
+
+        Path out = Paths.get("target", "locator-benchmark.json");
+        Files.createDirectories(out.getParent());
+        Files.write(out, results.toString(2).getBytes(StandardCharsets.UTF_8));
+
+        System.out.println("[BENCHMARK] Locator strategies (" + ITERATIONS + " iterations, " + LocatorCatalog.getRewrites()
+                + " XPath(s) rewritten by the catalog):\n" + table);
+        Allure.addAttachment("Locator Benchmark", "text/plain", table.toString(), ".txt");
+        Assert.assertFalse(results.isEmpty(), "No catalog locator matched its page");
+    }
+
+    private void measurePage(WebDriver driver, String page, JSONArray results, StringBuilder table) {
+        for (Map.Entry<String, LocatorTemplate> entry : LocatorCatalog.entries(page, LocatorCatalog.Platform.WEB).entrySet()) {
+            if (entry.getValue().hasParameters()) continue;
+            By locator = entry.getValue().resolve();
+            if (find(driver, locator).isEmpty()) continue; // Not on this page state (e.g. the login error)
+
+            String name = page + "." + entry.getKey();
+            JSONObject result = new JSONObject().put("entry", name);
+            JSONObject strategies = new JSONObject();
+            String fastest = null;
+            double fastestMicros = Double.MAX_VALUE;
+
+            for (Map.Entry<String, By> candidate : LocatorOptimizer.equivalents(locator).entrySet()) {
+                double micros = meanMicros(driver, candidate.getValue());
+                strategies.put(candidate.getKey(), new JSONObject().put("locator", candidate.getValue().toString()).put("meanMicros", micros));
+                table.append(String.format(Locale.ROOT, "%-34s | %-9s | %10.1f | %s%n", name, candidate.getKey(), micros, candidate.getValue()));
+                if (micros < fastestMicros) {
+                    fastestMicros = micros;
+                    fastest = candidate.getKey();
+                }
+            }
+            results.put(result.put("strategies", strategies).put("fastest", fastest));
+        }
+    }
+
+    private double meanMicros(WebDriver driver, By locator) {
+        find(driver, locator); // warm-up
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            find(driver, locator);
+        }
+        return (System.nanoTime() - start) / 1_000.0 / ITERATIONS;
+    }
+
+    private static List<?> find(WebDriver driver, By locator) {
+        return SessionTimeouts.of(driver).withoutImplicitWait(() -> driver.findElements(locator));
+    }
+}
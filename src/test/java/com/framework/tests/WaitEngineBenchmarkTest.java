@@ -0,0 +1,109 @@
+package com.framework.tests;
+
+import com.framework.base.BaseTest;
+import com.framework.driver.DriverManager;
+import com.framework.driver.WireCommandProfiler;
+import com.framework.pages.InventoryPage;
+import com.framework.pages.LoginPage;
+import com.framework.pages.ObserverWait;
+import com.framework.utils.ConfigReader;
+import io.qameta.allure.Allure;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * WaitEngineBenchmarkTest: Polling (WebDriverWait) vs observer (MutationObserver) waits on the same flows.
+ *
+ * The app change is scheduled in-page {@code benchmark.wait.delay.ms} after the trigger, so each wait
+ * genuinely has to wait. Only the wait itself is timed and counted (via the wire command listener);
+ * triggers and resets go through the undecorated driver. Run with: mvn test -Pbenchmark
+ */
+public class WaitEngineBenchmarkTest extends BaseTest {
+
+    private static final int ITERATIONS = Integer.parseInt(ConfigReader.getProperty("benchmark.wait.iterations", "10"));
+    private static final long APP_DELAY_MS = Long.parseLong(ConfigReader.getProperty("benchmark.wait.delay.ms", "300"));
+
+    private static final By ADD_BACKPACK = By.id("add-to-cart-sauce-labs-backpack");
+    private static final By REMOVE_BACKPACK = By.id("remove-sauce-labs-backpack");
+    private static final By CART_BADGE = By.className("shopping_cart_badge");
+
+    // ---------------------------------------------------------
+    // BENCHMARK: Mean wait latency and WebDriver commands per wait, per engine
+    // ---------------------------------------------------------
+    @Test(groups = "benchmark")
+    public void benchmarkWaitEngines() {
+        WebDriver driver = DriverManager.getDriver();
+        new LoginPage(driver).login(ConfigReader.getProperty("app_username"), ConfigReader.getProperty("app_password"));
+        Assert.assertTrue(new InventoryPage(driver).isProductsHeaderDisplayed(), "Benchmark needs the inventory page");
+
+        WebDriver counted = new EventFiringDecorator<>(WireCommandProfiler.listener()).decorate(driver);
+        Duration timeout = ConfigReader.snapshot().getDuration("timeout.explicit", ChronoUnit.SECONDS, 20);
+        WebDriverWait polling = new WebDriverWait(counted, timeout);
+        ObserverWait observer = new ObserverWait(counted, timeout);
+        WebDriverWait reset = new WebDriverWait(driver, timeout);
+
+        StringBuilder table = new StringBuilder(String.format("%-16s | %-8s | %12s | %14s%n", "flow", "engine", "mean wait ms", "commands/wait"));
+
+        // Flow 1: InventoryPage.addToCart -> Remove button appears
+        Runnable addLater = () -> clickLater(driver, "#add-to-cart-sauce-labs-backpack");
+        Runnable removeNow = () -> {
+            driver.findElement(REMOVE_BACKPACK).click();
+            reset.until(ExpectedConditions.visibilityOfElementLocated(ADD_BACKPACK));
+        };
+        table.append(measure("removeButton", "polling", addLater, () -> polling.until(ExpectedConditions.visibilityOfElementLocated(REMOVE_BACKPACK)), removeNow));
+        table.append(measure("removeButton", "observer", addLater, () -> observer.untilVisible(REMOVE_BACKPACK), removeNow));
+
+        // Flow 2: waitForCartBadge
+        table.append(measure("cartBadge", "polling", addLater, () -> polling.until(ExpectedConditions.visibilityOfElementLocated(CART_BADGE)), removeNow));
+        table.append(measure("cartBadge", "observer", addLater, () -> observer.untilVisible(CART_BADGE), removeNow));
+
+        // Flow 3: waitForUrlToContain after the cart link is clicked
+        Runnable openCartLater = () -> clickLater(driver, ".shopping_cart_link");
+        Runnable backToInventory = () -> {
+            driver.navigate().back();
+            reset.until(ExpectedConditions.urlContains("inventory.html"));
+        };
+        table.append(measure("cartUrl", "polling", openCartLater, () -> polling.until(ExpectedConditions.urlContains("cart.html")), backToInventory));
+        table.append(measure("cartUrl", "observer", openCartLater, () -> observer.untilUrlContains("cart.html"), backToInventory));
+
+        System.out.println("[BENCHMARK] Wait engines (" + ITERATIONS + " iterations, app delay " + APP_DELAY_MS + " ms):\n" + table);
+        Allure.addAttachment("Wait Engine Benchmark", "text/plain", table.toString(), ".txt");
+    }
+
+    private String measure(String flow, String engine, Runnable trigger, Runnable waitUnderTest, Runnable reset) {
+        long totalNanos = 0;
+        long commands = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            trigger.run();
+            WireCommandProfiler.drainTest();
+
+            long start = System.nanoTime();
+            waitUnderTest.run();
+            totalNanos += System.nanoTime() - start;
+            commands += WireCommandProfiler.drainTest().getRoundTrips();
+
+            reset.run();
+        }
+        return String.format(Locale.ROOT, "%-16s | %-8s | %12.1f | %14.1f%n", flow, engine,
+                totalNanos / 1_000_000.0 / ITERATIONS, commands / (double) ITERATIONS);
+    }
+
+    /**
+     * Clicks the element APP_DELAY_MS from now, from inside the page, simulating a slow app update.
+     */
+    private static void clickLater(WebDriver driver, String css) {
+        ((JavascriptExecutor) driver).executeScript(
+                "var el = document.querySelector(arguments[0]); setTimeout(function () { el.click(); }, arguments[1]);",
+                css, APP_DELAY_MS);
+    }
+}
@@ -0,0 +1,121 @@
+package com.framework.unit;
+
+import com.framework.pages.BasePage;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * ActionBatchTest: Verifies which steps of a batch run per command after the in-page script, driven by
+ * a mocked JavascriptExecutor. The page records per-command steps instead of touching a browser.
+ */
+public class ActionBatchTest {
+
+    private WebDriver driver;
+    private JavascriptExecutor js;
+    private RecordingPage page;
+
+    @BeforeMethod(groups = "unit")
+    public void setUp() {
+        driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        js = (JavascriptExecutor) driver;
+        page = new RecordingPage(driver);
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): A batch that completes in-page makes one script call and no per-command steps
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testCompletedBatchRunsInOneScript() {
+        when(js.executeAsyncScript(anyString(), any(), any(), any())).thenReturn(Map.of("ok", true));
+
+        page.login();
+
+        Assert.assertTrue(page.perCommand.isEmpty(), "Nothing left to do per command: " + page.perCommand);
+        verify(js, times(1)).executeAsyncScript(anyString(), any(), eq(10_000L), anyString());
+        verify(js, never()).executeScript(anyString(), any());
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A step that fails in-page and the steps after it run per command
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testInPageFailureResumesAtFailedStep() {
+        when(js.executeAsyncScript(anyString(), any(), any(), any()))
+                .thenReturn(Map.of("ok", false, "step", 1L, "reason", "not found"));
+
+        page.login();
+
+        Assert.assertEquals(page.perCommand, List.of("enterText Password Field", "click Login Button"));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A script killed by navigation resumes after the steps it recorded as completed
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testInterruptedScriptResumesAfterCompletedSteps() {
+        when(js.executeAsyncScript(anyString(), any(), any(), any())).thenThrow(new WebDriverException("document unloaded"));
+        when(js.executeScript(anyString(), any())).thenReturn("2");
+
+        page.login();
+
+        Assert.assertEquals(page.perCommand, List.of("click Login Button"));
+    }
+
+    // ---------------------------------------------------------
+    // NEGATIVE (Unit): Unreadable progress replays the whole batch per command
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testUnreadableProgressReplaysEveryStep() {
+        when(js.executeAsyncScript(anyString(), any(), any(), any())).thenThrow(new WebDriverException("no such window"));
+        when(js.executeScript(anyString(), any())).thenThrow(new WebDriverException("no such window"));
+
+        page.login();
+
+        Assert.assertEquals(page.perCommand, List.of("enterText Username Field", "enterText Password Field", "click Login Button"));
+    }
+
+    /**
+     * A page whose per-command steps are recorded, not executed.
+     */
+    private static final class RecordingPage extends BasePage {
+        private final List<String> perCommand = new ArrayList<>();
+
+        private RecordingPage(WebDriver driver) {
+            super(driver);
+        }
+
+        private void login() {
+            batch("Login")
+                    .setValue(By.id("user-name"), "standard_user", "Username Field")
+                    .setValue(By.id("password"), "secret_sauce", "Password Field")
+                    .click(By.id("login-button"), "Login Button")
+                    .run();
+        }
+
+        @Override
+        protected void enterText(By locator, String text, String elementName) {
+            perCommand.add("enterText " + elementName);
+        }
+
+        @Override
+        protected void click(By locator, String elementName) {
+            perCommand.add("click " + elementName);
+        }
+
+        @Override
+        protected void waitForVisibility(By locator) {
+            perCommand.add("waitForVisibility " + locator);
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.framework.unit;
+
+import com.framework.utils.AiClient;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * AiClientTest: Runs AiClient against a stub chat-completions endpoint on localhost.
+ * The stub answers "JSON array of N" requests with N distinct values and anything else with one value,
+ * counting requests and the peak number in flight.
+ */
+public class AiClientTest {
+
+    private static final Pattern ARRAY_REQUEST = Pattern.compile("JSON array of (\\d+)");
+
+    private HttpServer stub;
+    private ExecutorService stubThreads;
+    private URI endpoint;
+    private Path cacheDir;
+    private final List<AiClient> clients = new ArrayList<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger values = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private volatile int status;
+    private volatile long delayMs;
+
+    @BeforeMethod(groups = "unit")
+    public void startStub() throws IOException {
+        requests.set(0);
+        values.set(0);
+        inFlight.set(0);
+        maxInFlight.set(0);
+        status = 200;
+        delayMs = 0;
+        cacheDir = Files.createTempDirectory("ai-cache");
+
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubThreads = Executors.newFixedThreadPool(8);
+        stub.setExecutor(stubThreads);
+        stub.createContext("/v1/chat/completions", this::complete);
+        stub.start();
+        endpoint = URI.create("http://127.0.0.1:" + stub.getAddress().getPort() + "/v1/chat/completions");
+    }
+
+    @AfterMethod(groups = "unit", alwaysRun = true)
+    public void stopStub() {
+        clients.forEach(AiClient::close);
+        clients.clear();
+        stub.stop(0);
+        stubThreads.shutdownNow();
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Concurrent prompts share one request and each gets its own answer
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testConcurrentPromptsAreBatched() {
+        AiClient client = client(4, 8, 200, null, 0);
+
+        List<CompletableFuture<String>> answers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            answers.add(client.generateAsync("Generate city name " + i));
+        }
+
+        List<String> results = new ArrayList<>();
+        answers.forEach(answer -> results.add(answer.join()));
+        Assert.assertEquals(requests.get(), 1, "Five prompts inside one window should be one API call");
+        Assert.assertEquals(new HashSet<>(results).size(), 5, "Every prompt needs its own answer: " + results);
+        Assert.assertEquals(client.metrics().get("batched.prompts"), Long.valueOf(5));
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): A second run with the same cache directory does not call the API
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testDiskCacheSurvivesClients() {
+        String first = client(4, 1, 0, Duration.ofHours(1), 0).generate("Generate a street name");
+        Assert.assertEquals(requests.get(), 1);
+
+        AiClient nextRun = client(4, 1, 0, Duration.ofHours(1), 0);
+        Assert.assertEquals(nextRun.generate("Generate a street name"), first);
+        Assert.assertEquals(requests.get(), 1, "Cached answer should not hit the API again");
+        Assert.assertEquals(nextRun.metrics().get("cache.hits"), Long.valueOf(1));
+
+        // A different prompt is a different cache entry
+        nextRun.generate("Generate a country name");
+        Assert.assertEquals(requests.get(), 2);
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Once the reservoir is filled, the same prompt is served without API calls
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testReservoirServesSamePrompt() throws InterruptedException {
+        AiClient client = client(4, 1, 0, null, 6);
+        client.prime("Generate a valid looking email address");
+        waitForReservoir(client, "Generate a valid looking email address", 6);
+        int callsAfterPriming = requests.get();
+
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            emails.add(client.generate("  generate a VALID looking   email address"));
+        }
+        Assert.assertEquals(requests.get(), callsAfterPriming, "Reservoir hits must not call the API");
+        Assert.assertEquals(new HashSet<>(emails).size(), 2);
+        Assert.assertEquals(client.metrics().get("reservoir.hits"), Long.valueOf(2));
+
+        // Draining to half triggers a background refill
+        client.generate("Generate a valid looking email address");
+        waitForReservoir(client, "Generate a valid looking email address", 9);
+        Assert.assertEquals(requests.get(), callsAfterPriming + 1);
+    }
+
+    // ---------------------------------------------------------
+    // NEGATIVE (Unit): A prompt that only shares a word is not served from another prompt's reservoir
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testReservoirDoesNotServeOtherPrompts() throws InterruptedException {
+        AiClient client = client(4, 1, 0, null, 6);
+        client.prime("Generate a valid looking email address");
+        waitForReservoir(client, "Generate a valid looking email address", 6);
+        int callsAfterPriming = requests.get();
+
+        client.generate("Generate an invalid email address");
+        Assert.assertEquals(client.metrics().get("reservoir.hits"), Long.valueOf(0),
+                "Valid emails must not answer a prompt for invalid ones");
+        Assert.assertEquals(client.getReservoirLevel("Generate a valid looking email address"), 6);
+        Assert.assertTrue(requests.get() > callsAfterPriming, "The invalid-email prompt needs its own API call");
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): No more than ai.max.concurrent requests are in flight
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testConcurrencyLimit() {
+        delayMs = 200;
+        AiClient client = client(2, 1, 0, null, 0);
+
+        List<CompletableFuture<String>> answers = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            answers.add(client.generateAsync("Generate product name " + i));
+        }
+        answers.forEach(CompletableFuture::join);
+
+        Assert.assertEquals(requests.get(), 6);
+        Assert.assertTrue(maxInFlight.get() <= 2, "Peak in-flight requests: " + maxInFlight.get());
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): API errors fail the future instead of hanging the caller
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testApiErrorFailsFuture() {
+        status = 500;
+        AiClient client = client(2, 1, 0, Duration.ofHours(1), 0);
+
+        IllegalStateException e = Assert.expectThrows(IllegalStateException.class, () -> client.generate("Generate a zip code"));
+        Assert.assertTrue(e.getMessage().contains("HTTP 500"), e.getMessage());
+        Assert.assertEquals(client.metrics().get("failures"), Long.valueOf(1));
+    }
+
+    private AiClient client(int maxConcurrent, int batchSize, long windowMs, Duration ttl, int reservoirSize) {
+        AiClient client = new AiClient(endpoint, "test-key", "stub-model", maxConcurrent, batchSize, windowMs,
+                cacheDir, ttl, reservoirSize, Duration.ofSeconds(5));
+        clients.add(client);
+        return client;
+    }
+
+    private static void waitForReservoir(AiClient client, String prompt, int level) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (client.getReservoirLevel(prompt) < level && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        Assert.assertTrue(client.getReservoirLevel(prompt) >= level, "Reservoir level: " + client.getReservoirLevel(prompt));
+    }
+
+    // ---------------------------------------------------------
+    // Stub endpoint
+    // ---------------------------------------------------------
+    private void complete(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            if (delayMs > 0) TimeUnit.MILLISECONDS.sleep(delayMs);
+            if (status != 200) {
+                respond(exchange, status, "{\"error\":{\"message\":\"stub failure\"}}");
+                return;
+            }
+
+            JSONObject request = new JSONObject(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            JSONArray messages = request.getJSONArray("messages");
+            String prompt = messages.getJSONObject(messages.length() - 1).getString("content");
+
+            Matcher array = ARRAY_REQUEST.matcher(prompt);
+            String content;
+            if (array.find()) {
+                JSONArray answers = new JSONArray();
+                for (int i = 0; i < Integer.parseInt(array.group(1)); i++) {
+                    answers.put("value-" + values.incrementAndGet());
+                }
+                content = answers.toString();
+            } else {
+                content = "value-" + values.incrementAndGet();
+            }
+            JSONObject message = new JSONObject().put("role", "assistant").put("content", content);
+            respond(exchange, 200, new JSONObject().put("choices", new JSONArray().put(new JSONObject().put("message", message))).toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
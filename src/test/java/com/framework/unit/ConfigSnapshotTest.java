@@ -0,0 +1,84 @@
+package com.framework.unit;
+
+import com.framework.utils.ConfigReader;
+import com.framework.utils.ConfigSnapshot;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * ConfigSnapshotTest: Verifies the priority hierarchy, typed accessors and snapshot swapping
+ * with in-memory sources (no environment changes needed).
+ */
+public class ConfigSnapshotTest {
+
+    private static ConfigSnapshot snapshot(Properties file, Properties system, Map<String, String> env) {
+        return new ConfigSnapshot(file, system, env, Map.of("cloud_username", "SAUCE_USERNAME"), 1, "test");
+    }
+
+    private static Properties properties(String... keyValues) {
+        Properties properties = new Properties();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            properties.setProperty(keyValues[i], keyValues[i + 1]);
+        }
+        return properties;
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): System property > env alias > auto env var > file
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testPriorityHierarchy() {
+        ConfigSnapshot config = snapshot(
+                properties("browser", "chrome", "cloud_username", "file-user", "app_username", "file-app", "timeout.explicit", "20"),
+                properties("browser", "firefox"),
+                Map.of("SAUCE_USERNAME", "sauce-user", "CLOUD_USERNAME", "auto-user", "APP_USERNAME", "env-app"));
+
+        Assert.assertEquals(config.get("browser"), "firefox");
+        Assert.assertEquals(config.get("cloud_username"), "sauce-user");
+        Assert.assertEquals(config.get("app_username"), "env-app");
+        Assert.assertEquals(config.get("timeout.explicit"), "20");
+        Assert.assertNull(config.get("not.configured"));
+        Assert.assertEquals(config.get("not.configured", "fallback"), "fallback");
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Typed values are parsed once and defaults cover absent keys
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testTypedAccessors() {
+        ConfigSnapshot config = snapshot(
+                properties("timeout.explicit", "20", "pool.enabled", "true", "grid_url", "http://localhost:4444/wd/hub"),
+                new Properties(), Map.of());
+
+        Duration timeout = config.getDuration("timeout.explicit", ChronoUnit.SECONDS, 5);
+        Assert.assertEquals(timeout, Duration.ofSeconds(20));
+        Assert.assertSame(config.getDuration("timeout.explicit", ChronoUnit.SECONDS, 5), timeout, "Parsed once per snapshot");
+        Assert.assertEquals(config.getInt("timeout.explicit", 0), 20);
+        Assert.assertTrue(config.getBoolean("pool.enabled", false));
+        Assert.assertEquals(config.getUrl("grid_url").getPort(), 4444);
+        Assert.assertEquals(config.getLong("retry.max", 3), 3);
+        Assert.assertThrows(IllegalArgumentException.class, () -> snapshot(properties("grid_url", "not a url"), new Properties(), Map.of()).getUrl("grid_url"));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A reload publishes a new snapshot and leaves held snapshots untouched
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testReloadSwapsSnapshot() {
+        ConfigSnapshot before = ConfigReader.snapshot();
+        String browser = before.get("browser");
+
+        ConfigReader.reload();
+        ConfigSnapshot after = ConfigReader.snapshot();
+
+        Assert.assertNotSame(after, before);
+        Assert.assertEquals(after.getVersion(), before.getVersion() + 1);
+        Assert.assertEquals(before.get("browser"), browser, "A held snapshot never changes underneath its reader");
+        Assert.assertEquals(ConfigReader.getProperty("browser"), after.get("browser"));
+    }
+}
@@ -0,0 +1,147 @@
+package com.framework.unit;
+
+import com.framework.driver.DriverPool;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * DriverPoolTest: Verifies lease/give-back bookkeeping and the pool.max.size cap of a private pool
+ * whose sessions are mock drivers (no browser).
+ */
+public class DriverPoolTest {
+
+    private final List<WebDriver> launched = new ArrayList<>();
+
+    @BeforeMethod(groups = "unit")
+    public void setUp() {
+        launched.clear();
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): A returned session is reset and leased again instead of launching a new one
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testReturnedSessionIsReused() throws Exception {
+        DriverPool pool = pool(2, 25, 60_000);
+
+        WebDriver first = pool.checkOut("chrome", "true");
+        pool.checkIn(first);
+        WebDriver second = pool.checkOut("chrome", "true");
+
+        Assert.assertSame(second, first);
+        Assert.assertEquals(launched.size(), 1);
+        verify(first.manage()).deleteAllCookies();
+        Assert.assertEquals(pool.metrics().get("pool_hits"), Long.valueOf(1));
+        Assert.assertEquals(pool.metrics().get("pool_misses"), Long.valueOf(1));
+        Assert.assertEquals(pool.metrics().get("pool_open"), Long.valueOf(1));
+        Assert.assertEquals(pool.metrics().get("pool_leased"), Long.valueOf(1));
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): A full pool retires its least recently used idle session to make room for a new key
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testFullPoolEvictsOldestIdleSession() throws Exception {
+        DriverPool pool = pool(2, 25, 60_000);
+        WebDriver chrome = pool.checkOut("chrome", "true");
+        WebDriver firefox = pool.checkOut("firefox", "true");
+        pool.checkIn(chrome);
+
+        WebDriver edge = pool.checkOut("edge", "true");
+
+        Assert.assertNotSame(edge, chrome);
+        verify(chrome).quit();
+        verify(firefox, never()).quit();
+        Assert.assertEquals(pool.metrics().get("pool_evictions"), Long.valueOf(1));
+        Assert.assertEquals(pool.metrics().get("pool_open"), Long.valueOf(2), "The evicted session's slot went to the new one");
+        Assert.assertEquals(pool.metrics().get("pool_idle"), Long.valueOf(0));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Past pool.max.size a lease waits for a session to be given back instead of launching
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testLeaseBeyondCapWaitsForGiveBack() throws Exception {
+        DriverPool pool = pool(2, 25, 60_000);
+        WebDriver first = pool.checkOut("chrome", "true");
+        pool.checkOut("chrome", "true");
+
+        CompletableFuture<WebDriver> third = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pool.checkOut("chrome", "true");
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Assert.assertThrows(TimeoutException.class, () -> third.get(200, TimeUnit.MILLISECONDS));
+
+        pool.checkIn(first);
+        Assert.assertSame(third.get(5, TimeUnit.SECONDS), first, "The waiter takes the returned session");
+        Assert.assertEquals(launched.size(), 2, "Never more than pool.max.size launches");
+        Assert.assertEquals(pool.metrics().get("pool_open"), Long.valueOf(2));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A lease fails after pool.wait.seconds when nothing comes back
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testLeaseBeyondCapTimesOut() throws Exception {
+        DriverPool pool = pool(1, 25, 100);
+        pool.checkOut("chrome", "true");
+
+        Assert.assertThrows(SessionNotCreatedException.class, () -> pool.checkOut("chrome", "true"));
+        Assert.assertEquals(launched.size(), 1);
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Worn-out, unhealthy and failed-launch sessions give their slot back
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testRetiredSessionsFreeTheirSlot() throws Exception {
+        DriverPool pool = pool(1, 1, 60_000);
+
+        WebDriver wornOut = pool.checkOut("chrome", "true");
+        pool.checkIn(wornOut); // pool.max.uses = 1
+        verify(wornOut).quit();
+        Assert.assertEquals(pool.metrics().get("pool_open"), Long.valueOf(0));
+
+        DriverPool unhealthy = pool(1, 25, 60_000);
+        WebDriver crashed = unhealthy.checkOut("chrome", "true");
+        unhealthy.checkIn(crashed);
+        when(crashed.getWindowHandle()).thenThrow(new IllegalStateException("browser crashed"));
+        WebDriver replacement = unhealthy.checkOut("chrome", "true");
+        Assert.assertNotSame(replacement, crashed);
+        verify(crashed).quit();
+        Assert.assertEquals(unhealthy.metrics().get("pool_open"), Long.valueOf(1));
+
+        DriverPool failing = new DriverPool(1, 25, 60_000, 100, (browser, headless) -> null);
+        Assert.assertNull(failing.checkOut("chrome", "true"));
+        Assert.assertEquals(failing.metrics().get("pool_open"), Long.valueOf(0), "A failed launch must not keep its slot");
+    }
+
+    private DriverPool pool(int maxSize, int maxUses, long waitMs) {
+        return new DriverPool(maxSize, maxUses, 60_000, waitMs, (browser, headless) -> newDriver());
+    }
+
+    private synchronized WebDriver newDriver() {
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        when(driver.getWindowHandle()).thenReturn("main");
+        when(driver.getWindowHandles()).thenReturn(Set.of("main"));
+        when(driver.manage()).thenReturn(mock(WebDriver.Options.class));
+        launched.add(driver);
+        return driver;
+    }
+}
@@ -0,0 +1,74 @@
+package com.framework.unit;
+
+import com.framework.pages.ElementCache;
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * ElementCacheTest: Verifies hit/miss/stale handling of the per-page element cache with mock elements (no browser).
+ */
+public class ElementCacheTest {
+
+    private static final By CHECKOUT = By.id("checkout");
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): The second lookup of a locator is a validated hit, not a find
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testSecondLookupIsAHit() {
+        ElementCache cache = new ElementCache();
+        WebElement button = mock(WebElement.class);
+        AtomicInteger finds = new AtomicInteger();
+
+        WebElement first = cache.resolve(CHECKOUT, l -> { finds.incrementAndGet(); return button; }, e -> e);
+        WebElement second = cache.resolve(CHECKOUT, l -> { finds.incrementAndGet(); return button; }, e -> e);
+
+        Assert.assertSame(first, second);
+        Assert.assertEquals(finds.get(), 1, "Only the miss may find the element");
+        Assert.assertEquals(cache.getHits(), 1);
+        Assert.assertEquals(cache.getMisses(), 1);
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A stale reference is re-resolved transparently and drops the other entries
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testStaleReferenceIsReResolved() {
+        ElementCache cache = new ElementCache();
+        WebElement old = mock(WebElement.class);
+        WebElement fresh = mock(WebElement.class);
+        when(old.isDisplayed()).thenThrow(new StaleElementReferenceException("page reloaded"));
+        when(fresh.isDisplayed()).thenReturn(true);
+
+        cache.resolve(CHECKOUT, l -> old, e -> e);
+        cache.resolve(By.id("cancel"), l -> mock(WebElement.class), e -> e);
+        WebElement resolved = cache.resolve(CHECKOUT, l -> fresh, e -> e.isDisplayed() ? e : null);
+
+        Assert.assertSame(resolved, fresh);
+        Assert.assertEquals(cache.getStale(), 1);
+        Assert.assertEquals(cache.size(), 1, "A stale element means a new document: every other entry is dropped too");
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Invalidation (click / URL change) forces the next lookup to find again
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testInvalidateForcesMiss() {
+        ElementCache cache = new ElementCache();
+        WebElement button = mock(WebElement.class);
+
+        cache.resolve(CHECKOUT, l -> button, e -> e);
+        cache.invalidate();
+        cache.resolve(CHECKOUT, l -> button, e -> e);
+
+        Assert.assertEquals(cache.getMisses(), 2);
+        Assert.assertEquals(cache.getHits(), 0);
+    }
+}
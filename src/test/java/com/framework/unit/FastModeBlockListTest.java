@@ -0,0 +1,67 @@
+package com.framework.unit;
+
+import com.framework.driver.FastModeProfile.BlockList;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+/**
+ * FastModeBlockListTest: Verifies fast-mode blocking is decided by the resource type the browser reports
+ * (CDP Network.ResourceType / BiDi destination and initiatorType), not by the URL's file extension.
+ */
+public class FastModeBlockListTest {
+
+    private final BlockList blockList = new BlockList(List.of("image", "font", "media"),
+            List.of("*google-analytics.com*", "*doubleclick.net*"));
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): CDP resource types in the block list are blocked under their own bucket
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testCdpResourceTypesAreBlocked() {
+        Assert.assertEquals(blockList.blockReason(BlockList.fromCdp("Image"), "https://cdn.example.com/logo.png"), "image");
+        Assert.assertEquals(blockList.blockReason(BlockList.fromCdp("Font"), "https://fonts.example.com/inter.woff2"), "font");
+        Assert.assertEquals(blockList.blockReason(BlockList.fromCdp("Media"), "https://cdn.example.com/intro.mp4"), "media");
+        Assert.assertNull(blockList.blockReason(BlockList.fromCdp("Script"), "https://app.example.com/main.js"));
+        Assert.assertNull(blockList.blockReason(BlockList.fromCdp("Document"), "https://app.example.com/inventory.html"));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Extension-less images are blocked; API routes that look like assets are not
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testUrlExtensionIsIgnored() {
+        Assert.assertEquals(blockList.blockReason(BlockList.fromCdp("Image"), "https://img.example.com/avatar/42?w=64"), "image");
+        Assert.assertNull(blockList.blockReason(BlockList.fromCdp("XHR"), "https://app.example.com/api/export.png"),
+                "An XHR returning data must not be blocked for its .png suffix");
+        Assert.assertNull(blockList.blockReason(BlockList.fromCdp("Fetch"), "https://app.example.com/api/cart.mp4"));
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Third-party patterns win whatever the type
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testThirdPartyPatternsWin() {
+        Assert.assertEquals(blockList.blockReason(BlockList.fromCdp("Script"), "https://www.Google-Analytics.com/analytics.js"), "third-party");
+        Assert.assertEquals(blockList.blockReason(BlockList.fromCdp("Image"), "https://ad.doubleclick.net/pixel.gif"), "third-party");
+        Assert.assertNull(blockList.blockReason(null, "https://app.example.com/"));
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): BiDi destination / initiatorType map onto the same buckets as CDP
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testBiDiClassification() {
+        Assert.assertEquals(BlockList.fromBiDi("image", "img"), "image");
+        Assert.assertEquals(BlockList.fromBiDi("video", "video"), "media");
+        Assert.assertEquals(BlockList.fromBiDi("style", "link"), "stylesheet");
+        Assert.assertEquals(BlockList.fromBiDi("", "img"), "image", "Falls back to initiatorType without a destination");
+        Assert.assertEquals(BlockList.fromBiDi(null, "xmlhttprequest"), "xhr");
+        Assert.assertEquals(BlockList.fromBiDi("", "fetch"), "fetch");
+        Assert.assertEquals(BlockList.fromBiDi(null, "css"), "other", "A CSS-initiated load is ambiguous and passes");
+
+        Assert.assertEquals(blockList.blockReason(BlockList.fromBiDi("font", "css"), "https://fonts.example.com/a"), "font");
+        Assert.assertNull(blockList.blockReason(BlockList.fromBiDi("", "fetch"), "https://app.example.com/logo.svg"));
+    }
+}
@@ -0,0 +1,253 @@
+package com.framework.unit;
+
+import com.framework.driver.GridAdmissionController;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.json.JSONObject;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * GridAdmissionControllerTest: Runs the admission queue against a fake Grid on localhost.
+ * The fake serves /status with one node of {@code slots} chrome slots and accepts
+ * POST /session and DELETE /session/{id}, refusing new sessions when every slot is busy.
+ */
+public class GridAdmissionControllerTest {
+
+    private HttpServer grid;
+    private String gridUrl;
+    private final AtomicInteger slots = new AtomicInteger();
+    private final AtomicInteger busy = new AtomicInteger();
+    private final AtomicInteger rejected = new AtomicInteger();
+    private volatile CountDownLatch fullStatusServed = new CountDownLatch(0);
+
+    @BeforeMethod(groups = "unit")
+    public void startFakeGrid() throws IOException {
+        slots.set(1);
+        busy.set(0);
+        rejected.set(0);
+
+        grid = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        grid.createContext("/status", exchange -> {
+            String status = statusJson();
+            respond(exchange, 200, status);
+            if (busy.get() >= slots.get()) fullStatusServed.countDown();
+        });
+        grid.createContext("/session", exchange -> {
+            if ("POST".equals(exchange.getRequestMethod())) {
+                if (busy.incrementAndGet() > slots.get()) {
+                    busy.decrementAndGet();
+                    rejected.incrementAndGet();
+                    respond(exchange, 500, "{\"value\":{\"error\":\"session not created\"}}");
+                } else {
+                    respond(exchange, 200, "{\"value\":{\"sessionId\":\"" + UUID.randomUUID() + "\"}}");
+                }
+            } else {
+                busy.decrementAndGet();
+                respond(exchange, 200, "{\"value\":null}");
+            }
+        });
+        grid.start();
+        gridUrl = "http://127.0.0.1:" + grid.getAddress().getPort();
+    }
+
+    @AfterMethod(groups = "unit", alwaysRun = true)
+    public void stopFakeGrid() {
+        grid.stop(0);
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): /status parsing honours busy slots and maxSessions
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testParseFreeSlots() {
+        String status = "{\"value\":{\"ready\":true,\"nodes\":["
+                + "{\"availability\":\"UP\",\"maxSessions\":2,\"slots\":["
+                + slot("chrome", true) + "," + slot("chrome", false) + "," + slot("chrome", false) + "," + slot("firefox", false) + "]},"
+                + "{\"availability\":\"DOWN\",\"maxSessions\":4,\"slots\":[" + slot("chrome", false) + "]},"
+                + "{\"availability\":\"UP\",\"maxSessions\":1,\"slots\":[" + slot("edge", true) + "]}]}}";
+
+        Map<String, Integer> free = GridAdmissionController.parseFreeSlots(status);
+
+        // Node 1: 1 running session of max 2 -> only 1 more, whatever the idle slot count says
+        Assert.assertEquals(free.get("chrome"), Integer.valueOf(1));
+        Assert.assertEquals(free.get("firefox"), Integer.valueOf(1));
+        Assert.assertEquals(free.get("edge"), Integer.valueOf(0), "Offered but fully busy");
+        Assert.assertFalse(free.containsKey("safari"));
+        Assert.assertEquals(free.get(GridAdmissionController.ANY_BROWSER), Integer.valueOf(1),
+                "Node 1's chrome and firefox share its one free slot");
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A node's free slots are counted once across all the browsers its slots offer
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testParseFreeSlotsCapsNodeAcrossBrowsers() {
+        String status = "{\"value\":{\"nodes\":["
+                + "{\"availability\":\"UP\",\"maxSessions\":1,\"slots\":[" + slot("chrome", false) + "," + slot("firefox", false) + "]},"
+                + "{\"availability\":\"UP\",\"maxSessions\":4,\"slots\":[" + slot("chrome", false) + "," + slot("chrome", false) + "]}]}}";
+
+        Map<String, Integer> free = GridAdmissionController.parseFreeSlots(status);
+
+        Assert.assertEquals(free.get("chrome"), Integer.valueOf(3));
+        Assert.assertEquals(free.get("firefox"), Integer.valueOf(1));
+        Assert.assertEquals(free.get(GridAdmissionController.ANY_BROWSER), Integer.valueOf(3), "Node 1 runs one session, not two");
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A slot taken for one browser is not handed out again for another on the same node
+    // ---------------------------------------------------------
+    @Test(groups = "unit", expectedExceptions = SessionNotCreatedException.class)
+    public void testSharedNodeSlotAdmitsOneBrowserAtATime() throws Exception {
+        grid.removeContext("/status");
+        grid.createContext("/status", exchange -> respond(exchange, 200, "{\"value\":{\"nodes\":[{\"availability\":\"UP\","
+                + "\"maxSessions\":1,\"slots\":[" + slot("chrome", false) + "," + slot("firefox", false) + "]}]}}"));
+        GridAdmissionController controller = controller(300);
+
+        controller.acquire("chrome"); // Session still being created on the node's only free slot
+        controller.acquire("firefox");
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Second thread waits for the slot instead of hitting the hub
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testSecondThreadWaitsForFreeSlot() throws Exception {
+        AtomicLong clockOffset = new AtomicLong();
+        GridAdmissionController controller = new GridAdmissionController(new URL(gridUrl + "/status"), 10_000, 50, 200,
+                () -> System.nanoTime() + clockOffset.get());
+
+        String first = createSession(controller);
+        fullStatusServed = new CountDownLatch(1);
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> {
+            try {
+                return createSession(controller);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // The second thread has read a full Grid; nothing can admit it until the first session is deleted
+        Assert.assertTrue(fullStatusServed.await(5, TimeUnit.SECONDS), "Second thread should poll /status");
+        Assert.assertFalse(second.isDone(), "Second session should be queued while the only slot is busy");
+        clockOffset.addAndGet(TimeUnit.SECONDS.toNanos(3)); // Queue time seen by the controller
+
+        deleteSession(first);
+        Assert.assertNotNull(second.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(rejected.get(), 0, "No request should have reached a full Grid");
+        Assert.assertTrue(controller.metrics().get("grid_admission_wait_max_ms") >= 3000, "Queue wait should be published");
+        Assert.assertEquals(controller.metrics().get("grid_admission_waited"), Long.valueOf(1));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A failed session request hands its slot straight back
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testUnusedPermitReturnsSlot() throws Exception {
+        GridAdmissionController controller = controller(10_000);
+
+        controller.acquire("chrome").close(); // never created a session
+        long pollsBefore = controller.metrics().get("grid_status_polls");
+        GridAdmissionController.Permit next = controller.acquire("chrome");
+        next.close();
+
+        Assert.assertEquals(controller.metrics().get("grid_status_polls").longValue(), pollsBefore,
+                "Returned slot should be reused without another /status poll");
+    }
+
+    // ---------------------------------------------------------
+    // NEGATIVE (Unit): No slot within the timeout
+    // ---------------------------------------------------------
+    @Test(groups = "unit", expectedExceptions = SessionNotCreatedException.class)
+    public void testTimeoutWhenGridStaysFull() throws Exception {
+        busy.set(1); // someone else holds the only slot
+        controller(600).acquire("chrome");
+    }
+
+    // ---------------------------------------------------------
+    // NEGATIVE (Unit): Unreadable /status never blocks the run
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testFailsOpenWhenStatusUnreadable() throws Exception {
+        grid.removeContext("/status");
+        grid.createContext("/status", exchange -> respond(exchange, 503, "not json"));
+        busy.set(1);
+
+        GridAdmissionController.Permit permit = controller(10_000).acquire("chrome");
+        permit.close();
+
+        Assert.assertTrue(permit.getWaitMs() < 2000, "Permit should be granted immediately when /status is unreadable");
+    }
+
+    // ==================================================
+    // HELPERS
+    // ==================================================
+
+    private GridAdmissionController controller(long timeoutMs) throws Exception {
+        return new GridAdmissionController(new URL(gridUrl + "/status"), timeoutMs, 50, 200);
+    }
+
+    private String createSession(GridAdmissionController controller) throws Exception {
+        AtomicReference<String> body = new AtomicReference<>();
+        try (GridAdmissionController.Permit permit = controller.acquire("chrome")) {
+            HttpURLConnection connection = (HttpURLConnection) new URL(gridUrl + "/session").openConnection();
+            connection.setRequestMethod("POST");
+            connection.setDoOutput(true);
+            connection.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+            if (connection.getResponseCode() == 200) {
+                body.set(new String(connection.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+                permit.sessionCreated();
+            }
+        }
+        return body.get();
+    }
+
+    private void deleteSession(String newSessionResponse) throws IOException {
+        String sessionId = new JSONObject(newSessionResponse).getJSONObject("value").getString("sessionId");
+        HttpURLConnection connection = (HttpURLConnection) new URL(gridUrl + "/session/" + sessionId).openConnection();
+        connection.setRequestMethod("DELETE");
+        connection.getResponseCode();
+    }
+
+    private String statusJson() {
+        StringBuilder nodeSlots = new StringBuilder();
+        for (int i = 0; i < slots.get(); i++) {
+            if (i > 0) nodeSlots.append(',');
+            nodeSlots.append(slot("chrome", i < busy.get()));
+        }
+        return "{\"value\":{\"ready\":true,\"nodes\":[{\"availability\":\"UP\",\"maxSessions\":" + slots.get()
+                + ",\"slots\":[" + nodeSlots + "]}]}}";
+    }
+
+    private static String slot(String browser, boolean busy) {
+        return "{\"stereotype\":{\"browserName\":\"" + browser + "\"},\"session\":"
+                + (busy ? "{\"sessionId\":\"abc\"}" : "null") + "}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
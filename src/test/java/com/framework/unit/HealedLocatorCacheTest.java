@@ -0,0 +1,113 @@
+package com.framework.unit;
+
+import com.epam.healenium.SelfHealingDriver;
+import com.framework.driver.HealedLocatorCache;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * HealedLocatorCacheTest: Verifies URL patterns and the learn / substitute / invalidate cycle of a private,
+ * in-memory cache (the suite's cache file is never touched), with mocked Healenium and raw drivers.
+ */
+public class HealedLocatorCacheTest {
+
+    private static final By LOGIN_BUTTON = By.id("login-button");
+    private static final String PATTERN = "www.saucedemo.com/";
+
+    private HealedLocatorCache cache;
+    private WebDriver raw;
+    private SelfHealingDriver healing;
+    private WebElement found;
+
+    @BeforeMethod(groups = "unit")
+    public void setUp() {
+        cache = new HealedLocatorCache(true);
+        raw = mock(WebDriver.class);
+        healing = mock(SelfHealingDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        found = mock(WebElement.class);
+        when(healing.getDelegate()).thenReturn(raw);
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Scheme, query and fragment are dropped; numeric path segments are generalised
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testToPattern() {
+        Assert.assertEquals(HealedLocatorCache.toPattern("https://www.saucedemo.com/inventory.html"), "www.saucedemo.com/inventory.html");
+        Assert.assertEquals(HealedLocatorCache.toPattern("https://shop.example.com/orders/1042/items/7?tab=2#top"),
+                "shop.example.com/orders/{id}/items/{id}");
+        Assert.assertEquals(HealedLocatorCache.toPattern("http://host/page#section?not-a-query"), "host/page");
+        Assert.assertEquals(HealedLocatorCache.toPattern("https://host/v2/item-42"), "host/v2/item-42", "Only whole numeric segments");
+        Assert.assertEquals(HealedLocatorCache.toPattern(null), "");
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): A locator Healenium had to heal is learned once and substituted from then on
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testLearnRecordsHealedSelector() {
+        when(raw.findElements(LOGIN_BUTTON)).thenReturn(List.of());
+        when(((JavascriptExecutor) healing).executeScript(anyString(), eq(found))).thenReturn("#login-btn");
+
+        Assert.assertTrue(cache.empty());
+        cache.record(healing, () -> PATTERN, LOGIN_BUTTON, found, "LoginPage");
+
+        Assert.assertFalse(cache.empty());
+        Assert.assertEquals(cache.substitute(PATTERN, LOGIN_BUTTON), By.cssSelector("#login-btn"));
+        Assert.assertNull(cache.substitute("www.saucedemo.com/cart.html", LOGIN_BUTTON), "Entries are per page pattern");
+
+        cache.record(healing, () -> PATTERN, LOGIN_BUTTON, found, "LoginPage");
+        verify(raw, times(1)).findElements(LOGIN_BUTTON); // Checked once per page-object locator per JVM
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Nothing is learned when the original still matches or the session is not self-healing
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testLearnSkipsUnhealedLocators() {
+        when(raw.findElements(LOGIN_BUTTON)).thenReturn(List.of(found));
+        cache.record(healing, () -> PATTERN, LOGIN_BUTTON, found, "LoginPage");
+        cache.record(raw, () -> PATTERN, LOGIN_BUTTON, found, "CartPage");
+
+        Assert.assertTrue(cache.empty());
+        verify((JavascriptExecutor) healing, never()).executeScript(anyString(), any());
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): An invalidated substitute is dropped and counted; later lookups use the original
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testInvalidateDropsSubstitute() {
+        when(raw.findElements(LOGIN_BUTTON)).thenReturn(List.of());
+        when(((JavascriptExecutor) healing).executeScript(anyString(), eq(found))).thenReturn("#login-btn");
+        cache.record(healing, () -> PATTERN, LOGIN_BUTTON, found, "LoginPage");
+
+        cache.drop(PATTERN, LOGIN_BUTTON);
+        cache.drop(PATTERN, LOGIN_BUTTON); // Second drop is a no-op
+
+        Assert.assertNull(cache.substitute(PATTERN, LOGIN_BUTTON));
+        Assert.assertTrue(cache.empty());
+        Assert.assertTrue(cache.summary().contains("Invalidations: 1"), cache.summary());
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): The zero-wait substitute check runs on the raw driver, so Healenium never heals it
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testMatchesNowUsesRawDriver() {
+        By substitute = By.cssSelector("#login-btn");
+        when(raw.findElements(substitute)).thenReturn(List.of());
+
+        Assert.assertFalse(HealedLocatorCache.matchesNow(healing, substitute));
+        verify(healing, never()).findElements(substitute);
+    }
+}
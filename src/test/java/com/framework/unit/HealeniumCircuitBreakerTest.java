@@ -0,0 +1,158 @@
+package com.framework.unit;
+
+import com.framework.driver.HealeniumCircuitBreaker;
+import com.framework.driver.HealeniumCircuitBreaker.State;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HealeniumCircuitBreakerTest: Verifies the OPEN / HALF_OPEN / CLOSED transitions with a fake clock,
+ * a scripted health probe and a hand-cranked probe executor (no backend, no sleeps).
+ */
+public class HealeniumCircuitBreakerTest {
+
+    private static final long TTL_MS = 60_000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicBoolean healthy = new AtomicBoolean();
+    private final AtomicInteger probes = new AtomicInteger();
+    private final List<Runnable> pendingProbes = new ArrayList<>();
+    private HealeniumCircuitBreaker breaker;
+
+    @BeforeMethod(alwaysRun = true)
+    public void setUp() {
+        clock.set(1_000_000);
+        healthy.set(true);
+        probes.set(0);
+        pendingProbes.clear();
+        breaker = new HealeniumCircuitBreaker(TTL_MS, () -> {
+            probes.incrementAndGet();
+            return healthy.get();
+        }, clock::get, pendingProbes::add);
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): A healthy backend keeps the breaker CLOSED; the probe result is cached for the TTL
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testHealthyBackendStaysClosed() {
+        Assert.assertTrue(breaker.shouldWrap());
+        Assert.assertTrue(breaker.shouldWrap());
+        Assert.assertEquals(breaker.state(), State.CLOSED);
+        Assert.assertEquals(probes.get(), 1, "Only the first caller probes within the TTL");
+        Assert.assertTrue(pendingProbes.isEmpty());
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): OPEN -> HALF_OPEN after the TTL, then CLOSED once the re-probe succeeds
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testOpenHalfOpenClose() {
+        healthy.set(false);
+        Assert.assertFalse(breaker.shouldWrap());
+        Assert.assertEquals(breaker.state(), State.OPEN);
+
+        clock.addAndGet(TTL_MS - 1);
+        Assert.assertFalse(breaker.shouldWrap());
+        Assert.assertEquals(breaker.state(), State.OPEN, "Still inside the TTL");
+        Assert.assertTrue(pendingProbes.isEmpty());
+
+        clock.addAndGet(2);
+        healthy.set(true);
+        Assert.assertFalse(breaker.shouldWrap(), "Sessions keep skipping the wrap until the probe succeeds");
+        Assert.assertEquals(breaker.state(), State.HALF_OPEN);
+        Assert.assertEquals(pendingProbes.size(), 1);
+
+        runProbes();
+        Assert.assertEquals(breaker.state(), State.CLOSED);
+        Assert.assertTrue(breaker.shouldWrap());
+        Assert.assertEquals(breaker.snapshot().get("healenium_breaker_transitions_to_half_open"), Long.valueOf(1));
+        Assert.assertEquals(breaker.snapshot().get("healenium_breaker_transitions_to_closed"), Long.valueOf(1));
+        Assert.assertEquals(breaker.snapshot().get("healenium_sessions_skipped"), Long.valueOf(3));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A failed HALF_OPEN probe re-opens the breaker for another full TTL
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testFailedProbeReopens() {
+        healthy.set(false);
+        breaker.shouldWrap();
+        clock.addAndGet(TTL_MS + 1);
+        breaker.shouldWrap();
+        Assert.assertEquals(breaker.state(), State.HALF_OPEN);
+
+        runProbes();
+        Assert.assertEquals(breaker.state(), State.OPEN);
+
+        clock.addAndGet(TTL_MS / 2);
+        Assert.assertFalse(breaker.shouldWrap());
+        Assert.assertTrue(pendingProbes.isEmpty(), "The failed probe restarted the TTL");
+        Assert.assertEquals(breaker.snapshot().get("healenium_breaker_transitions_to_open"), Long.valueOf(2));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A wrap failure opens a CLOSED breaker; concurrent expiries share one probe
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testWrapFailureOpensAndProbesAreNotDuplicated() {
+        Assert.assertTrue(breaker.shouldWrap());
+        breaker.wrapFailed(new IllegalStateException("connection refused"));
+        Assert.assertEquals(breaker.state(), State.OPEN);
+        Assert.assertFalse(breaker.shouldWrap());
+
+        clock.addAndGet(TTL_MS + 1);
+        breaker.shouldWrap();
+        breaker.shouldWrap();
+        Assert.assertEquals(pendingProbes.size(), 1, "Only one background probe while one is in flight");
+
+        runProbes();
+        Assert.assertEquals(breaker.state(), State.CLOSED);
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A HALF_OPEN breaker whose probe never reported back is probed again after the TTL
+    // (e.g. the probe read OPEN just before another thread moved it to HALF_OPEN, so its CAS failed)
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testHalfOpenWithoutProbeIsReprobed() {
+        AtomicBoolean reject = new AtomicBoolean(true);
+        breaker = new HealeniumCircuitBreaker(TTL_MS, () -> {
+            probes.incrementAndGet();
+            return healthy.get();
+        }, clock::get, task -> {
+            if (reject.getAndSet(false)) throw new RejectedExecutionException("probe lost");
+            pendingProbes.add(task);
+        });
+
+        healthy.set(false);
+        breaker.shouldWrap();
+        clock.addAndGet(TTL_MS + 1);
+        healthy.set(true);
+        Assert.assertFalse(breaker.shouldWrap());
+        Assert.assertEquals(breaker.state(), State.HALF_OPEN);
+        Assert.assertTrue(pendingProbes.isEmpty(), "The HALF_OPEN probe was lost");
+
+        clock.addAndGet(1);
+        Assert.assertFalse(breaker.shouldWrap());
+        Assert.assertEquals(pendingProbes.size(), 1, "An expired HALF_OPEN breaker probes again");
+
+        runProbes();
+        Assert.assertEquals(breaker.state(), State.CLOSED);
+        Assert.assertTrue(breaker.shouldWrap());
+    }
+
+    private void runProbes() {
+        List<Runnable> queued = new ArrayList<>(pendingProbes);
+        pendingProbes.clear();
+        queued.forEach(Runnable::run);
+    }
+}
@@ -0,0 +1,69 @@
+package com.framework.unit;
+
+import com.framework.pages.JsLocator;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JsLocatorTest: Verifies Selenium's built-in By locators are translated (via their toString form)
+ * into the {using, value} argument the in-page observer script resolves, and that others are refused.
+ */
+public class JsLocatorTest {
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Every built-in strategy the page can resolve itself is translated
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testBuiltInStrategiesAreTranslated() {
+        assertTranslated(By.id("user-name"), "id", "user-name");
+        assertTranslated(By.cssSelector(".inventory_item .btn_inventory"), "css", ".inventory_item .btn_inventory");
+        assertTranslated(By.className("shopping_cart_badge"), "class", "shopping_cart_badge");
+        assertTranslated(By.name("password"), "name", "password");
+        assertTranslated(By.tagName("h3"), "tag", "h3");
+        assertTranslated(By.xpath("//div[@class='inventory_item_name']"), "xpath", "//div[@class='inventory_item_name']");
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Values containing ": " are kept whole (only the first separator splits)
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testValueWithSeparatorIsKeptWhole() {
+        assertTranslated(By.cssSelector("a[title='Note: read me']"), "css", "a[title='Note: read me']");
+        assertTranslated(By.xpath("//span[text()='Total: $10']"), "xpath", "//span[text()='Total: $10']");
+    }
+
+    // ---------------------------------------------------------
+    // NEGATIVE (Unit): Link text, custom and null locators have no in-page form
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testUntranslatableLocatorsReturnNull() {
+        Assert.assertNull(JsLocator.of(By.linkText("Sauce Labs Backpack")));
+        Assert.assertNull(JsLocator.of(By.partialLinkText("Backpack")));
+        Assert.assertNull(JsLocator.of(null));
+        Assert.assertNull(JsLocator.of(new By() {
+            @Override
+            public List<WebElement> findElements(SearchContext context) {
+                return List.of();
+            }
+
+            @Override
+            public String toString() {
+                return "custom locator";
+            }
+        }));
+    }
+
+    private static void assertTranslated(By locator, String using, String value) {
+        JsLocator jsLocator = JsLocator.of(locator);
+        Assert.assertNotNull(jsLocator, "No in-page form for " + locator);
+        Assert.assertEquals(jsLocator.getUsing(), using);
+        Assert.assertEquals(jsLocator.getValue(), value);
+        Assert.assertEquals(jsLocator.toArgument(), Map.of("using", using, "value", value));
+    }
+}
@@ -0,0 +1,90 @@
+package com.framework.unit;
+
+import com.framework.pages.LocatorCatalog;
+import com.framework.pages.LocatorCatalog.Platform;
+import com.framework.pages.LocatorOptimizer;
+import com.framework.pages.LoginPage;
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * LocatorCatalogTest: Verifies per-platform resolution, template compilation and the XPath-to-CSS
+ * optimizer against the shipped locators/*.properties files (no browser).
+ */
+public class LocatorCatalogTest {
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Each platform resolves its own entry, mobile entries cover Android and iOS
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testPlatformResolution() {
+        Assert.assertEquals(LocatorCatalog.get("LoginPage", "loginButton", Platform.WEB), By.id("login-button"));
+        Assert.assertEquals(LocatorCatalog.get("LoginPage", "loginButton", Platform.ANDROID), AppiumBy.accessibilityId("test-LOGIN"));
+        Assert.assertEquals(LocatorCatalog.get("LoginPage", "loginButton", Platform.IOS), AppiumBy.accessibilityId("test-LOGIN"));
+        Assert.assertEquals(LocatorCatalog.get("InventoryPage", "productsHeader", Platform.IOS), AppiumBy.accessibilityId("PRODUCTS"));
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Templates fill placeholders and reuse the By built for the same arguments
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testTemplatesAreCompiledOnce() {
+        By first = LocatorCatalog.get("InventoryPage", "addToCart", Platform.WEB, "sauce-labs-backpack");
+        By second = LocatorCatalog.get("InventoryPage", "addToCart", Platform.WEB, "sauce-labs-backpack");
+
+        Assert.assertEquals(first, By.id("add-to-cart-sauce-labs-backpack"));
+        Assert.assertSame(first, second, "The same arguments must return the shared compiled locator");
+        Assert.assertThrows(IllegalArgumentException.class, () -> LocatorCatalog.get("InventoryPage", "addToCart", Platform.WEB));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Unknown elements fail with a message naming the page and platform
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testUnknownElementFailsLoudly() {
+        IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class,
+                () -> LocatorCatalog.get("CartPage", "continueShopping", Platform.WEB));
+        Assert.assertTrue(e.getMessage().contains("CartPage") && e.getMessage().contains("WEB"), e.getMessage());
+        Assert.assertThrows(IllegalArgumentException.class, () -> LocatorCatalog.get("LoginPage", "errorText", Platform.WEB));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A page subclass without its own catalog keeps its parent's entries
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testSubclassUsesParentCatalog() {
+        Assert.assertEquals(LocatorCatalog.template(GuestLoginPage.class, "loginButton", Platform.WEB).resolve(), By.id("login-button"));
+        Assert.assertEquals(LocatorCatalog.template(GuestLoginPage.class, "errorText", Platform.ANDROID).resolve(),
+                By.className("android.widget.TextView"));
+        IllegalArgumentException e = Assert.expectThrows(IllegalArgumentException.class,
+                () -> LocatorCatalog.template(GuestLoginPage.class, "guestButton", Platform.WEB));
+        Assert.assertTrue(e.getMessage().contains("LoginPage"), e.getMessage());
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Simple XPaths become ID/CSS, everything else stays XPath
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testXPathOptimizer() {
+        Assert.assertEquals(LocatorOptimizer.optimize("//*[@id='checkout']"), By.id("checkout"));
+        Assert.assertEquals(LocatorOptimizer.optimize("//form/input[@name='user' and @type='text']"),
+                By.cssSelector("form > input[name='user'][type='text']"));
+        Assert.assertEquals(LocatorOptimizer.optimize("//div[@class='inventory_list']//button[contains(@id,'add-to-cart')]"),
+                By.cssSelector("div[class='inventory_list'] button[id*='add-to-cart']"));
+
+        // Not safely expressible in CSS
+        Assert.assertNull(LocatorOptimizer.optimize("//div[@class='inventory_item_name' and contains(normalize-space(text()), 'Backpack')]"));
+        Assert.assertNull(LocatorOptimizer.optimize("//android.widget.TextView[@text='PRODUCTS']"));
+        Assert.assertNull(LocatorOptimizer.optimize("//div[1]"));
+        Assert.assertNull(LocatorOptimizer.optimize("/html/body"));
+    }
+
+    private static final class GuestLoginPage extends LoginPage {
+        private GuestLoginPage(WebDriver driver) {
+            super(driver);
+        }
+    }
+}
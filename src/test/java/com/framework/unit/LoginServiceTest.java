@@ -2,6 +2,7 @@ package com.framework.unit;
 
 import com.framework.pages.InventoryPage;
 import com.framework.pages.LoginPage;
+import com.framework.pages.PageSnapshot;
 import com.framework.services.LoginService;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -100,6 +101,21 @@ public class LoginServiceTest {
         verifyNoMoreInteractions(mockLoginPage);
     }
 
+    // ---------------------------------------------------------
+    // HAPPY PATH: loginAndCapture hands back the products page snapshot
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testLoginAndCaptureReturnsProductsSnapshot() {
+        PageSnapshot snapshot = mock(PageSnapshot.class);
+        when(mockInventoryPage.snapshotWhenVisible("productsHeader")).thenReturn(snapshot);
+
+        PageSnapshot result = loginService.loginAndCapture("standard_user", "secret_sauce");
+
+        Assert.assertSame(result, snapshot);
+        verify(mockLoginPage).login("standard_user", "secret_sauce");
+        verify(mockInventoryPage, never()).isProductsHeaderDisplayed();
+    }
+
     // ---------------------------------------------------------
     // EXCEPTION HANDLING: service propagates WebDriver failures correctly
     // ---------------------------------------------------------
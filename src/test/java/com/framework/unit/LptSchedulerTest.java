@@ -0,0 +1,81 @@
+package com.framework.unit;
+
+import com.framework.execution.LptScheduler;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * LptSchedulerTest: Validates the longest-first ordering and makespan prediction
+ * used by MethodSchedulerListener, without starting TestNG workers or browsers.
+ */
+public class LptSchedulerTest {
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Longest job is dispatched first
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testOrderIsLongestFirst() {
+        List<Long> jobs = Arrays.asList(2L, 7L, 3L, 5L, 3L, 4L);
+
+        LptScheduler.Plan<Long> plan = LptScheduler.plan(jobs, Long::longValue, 2);
+
+        Assert.assertEquals(plan.getOrder(), Arrays.asList(7L, 5L, 4L, 3L, 3L, 2L));
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Predicted makespan on a worker pool
+    // Worker 0: 7+3+2, Worker 1: 5+4+3 -> both finish at 12 (24 ms of work split evenly)
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testMakespanPrediction() {
+        List<Long> jobs = Arrays.asList(2L, 7L, 3L, 5L, 3L, 4L);
+
+        LptScheduler.Plan<Long> plan = LptScheduler.plan(jobs, Long::longValue, 2);
+
+        Assert.assertEquals(plan.getTotalMs(), 24);
+        Assert.assertEquals(plan.getMakespanMs(), 12);
+        Assert.assertEquals(plan.getAssignments().size(), 2);
+        Assert.assertEquals(plan.getAssignments().get(0), Arrays.asList(7L, 3L, 2L));
+        Assert.assertEquals(plan.getAssignments().get(1), Arrays.asList(5L, 4L, 3L));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): More workers than jobs
+    // The longest single job bounds the makespan.
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testMoreWorkersThanJobs() {
+        LptScheduler.Plan<Long> plan = LptScheduler.plan(Arrays.asList(4L, 9L, 1L), Long::longValue, 8);
+
+        Assert.assertEquals(plan.getMakespanMs(), 9);
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Equal estimates keep the original order
+    // With no history every method costs the same default, so the XML order must survive.
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testEqualCostsAreStable() {
+        List<String> jobs = Arrays.asList("login", "dashboard", "cart");
+
+        LptScheduler.Plan<String> plan = LptScheduler.plan(jobs, job -> 5000L, 3);
+
+        Assert.assertEquals(plan.getOrder(), jobs);
+    }
+
+    // ---------------------------------------------------------
+    // NEGATIVE (Unit): Empty batch and invalid worker count
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testEmptyBatchAndZeroWorkers() {
+        LptScheduler.Plan<Long> empty = LptScheduler.plan(Collections.emptyList(), Long::longValue, 3);
+        Assert.assertEquals(empty.getMakespanMs(), 0);
+
+        LptScheduler.Plan<Long> single = LptScheduler.plan(Arrays.asList(2L, 3L), Long::longValue, 0);
+        Assert.assertEquals(single.getMakespanMs(), 5, "Zero workers should behave like one worker");
+    }
+}
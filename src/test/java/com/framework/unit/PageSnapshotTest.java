@@ -0,0 +1,112 @@
+package com.framework.unit;
+
+import com.framework.driver.SessionTimeouts;
+import com.framework.pages.BasePage;
+import com.framework.pages.PageSnapshot;
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PageSnapshotTest: Verifies that a page's declared elements are captured in one script call and
+ * read back without further driver traffic, using a mock driver (no browser).
+ */
+public class PageSnapshotTest {
+
+    private WebDriver driver;
+
+    /** Minimal page object with a header, a badge and an Appium-only element for the fallback case. */
+    static class CartPage extends BasePage {
+        CartPage(WebDriver driver, boolean withAppiumLocator) {
+            super(driver);
+            declare("header", By.className("title"));
+            declare("badge", By.className("shopping_cart_badge"), "data-count");
+            if (withAppiumLocator) declare("menu", AppiumBy.accessibilityId("test-Menu"));
+        }
+    }
+
+    @BeforeMethod(groups = "unit")
+    public void setUp() {
+        driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        SessionTimeouts.register(driver); // implicit wait known to be 0: the fallback's zero-wait scope sends nothing
+        PageSnapshot.clearLast();
+    }
+
+    @AfterMethod(groups = "unit")
+    public void tearDown() {
+        SessionTimeouts.forget(driver);
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): One script captures every declared element
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testSnapshotIsOneScriptCall() {
+        when(((JavascriptExecutor) driver).executeAsyncScript(anyString(), any(), any(), any())).thenReturn(Map.of(
+                "url", "https://www.saucedemo.com/inventory.html",
+                "elements", List.of(
+                        Map.of("present", true, "visible", true, "text", "Products", "attributes", Map.of()),
+                        Map.of("present", false))));
+
+        PageSnapshot snapshot = new CartPage(driver, false).snapshotWhenVisible("header");
+
+        Assert.assertEquals(snapshot.getText("header"), "Products");
+        Assert.assertTrue(snapshot.isVisible("header"));
+        Assert.assertFalse(snapshot.isPresent("badge"));
+        Assert.assertEquals(snapshot.getText("badge"), "", "Absent elements read as empty text");
+        Assert.assertEquals(snapshot.getCommands(), 1);
+        Assert.assertSame(PageSnapshot.last(), snapshot, "The last snapshot is kept for failure reports");
+        verify((JavascriptExecutor) driver, times(1)).executeAsyncScript(anyString(), any(), any(), any());
+        verify(driver, never()).findElements(any(By.class));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Snapshots are immutable and reject undeclared names
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testSnapshotIsImmutableAndStrict() {
+        when(((JavascriptExecutor) driver).executeAsyncScript(anyString(), any(), any(), any())).thenReturn(Map.of(
+                "url", "about:blank",
+                "elements", List.of(
+                        Map.of("present", true, "visible", true, "text", "Products", "attributes", Map.of()),
+                        Map.of("present", true, "visible", true, "text", "2", "attributes", Map.of("data-count", "2")))));
+
+        PageSnapshot snapshot = new CartPage(driver, false).snapshot();
+
+        Assert.assertEquals(snapshot.getAttribute("badge", "data-count"), "2");
+        Assert.assertThrows(UnsupportedOperationException.class, () -> snapshot.getElements().clear());
+        Assert.assertThrows(IllegalArgumentException.class, () -> snapshot.getText("cartIcon"));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A locator the page cannot resolve falls back to per-element reads
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testUntranslatableLocatorFallsBackToFindElements() {
+        WebElement header = mock(WebElement.class);
+        when(header.isDisplayed()).thenReturn(true);
+        when(header.getText()).thenReturn(" Products ");
+        when(driver.findElements(By.className("title"))).thenReturn(List.of(header));
+        when(driver.findElements(By.className("shopping_cart_badge"))).thenReturn(List.of());
+        when(driver.findElements(AppiumBy.accessibilityId("test-Menu"))).thenReturn(List.of());
+
+        PageSnapshot snapshot = new CartPage(driver, true).snapshot();
+
+        Assert.assertEquals(snapshot.getText("header"), "Products");
+        Assert.assertFalse(snapshot.isPresent("menu"));
+        Assert.assertEquals(snapshot.getCommands(), 5, "Three finds plus isDisplayed/getText for the one present element");
+        verify(driver, times(3)).findElements(any(By.class));
+    }
+}
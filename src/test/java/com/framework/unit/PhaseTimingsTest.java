@@ -0,0 +1,80 @@
+package com.framework.unit;
+
+import com.framework.execution.PhaseTimings;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PhaseTimingsTest: Validates the percentile math and per-test tally behind the phase timing report.
+ * Uses its own browser name so it never mixes with samples recorded by browser tests running alongside.
+ */
+public class PhaseTimingsTest {
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Nearest-rank percentiles
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testPercentiles() {
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i + 1; // 1..100
+        }
+
+        Assert.assertEquals(PhaseTimings.percentile(sorted, 50), 50);
+        Assert.assertEquals(PhaseTimings.percentile(sorted, 95), 95);
+        Assert.assertEquals(PhaseTimings.percentile(sorted, 99), 99);
+        Assert.assertEquals(PhaseTimings.percentile(new long[]{7}, 99), 7, "Single sample is every percentile");
+        Assert.assertEquals(PhaseTimings.percentile(new long[0], 50), 0);
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Per-test tally is summed per phase and drained once
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testDrainTest() {
+        PhaseTimings.drainTest();
+        PhaseTimings.record("unit-browser", "unit", "configure.navigate", TimeUnit.MILLISECONDS.toNanos(30));
+        PhaseTimings.record("unit-browser", "unit", "configure.navigate", TimeUnit.MILLISECONDS.toNanos(20));
+        PhaseTimings.record("unit-browser", "unit", "session.lease", TimeUnit.MILLISECONDS.toNanos(5));
+
+        Map<String, Long> phases = PhaseTimings.drainTest();
+
+        Assert.assertEquals(phases.get("configure.navigate").longValue(), TimeUnit.MILLISECONDS.toNanos(50));
+        Assert.assertEquals(phases.get("session.lease").longValue(), TimeUnit.MILLISECONDS.toNanos(5));
+        Assert.assertTrue(PhaseTimings.drainTest().isEmpty(), "Tally should be empty after draining");
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): JSON histogram per browser|mode|phase
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testJsonHistogram() {
+        for (int ms = 1; ms <= 20; ms++) {
+            PhaseTimings.record("unit-json", "local", "driver.launch", TimeUnit.MILLISECONDS.toNanos(ms));
+        }
+        PhaseTimings.drainTest();
+
+        JSONObject launch = find(PhaseTimings.toJson().getJSONArray("histograms"), "unit-json", "driver.launch");
+
+        Assert.assertNotNull(launch, "Histogram missing for unit-json|local|driver.launch");
+        Assert.assertEquals(launch.getInt("count"), 20);
+        Assert.assertEquals(launch.getDouble("p50Ms"), 10.0);
+        Assert.assertEquals(launch.getDouble("p95Ms"), 19.0);
+        Assert.assertEquals(launch.getDouble("maxMs"), 20.0);
+    }
+
+    private static JSONObject find(JSONArray histograms, String browser, String phase) {
+        for (int i = 0; i < histograms.length(); i++) {
+            JSONObject histogram = histograms.getJSONObject(i);
+            if (browser.equals(histogram.getString("browser")) && phase.equals(histogram.getString("phase"))) {
+                return histogram;
+            }
+        }
+        return null;
+    }
+}
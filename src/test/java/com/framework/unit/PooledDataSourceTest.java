@@ -0,0 +1,197 @@
+package com.framework.unit;
+
+import com.framework.db.PooledDataSource;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * PooledDataSourceTest: Runs the pool against an in-memory H2 database (one fresh database per test).
+ */
+public class PooledDataSourceTest {
+
+    private String url;
+    private PooledDataSource pool;
+
+    @BeforeMethod(groups = "unit")
+    public void createDatabase() throws SQLException {
+        url = "jdbc:h2:mem:pool-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        pool = pool(2, 0, 8);
+        try (Connection conn = pool.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE users (id INT PRIMARY KEY, username VARCHAR(50), is_active INT)");
+            stmt.execute("INSERT INTO users VALUES (1, 'standard_user', 1), (2, 'locked_out_user', 0)");
+        }
+    }
+
+    @AfterMethod(groups = "unit", alwaysRun = true)
+    public void closePool() {
+        pool.close();
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Sequential queries reuse one physical connection and one prepared statement
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testConnectionAndStatementReuse() throws SQLException {
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(activeUser(), "standard_user");
+        }
+
+        Assert.assertEquals(pool.metrics().get("db_pool_connections_created"), Long.valueOf(1));
+        Assert.assertEquals(pool.metrics().get("db_pool_borrows"), Long.valueOf(21));
+        Assert.assertEquals(pool.metrics().get("db_statement_cache_misses"), Long.valueOf(1));
+        Assert.assertEquals(pool.metrics().get("db_statement_cache_hits"), Long.valueOf(19));
+        Assert.assertEquals(pool.metrics().get("db_pool_active"), Long.valueOf(0));
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Returned connections are clean (rolled back, auto-commit restored, statements reusable)
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testReturnedConnectionIsReset() throws SQLException {
+        Connection first = pool.getConnection();
+        first.setAutoCommit(false);
+        try (Statement stmt = first.createStatement()) {
+            stmt.execute("DELETE FROM users");
+        }
+        PreparedStatement forgotten = first.prepareStatement("SELECT username FROM users WHERE id = ?");
+        forgotten.setInt(1, 1);
+        first.close();
+
+        Assert.assertTrue(first.isClosed());
+        Assert.assertThrows(SQLException.class, first::createStatement);
+        Assert.assertTrue(forgotten.isClosed(), "Statements left open are released with their connection");
+        try (Connection second = pool.getConnection()) {
+            Assert.assertTrue(second.getAutoCommit());
+        }
+        Assert.assertEquals(activeUser(), "standard_user", "Uncommitted delete must have been rolled back");
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): A transaction isolation changed by one borrower is restored for the next
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testReturnedConnectionRestoresIsolation() throws SQLException {
+        int isolation;
+        try (Connection first = pool.getConnection()) {
+            isolation = first.getTransactionIsolation();
+            first.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+        }
+
+        try (Connection second = pool.getConnection()) {
+            Assert.assertEquals(second.getTransactionIsolation(), isolation);
+        }
+        Assert.assertEquals(pool.metrics().get("db_pool_connections_created"), Long.valueOf(1), "Same physical connection");
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Borrowers beyond db.pool.max wait, then time out
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testMaxSizeAndBorrowTimeout() throws SQLException {
+        try (Connection a = pool.getConnection(); Connection b = pool.getConnection()) {
+            Assert.assertNotSame(a.unwrap(Connection.class), b.unwrap(Connection.class));
+            long start = System.nanoTime();
+            Assert.assertThrows(SQLTransientConnectionException.class, pool::getConnection);
+            Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 200, "Borrower should wait for the timeout");
+        }
+        Assert.assertEquals(pool.metrics().get("db_pool_timeouts"), Long.valueOf(1));
+        Assert.assertEquals(activeUser(), "standard_user", "Slots come back once connections are returned");
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A connection that broke while idle is replaced on borrow
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testValidationOnBorrow() throws SQLException {
+        Connection physical;
+        try (Connection conn = pool.getConnection()) {
+            physical = conn.unwrap(Connection.class);
+        }
+        physical.close(); // Simulates a server-side disconnect while the connection sits idle
+
+        Assert.assertEquals(activeUser(), "standard_user");
+        Assert.assertEquals(pool.metrics().get("db_pool_validation_failures"), Long.valueOf(1));
+        Assert.assertEquals(pool.metrics().get("db_pool_connections_created"), Long.valueOf(2));
+        Assert.assertEquals(pool.metrics().get("db_pool_open"), Long.valueOf(1));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Connections held past the leak threshold are reported once
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testLeakDetection() throws Exception {
+        // Fake clock; every read from the maintenance thread is one leak-detection pass
+        AtomicLong now = new AtomicLong();
+        AtomicReference<CountDownLatch> passes = new AtomicReference<>(new CountDownLatch(0));
+        pool.close();
+        pool = new PooledDataSource(url, "sa", "", 0, 2, 250, 1, 50, 60_000, 8, () -> {
+            if ("db-pool-maintenance".equals(Thread.currentThread().getName())) passes.get().countDown();
+            return now.get();
+        });
+
+        try (Connection held = pool.getConnection()) {
+            awaitPasses(passes, 2);
+            Assert.assertEquals(pool.metrics().get("db_pool_leaks"), Long.valueOf(0), "Not held past the threshold yet");
+
+            now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+            awaitPasses(passes, 2);
+            Assert.assertEquals(pool.metrics().get("db_pool_leaks"), Long.valueOf(1));
+
+            awaitPasses(passes, 2);
+            Assert.assertEquals(pool.metrics().get("db_pool_leaks"), Long.valueOf(1), "A leak is only reported once");
+        }
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A cached statement reports the connection of the borrower now using it
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testCachedStatementBelongsToCurrentBorrower() throws SQLException {
+        String sql = "SELECT username FROM users WHERE id = ?";
+        try (Connection first = pool.getConnection(); PreparedStatement stmt = first.prepareStatement(sql)) {
+            Assert.assertSame(stmt.getConnection(), first);
+        }
+        try (Connection second = pool.getConnection(); PreparedStatement stmt = second.prepareStatement(sql)) {
+            Assert.assertEquals(pool.metrics().get("db_statement_cache_hits"), Long.valueOf(1), "Served from the cache");
+            Assert.assertSame(stmt.getConnection(), second, "Must not be the first borrower's returned proxy");
+        }
+    }
+
+    /**
+     * Waits for {@code count} clock reads by the maintenance thread (counted after the call, so the clock already
+     * holds its current value). The pass behind the first of them has finished once the second one is seen.
+     */
+    private static void awaitPasses(AtomicReference<CountDownLatch> passes, int count) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(count);
+        passes.set(latch);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS), "Pool maintenance did not run");
+    }
+
+    private PooledDataSource pool(int maxSize, long leakThresholdMs, int statementCacheSize) {
+        return new PooledDataSource(url, "sa", "", 0, maxSize, 250, 1, leakThresholdMs, 60_000, statementCacheSize);
+    }
+
+    private String activeUser() throws SQLException {
+        try (Connection conn = pool.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("SELECT username FROM users WHERE is_active = ? ORDER BY id")) {
+            stmt.setInt(1, 1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+}
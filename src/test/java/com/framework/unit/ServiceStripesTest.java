@@ -0,0 +1,82 @@
+package com.framework.unit;
+
+import com.framework.driver.ServiceStripes;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * ServiceStripesTest: Verifies when shared driver service stripes are kept, restarted or replaced,
+ * using fake services (no driver process).
+ */
+public class ServiceStripesTest {
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Sessions share one service per stripe, round-robin across stripes
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testSessionsShareStripesRoundRobin() {
+        ServiceStripes<FakeService> stripes = stripes(2);
+
+        FakeService first = stripes.acquire();
+        FakeService second = stripes.acquire();
+        FakeService third = stripes.acquire();
+
+        Assert.assertNotSame(first, second);
+        Assert.assertSame(third, first);
+        Assert.assertEquals(stripes.sessions(first), 2);
+        Assert.assertEquals(stripes.sessions(second), 1);
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A failed start never stops a service another session is still using
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testFailedStartKeepsServiceWhileSessionIsOpen() {
+        ServiceStripes<FakeService> stripes = stripes(1);
+        FakeService service = stripes.acquire(); // Session A starts and stays open
+
+        Assert.assertSame(stripes.acquire(), service);
+        stripes.startFailed(service);            // Session B fails to start
+
+        Assert.assertFalse(service.stopped, "Session A is still running on this service");
+        Assert.assertEquals(stripes.sessions(service), 1);
+        Assert.assertSame(stripes.acquire(), service, "The stripe keeps serving while it hosts sessions");
+        Assert.assertFalse(service.stopped);
+
+        stripes.ended(service);                  // Session C quits
+        stripes.ended(service);                  // Session A quits
+        FakeService restarted = stripes.acquire();
+        Assert.assertTrue(service.stopped, "Once idle, the stripe is restarted after the failed start");
+        Assert.assertNotSame(restarted, service);
+        Assert.assertEquals(stripes.sessions(restarted), 1);
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A dead service is replaced at once; late quits from its sessions are ignored
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testDeadServiceIsReplaced() {
+        ServiceStripes<FakeService> stripes = stripes(1);
+        FakeService dead = stripes.acquire();
+        dead.running = false;
+
+        FakeService replacement = stripes.acquire();
+        Assert.assertNotSame(replacement, dead);
+        Assert.assertTrue(dead.stopped);
+
+        stripes.ended(dead);
+        Assert.assertEquals(stripes.sessions(replacement), 1, "A quit on the old service must not uncount the new one");
+
+        stripes.stopAll();
+        Assert.assertTrue(replacement.stopped);
+    }
+
+    private static ServiceStripes<FakeService> stripes(int count) {
+        return new ServiceStripes<>(count, FakeService::new, s -> s.running, s -> s.stopped = true);
+    }
+
+    private static final class FakeService {
+        private boolean running = true;
+        private boolean stopped;
+    }
+}
@@ -0,0 +1,102 @@
+package com.framework.unit;
+
+import com.framework.driver.SessionContext;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * SessionContextTest: Verifies named sessions are leased exactly once per context, even when threads
+ * sharing the context ask for the same new session at the same time (mock drivers, no pool).
+ */
+public class SessionContextTest {
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): A named session is leased on first use and reused afterwards
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testNamedSessionIsLeasedOnce() throws Exception {
+        AtomicInteger launches = new AtomicInteger();
+        SessionContext context = SessionContext.detached("testNamedSessionIsLeasedOnce", "chrome", "true", (browser, headless) -> {
+            launches.incrementAndGet();
+            return mock(WebDriver.class);
+        });
+
+        WebDriver admin = context.session("admin");
+        Assert.assertSame(context.session("admin"), admin);
+        Assert.assertNotSame(context.session(SessionContext.DEFAULT), admin);
+        Assert.assertEquals(launches.get(), 2);
+        Assert.assertEquals(new ArrayList<>(context.sessions().keySet()), List.of("admin", SessionContext.DEFAULT));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Concurrent first requests for one name share a single lease
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testConcurrentFirstUseLeasesOnce() throws Exception {
+        int threads = 8;
+        CountDownLatch ready = new CountDownLatch(threads);
+        AtomicInteger launches = new AtomicInteger();
+        SessionContext context = SessionContext.detached("testConcurrentFirstUseLeasesOnce", "chrome", "true", (browser, headless) -> {
+            launches.incrementAndGet();
+            try {
+                ready.await(5, TimeUnit.SECONDS); // Hold the launch open until every thread has asked
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return mock(WebDriver.class);
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<WebDriver>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(pool.submit(() -> {
+                    ready.countDown();
+                    return context.session("admin");
+                }));
+            }
+
+            WebDriver first = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<WebDriver> result : results) {
+                Assert.assertSame(result.get(10, TimeUnit.SECONDS), first);
+            }
+            Assert.assertEquals(launches.get(), 1, "Only one session may be leased for 'admin'");
+            Assert.assertEquals(context.sessions().size(), 1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Opening a context over one that was never closed gives back the stale sessions
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testOpenGivesBackStaleContext() throws Exception {
+        WebDriver orphan = mock(WebDriver.class);
+        SessionContext stale = SessionContext.detached("testOpenGivesBackStaleContext", "chrome", "true", (browser, headless) -> orphan);
+        stale.session("admin");
+
+        // wrap() binds the stale context to this thread, as if its teardown had not run
+        stale.wrap(() -> {
+            SessionContext next = SessionContext.open("next", "chrome", "true");
+            Assert.assertSame(SessionContext.currentOrNull(), next);
+            SessionContext.close();
+        }).run();
+
+        Assert.assertTrue(stale.sessions().isEmpty(), "The stale context's sessions must be given back");
+        verify(orphan).quit(); // Not leased from the pool, so DriverPool quits it
+    }
+}
@@ -0,0 +1,86 @@
+package com.framework.unit;
+
+import com.framework.driver.SessionTimeouts;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * SessionTimeoutsTest: Verifies that implicit-wait commands only reach the driver when they change
+ * the session's state, using a deep-stubbed mock driver (no browser).
+ */
+public class SessionTimeoutsTest {
+
+    private WebDriver driver;
+    private WebDriver.Timeouts timeouts;
+
+    @BeforeMethod(groups = "unit")
+    public void setUp() {
+        driver = mock(WebDriver.class, RETURNS_DEEP_STUBS);
+        timeouts = driver.manage().timeouts();
+        SessionTimeouts.drainTest();
+    }
+
+    @AfterMethod(groups = "unit", alwaysRun = true)
+    public void tearDown() {
+        SessionTimeouts.forget(driver); // Registered mocks would otherwise stay in the shared registry
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): A new session already has implicit wait 0 — nothing to send
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testNewSessionSkipsZeroImplicitWait() {
+        SessionTimeouts.register(driver);
+
+        SessionTimeouts.of(driver).implicitlyWait(Duration.ZERO);
+        int count = SessionTimeouts.of(driver).withoutImplicitWait(() -> 3);
+
+        Assert.assertEquals(count, 3);
+        verify(timeouts, never()).implicitlyWait(any(Duration.class));
+        Map<String, Long> tally = SessionTimeouts.drainTest();
+        Assert.assertEquals(tally.get("sent").longValue(), 0);
+        Assert.assertEquals(tally.get("skipped").longValue(), 3, "One explicit set plus both ends of the zero scope");
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Zero-implicit scope toggles once each way and restores the value
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testZeroScopeRestoresImplicitWait() {
+        SessionTimeouts.register(driver);
+        SessionTimeouts session = SessionTimeouts.of(driver);
+        session.implicitlyWait(Duration.ofSeconds(10));
+
+        Duration inside = session.withoutImplicitWait(session::getImplicitWait);
+
+        Assert.assertEquals(inside, Duration.ZERO);
+        Assert.assertEquals(session.getImplicitWait(), Duration.ofSeconds(10));
+        verify(timeouts, times(2)).implicitlyWait(Duration.ofSeconds(10));
+        verify(timeouts, times(1)).implicitlyWait(Duration.ZERO);
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Unknown sessions always get their first set; restore happens even on failure
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testUnknownSessionAndFailingScope() {
+        SessionTimeouts session = SessionTimeouts.of(driver); // never registered
+
+        session.implicitlyWait(Duration.ZERO);
+        verify(timeouts, times(1)).implicitlyWait(Duration.ZERO);
+
+        session.implicitlyWait(Duration.ofSeconds(5));
+        Assert.assertThrows(IllegalStateException.class, () -> session.withoutImplicitWait(() -> {
+            throw new IllegalStateException("lookup failed");
+        }));
+        Assert.assertEquals(session.getImplicitWait(), Duration.ofSeconds(5), "Implicit wait must be restored after a failure");
+    }
+}
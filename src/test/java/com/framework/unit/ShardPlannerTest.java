@@ -0,0 +1,96 @@
+package com.framework.unit;
+
+import com.framework.execution.DurationHistory;
+import com.framework.execution.ShardPlanner;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ShardPlannerTest: Every CI runner must compute the same split, or tests get run twice (or never).
+ */
+public class ShardPlannerTest {
+
+    private static final String LOGIN = "com.framework.tests.LoginTest.testValidLogin";
+    private static final String LOGOUT = "com.framework.tests.DashboardTest.testLogoutFlow";
+    private static final String PERSONA_0 = "com.framework.tests.DashboardTest.testUserCanAccessDashboard#0";
+    private static final String PERSONA_1 = "com.framework.tests.DashboardTest.testUserCanAccessDashboard#1";
+    private static final String PERSONA_2 = "com.framework.tests.DashboardTest.testUserCanAccessDashboard#2";
+    private static final String CART = "com.framework.tests.AddToCartTest.testAddItem";
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Same plan regardless of discovery order
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testPlanIsDeterministic() {
+        DurationHistory history = historyOf(PERSONA_2, 9000L, LOGIN, 4000L, CART, 3000L);
+        List<String> units = Arrays.asList(LOGIN, LOGOUT, PERSONA_0, PERSONA_1, PERSONA_2, CART);
+        List<String> reversed = Arrays.asList(CART, PERSONA_2, PERSONA_1, PERSONA_0, LOGOUT, LOGIN);
+
+        Assert.assertEquals(ShardPlanner.assign(units, history, 3), ShardPlanner.assign(reversed, history, 3));
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Known durations are balanced longest-first
+    // 9s alone on one shard; 4s + 3s and 5s + 2s share the other two.
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testKnownDurationsAreBalanced() {
+        DurationHistory history = historyOf(PERSONA_2, 9000L, PERSONA_0, 5000L, LOGIN, 4000L, CART, 3000L, LOGOUT, 2000L);
+        List<String> units = Arrays.asList(LOGIN, LOGOUT, PERSONA_0, PERSONA_2, CART);
+
+        Map<String, Integer> plan = ShardPlanner.assign(units, history, 3);
+
+        long[] load = new long[3];
+        for (String unit : units) {
+            load[plan.get(unit)] += history.estimateMs(unit, 0);
+        }
+        Arrays.sort(load);
+        Assert.assertEquals(load, new long[]{7000L, 7000L, 9000L}, "Shards should be balanced to the 9s bottleneck");
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): No history falls back to a stable hash
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testUnknownUnitsUseHash() {
+        DurationHistory empty = historyOf();
+        List<String> units = Arrays.asList(LOGIN, PERSONA_0, PERSONA_1, CART);
+
+        Map<String, Integer> plan = ShardPlanner.assign(units, empty, 4);
+
+        for (String unit : units) {
+            Assert.assertEquals((int) plan.get(unit), ShardPlanner.hashShard(unit, 4), "Hash fallback mismatch for " + unit);
+            Assert.assertTrue(plan.get(unit) >= 0 && plan.get(unit) < 4);
+        }
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): A single shard runs everything
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testSingleShardKeepsEverything() {
+        Map<String, Integer> plan = ShardPlanner.assign(Arrays.asList(LOGIN, CART), historyOf(), 1);
+
+        Assert.assertEquals(plan.get(LOGIN), Integer.valueOf(0));
+        Assert.assertEquals(plan.get(CART), Integer.valueOf(0));
+        Assert.assertTrue(ShardPlanner.assign(Collections.emptyList(), historyOf(), 3).isEmpty());
+    }
+
+    private static DurationHistory historyOf(Object... keyValues) {
+        // Path is never read or written: it does not exist and save() is not called
+        DurationHistory history = DurationHistory.load(Paths.get("target", "unit", "no-such-durations.properties"));
+        Map<String, Long> values = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            values.put((String) keyValues[i], (Long) keyValues[i + 1]);
+        }
+        history.putAll(values);
+        return history;
+    }
+}
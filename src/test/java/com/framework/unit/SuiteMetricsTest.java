@@ -0,0 +1,92 @@
+package com.framework.unit;
+
+import com.framework.execution.SuiteMetrics;
+import org.openqa.selenium.WebDriver;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * SuiteMetricsTest: Checks the OpenMetrics exposition and the live endpoint.
+ * Uses its own label values so samples from browser tests running alongside never interfere.
+ */
+public class SuiteMetricsTest {
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Histogram buckets are cumulative and end in +Inf == count
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testWaitHistogram() {
+        SuiteMetrics.observeWait("unit-wait", TimeUnit.MILLISECONDS.toNanos(30));
+        SuiteMetrics.observeWait("unit-wait", TimeUnit.SECONDS.toNanos(3));
+
+        String metrics = SuiteMetrics.render();
+
+        Assert.assertTrue(metrics.contains("# TYPE selenium_wait_seconds histogram"));
+        Assert.assertTrue(metrics.contains("selenium_wait_seconds_bucket{action=\"unit-wait\",le=\"0.01\"} 0\n"));
+        Assert.assertTrue(metrics.contains("selenium_wait_seconds_bucket{action=\"unit-wait\",le=\"0.05\"} 1\n"));
+        Assert.assertTrue(metrics.contains("selenium_wait_seconds_bucket{action=\"unit-wait\",le=\"5.0\"} 2\n"));
+        Assert.assertTrue(metrics.contains("selenium_wait_seconds_bucket{action=\"unit-wait\",le=\"+Inf\"} 2\n"));
+        Assert.assertTrue(metrics.contains("selenium_wait_seconds_count{action=\"unit-wait\"} 2\n"));
+        Assert.assertTrue(metrics.contains("selenium_wait_seconds_sum{action=\"unit-wait\"} 3.030000\n"));
+        Assert.assertTrue(metrics.endsWith("# EOF\n"), "OpenMetrics output must end with # EOF");
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Interactions get their own series and never skew the wait histogram
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testInteractionsAreNotWaits() {
+        SuiteMetrics.observeInteraction("unit-click", TimeUnit.MILLISECONDS.toNanos(30));
+
+        String metrics = SuiteMetrics.render();
+
+        Assert.assertTrue(metrics.contains("selenium_interaction_seconds_count{action=\"unit-click\"} 1\n"));
+        Assert.assertFalse(metrics.contains("selenium_wait_seconds_count{action=\"unit-click\"}"));
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Active sessions go up on lease and back down on return
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testActiveSessionsGauge() {
+        WebDriver driver = mock(WebDriver.class);
+
+        SuiteMetrics.sessionLeased(driver, "Unit-Browser");
+        Assert.assertTrue(SuiteMetrics.render().contains("selenium_active_sessions{browser=\"unit-browser\"} 1\n"));
+
+        SuiteMetrics.sessionReturned(driver);
+        SuiteMetrics.sessionReturned(driver); // a second give-back must not go negative
+        Assert.assertTrue(SuiteMetrics.render().contains("selenium_active_sessions{browser=\"unit-browser\"} 0\n"));
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): The endpoint serves the same text over HTTP
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testEndpointServesMetrics() throws Exception {
+        if (SuiteMetrics.isEnabled()) {
+            throw new SkipException("Suite endpoint is live; not starting/stopping it from a unit test");
+        }
+        SuiteMetrics.observeSessionCreation("unit-endpoint", TimeUnit.SECONDS.toNanos(4));
+        int port = SuiteMetrics.start(0);
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + port + "/metrics").openConnection();
+            String body = new String(connection.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+
+            Assert.assertEquals(connection.getResponseCode(), 200);
+            Assert.assertTrue(connection.getContentType().startsWith("application/openmetrics-text"));
+            Assert.assertTrue(body.contains("selenium_tests_started_total "));
+            Assert.assertTrue(body.contains("selenium_session_creation_seconds_bucket{browser=\"unit-endpoint\",le=\"5.0\"} 1\n"));
+        } finally {
+            SuiteMetrics.stop();
+        }
+    }
+}
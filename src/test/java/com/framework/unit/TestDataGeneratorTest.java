@@ -0,0 +1,101 @@
+package com.framework.unit;
+
+import com.framework.data.DataValidators;
+import com.framework.data.TestDataGenerator;
+import com.framework.data.TestDataGenerator.Kind;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestDataGeneratorTest: Verifies uniqueness under 64 threads, the bulk buffer API and the precompiled validators.
+ */
+public class TestDataGeneratorTest {
+
+    private static final int THREADS = 64;
+    private static final int PER_THREAD = 2_000;
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): 64 threads starting together never produce the same email or username
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testNoCollisionsAcrossThreads() throws Exception {
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    String[] buffer = new String[PER_THREAD / 2];
+                    start.await();
+                    for (Kind kind : new Kind[]{Kind.EMAIL, Kind.USERNAME}) {
+                        for (String value : TestDataGenerator.fill(kind, buffer)) {
+                            Assert.assertTrue(seen.add(value), "Duplicate value generated: " + value);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        Assert.assertEquals(seen.size(), THREADS * PER_THREAD);
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Every kind matches its format
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testGeneratedFormats() {
+        for (int i = 0; i < 200; i++) {
+            String email = TestDataGenerator.email();
+            String password = TestDataGenerator.password();
+            Assert.assertTrue(DataValidators.isGeneratedEmail(email), "Unexpected email format: " + email);
+            Assert.assertTrue(DataValidators.isValidUsername(TestDataGenerator.username()));
+            Assert.assertTrue(DataValidators.isStrongPassword(password), "Weak password generated: " + password);
+        }
+        Assert.assertTrue(TestDataGenerator.uniqueDigits().chars().allMatch(Character::isDigit));
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): The bulk API fills the caller's buffer in place and rejects counts it cannot hold
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testBufferIsReused() {
+        String[] buffer = new String[5];
+        buffer[4] = "untouched";
+
+        Assert.assertSame(TestDataGenerator.fill(Kind.PASSWORD, buffer, 4), buffer);
+        Assert.assertNotNull(buffer[3]);
+        Assert.assertEquals(buffer[4], "untouched");
+        Assert.assertThrows(IllegalArgumentException.class, () -> TestDataGenerator.fill(Kind.EMAIL, buffer, 6));
+        Assert.assertEquals(TestDataGenerator.generate(Kind.USERNAME, 3).length, 3);
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Validators reject null, empty and weak input
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testValidatorsRejectBadInput() {
+        Assert.assertFalse(DataValidators.isGeneratedEmail("test@example.com"));
+        Assert.assertFalse(DataValidators.isValidUsername("ab"));
+        Assert.assertFalse(DataValidators.isValidUsername(null));
+        Assert.assertFalse(DataValidators.isStrongPassword("password123"));
+        Assert.assertFalse(DataValidators.isStrongPassword(""));
+        Assert.assertTrue(DataValidators.isStrongPassword("SecurePass!7"));
+    }
+}
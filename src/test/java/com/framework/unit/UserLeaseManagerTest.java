@@ -0,0 +1,213 @@
+package com.framework.unit;
+
+import com.framework.data.UserLease;
+import com.framework.data.UserLeaseManager;
+import com.framework.db.PooledDataSource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * UserLeaseManagerTest: Verifies exclusive leasing from the in-memory persona pool and from a database
+ * (in-memory H2 with FOR UPDATE SKIP LOCKED), including expiry and per-thread release.
+ */
+public class UserLeaseManagerTest {
+
+    private static final List<String> USERS = List.of("user_a", "user_b", "user_c", "user_d", "user_e", "user_f", "user_g", "user_h");
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Threads claiming at the same moment never get the same user
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testConcurrentLeasesAreDistinct() throws Exception {
+        UserLeaseManager manager = new UserLeaseManager(USERS, "secret_sauce", Duration.ofMinutes(5), Duration.ZERO, null);
+        Set<String> leased = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(USERS.size());
+        try {
+            List<Future<UserLease>> futures = new ArrayList<>();
+            for (int i = 0; i < USERS.size(); i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    return manager.tryAcquire();
+                }));
+            }
+            start.countDown();
+            for (Future<UserLease> future : futures) {
+                UserLease lease = future.get(5, TimeUnit.SECONDS);
+                Assert.assertNotNull(lease, "Every thread should get a user while users remain");
+                Assert.assertTrue(leased.add(lease.getUsername()), "User leased twice: " + lease.getUsername());
+                Assert.assertEquals(lease.getPassword(), "secret_sauce");
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Assert.assertEquals(leased.size(), USERS.size());
+        Assert.assertNull(manager.tryAcquire(), "No user left to lease");
+        Assert.assertThrows(IllegalStateException.class, manager::acquire);
+        Assert.assertEquals(manager.metrics().get("user_lease_timeouts"), Long.valueOf(1));
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): A released user is immediately available again, and tearDown releases a thread's leases
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testReleaseAndThreadCleanup() {
+        UserLeaseManager manager = new UserLeaseManager(List.of("user_a", "user_b"), "pw", Duration.ofMinutes(5), Duration.ZERO, null);
+        UserLease first = manager.acquire();
+        UserLease second = manager.acquire();
+        Assert.assertNotEquals(first.getUsername(), second.getUsername());
+        Assert.assertNull(manager.tryAcquire());
+
+        first.close();
+        first.close(); // Idempotent
+        UserLease third = manager.tryAcquire();
+        Assert.assertNotNull(third);
+        Assert.assertEquals(third.getUsername(), first.getUsername());
+
+        Assert.assertEquals(manager.releaseThreadLeases(), 2, "second and third were still held");
+        Assert.assertNotNull(manager.tryAcquire());
+        Assert.assertNotNull(manager.tryAcquire());
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Expired leases are reclaimed; the stale holder's release does not free the new lease
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testExpiredLeaseIsReclaimed() throws InterruptedException {
+        UserLeaseManager manager = new UserLeaseManager(List.of("user_a"), "pw", Duration.ofMillis(100), Duration.ZERO, null);
+        UserLease crashed = manager.acquire();
+        Assert.assertNull(manager.tryAcquire());
+
+        TimeUnit.MILLISECONDS.sleep(150);
+        Assert.assertTrue(crashed.isExpired());
+        UserLease next = manager.tryAcquire();
+        Assert.assertNotNull(next, "Expired lease should be claimable");
+        Assert.assertEquals(manager.metrics().get("user_lease_expired_reclaims"), Long.valueOf(1));
+
+        crashed.close();
+        Assert.assertNull(manager.tryAcquire(), "Closing the stale lease must not free the reclaimed user");
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Database claims skip rows other leases hold and only hand out active users
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testDatabaseClaims() throws SQLException {
+        String url = "jdbc:h2:mem:lease-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=MySQL";
+        try (PooledDataSource db = new PooledDataSource(url, "sa", "", 0, 4, 1000, 1, 0, 60_000, 8)) {
+            try (Connection conn = db.getConnection(); Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE users (id INT PRIMARY KEY, username VARCHAR(50), is_active INT, "
+                        + "leased_by VARCHAR(64), leased_until TIMESTAMP)");
+                stmt.execute("INSERT INTO users (id, username, is_active) VALUES "
+                        + "(1, 'db_user_1', 1), (2, 'db_user_2', 0), (3, 'db_user_3', 1)");
+            }
+
+            UserLeaseManager manager = new UserLeaseManager(List.of(), "pw", Duration.ofMinutes(5), Duration.ZERO, db);
+            UserLease first = manager.tryAcquire();
+            UserLease second = manager.tryAcquire();
+            Assert.assertNotNull(first);
+            Assert.assertNotNull(second);
+            Assert.assertEquals(new HashSet<>(List.of(first.getUsername(), second.getUsername())), Set.of("db_user_1", "db_user_3"));
+            Assert.assertEquals(first.getSource(), "db");
+            Assert.assertNull(manager.tryAcquire(), "Inactive and leased rows are never handed out");
+
+            second.close();
+            UserLease third = manager.tryAcquire();
+            Assert.assertNotNull(third);
+            Assert.assertEquals(third.getUsername(), second.getUsername());
+        }
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): An unusable database falls back to the persona pool
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testDatabaseFailureFallsBackToPersonas() {
+        String url = "jdbc:h2:mem:lease-" + UUID.randomUUID(); // No users table
+        try (PooledDataSource db = new PooledDataSource(url, "sa", "", 0, 2, 1000, 1, 0, 60_000, 8)) {
+            UserLeaseManager manager = new UserLeaseManager(List.of("user_a"), "pw", Duration.ofMinutes(5), Duration.ZERO, db);
+            UserLease lease = manager.tryAcquire();
+            Assert.assertNotNull(lease);
+            Assert.assertEquals(lease.getSource(), "config");
+            Assert.assertEquals(lease.getUsername(), "user_a");
+        }
+    }
+
+    // ---------------------------------------------------------
+    // NEGATIVE (Unit): A pool timeout is thrown to the caller instead of abandoning the database for the run
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testTransientDatabaseFailureIsRethrown() throws SQLException {
+        DataSource busy = mock(DataSource.class);
+        when(busy.getConnection()).thenThrow(new SQLTransientConnectionException("[DB] No connection available within 250ms"));
+        UserLeaseManager manager = new UserLeaseManager(List.of("user_a"), "pw", Duration.ofMinutes(5), Duration.ZERO, busy);
+
+        Assert.assertThrows(IllegalStateException.class, manager::tryAcquire);
+        Assert.assertThrows(IllegalStateException.class, manager::tryAcquire);
+        verify(busy, times(2)).getConnection();
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Once the database has leased a user, later failures are thrown and releases still reach it
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testDatabaseFailureAfterFirstLeaseIsRethrown() throws SQLException {
+        String url = "jdbc:h2:mem:lease-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;MODE=MySQL";
+        try (PooledDataSource db = new PooledDataSource(url, "sa", "", 0, 2, 1000, 1, 0, 60_000, 8)) {
+            try (Connection conn = db.getConnection(); Statement stmt = conn.createStatement()) {
+                stmt.execute("CREATE TABLE users (id INT PRIMARY KEY, username VARCHAR(50), is_active INT, "
+                        + "leased_by VARCHAR(64), leased_until TIMESTAMP)");
+                stmt.execute("INSERT INTO users (id, username, is_active) VALUES (1, 'db_user_1', 1)");
+            }
+
+            UserLeaseManager manager = new UserLeaseManager(List.of("user_a"), "pw", Duration.ofMinutes(5), Duration.ZERO, db);
+            UserLease first = manager.tryAcquire();
+            Assert.assertEquals(first.getSource(), "db");
+
+            renameUsers(db, "users", "users_offline");
+            Assert.assertThrows(IllegalStateException.class, manager::tryAcquire);
+            renameUsers(db, "users_offline", "users");
+
+            first.close();
+            UserLease again = manager.tryAcquire();
+            Assert.assertNotNull(again, "The released row must be claimable from the database again");
+            Assert.assertEquals(again.getSource(), "db");
+            Assert.assertEquals(again.getUsername(), "db_user_1");
+        }
+    }
+
+    // ---------------------------------------------------------
+    // NEGATIVE (Unit): One account listed twice is rejected instead of being leased to two tests
+    // ---------------------------------------------------------
+    @Test(groups = "unit", expectedExceptions = IllegalArgumentException.class)
+    public void testDuplicateUsernamesAreRejected() {
+        new UserLeaseManager(List.of("user_a", "user_b", "user_a"), "pw", Duration.ofMinutes(5), Duration.ZERO, null);
+    }
+
+    private static void renameUsers(PooledDataSource db, String from, String to) throws SQLException {
+        try (Connection conn = db.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("ALTER TABLE " + from + " RENAME TO " + to);
+        }
+    }
+}
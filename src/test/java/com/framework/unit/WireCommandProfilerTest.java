@@ -0,0 +1,120 @@
+package com.framework.unit;
+
+import com.framework.driver.WireCommandProfiler;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * WireCommandProfilerTest: Feeds recorded calls straight into the listener (no browser) and checks
+ * the per-test counts and the round-trip patterns it flags.
+ */
+public class WireCommandProfilerTest {
+
+    private final WebDriverListener listener = WireCommandProfiler.listener();
+    private final WebDriver driver = mock(WebDriver.class);
+    private final WebDriver.Timeouts timeouts = mock(WebDriver.Timeouts.class);
+    private final WebElement element = mock(WebElement.class);
+
+    @BeforeMethod(groups = "unit")
+    public void cleanTally() {
+        WireCommandProfiler.drainTest();
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Commands are named by interface and counted; local calls are ignored
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testCountsCommands() throws Exception {
+        call(driver, WebDriver.class.getMethod("get", String.class), "https://www.saucedemo.com/");
+        call(driver, WebDriver.class.getMethod("findElement", By.class), By.id("user-name"));
+        call(element, WebElement.class.getMethod("click"));
+        call(driver, WebDriver.class.getMethod("manage"));
+
+        WireCommandProfiler.Tally tally = WireCommandProfiler.drainTest();
+
+        Assert.assertEquals(tally.getRoundTrips(), 3, "manage() never leaves the JVM");
+        Assert.assertEquals(tally.getCount("findElement"), 1);
+        Assert.assertEquals(tally.getCount("element.click"), 1);
+        Assert.assertTrue(tally.getFindings().isEmpty(), "Nothing redundant here: " + tally.getFindings());
+        Assert.assertTrue(tally.toTable().contains("TOTAL"));
+        Assert.assertTrue(WireCommandProfiler.drainTest().isEmpty(), "Tally should be empty after draining");
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Implicit wait dropped to 0 around one lookup, then restored
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testFlagsTimeoutToggle() throws Exception {
+        Method implicitlyWait = WebDriver.Timeouts.class.getMethod("implicitlyWait", Duration.class);
+        call(timeouts, implicitlyWait, Duration.ofSeconds(0));
+        call(driver, WebDriver.class.getMethod("findElement", By.class), By.className("shopping_cart_badge"));
+        call(element, WebElement.class.getMethod("getText"));
+        call(timeouts, implicitlyWait, Duration.ofSeconds(10));
+        call(timeouts, implicitlyWait, Duration.ofSeconds(10));
+
+        WireCommandProfiler.Tally tally = WireCommandProfiler.drainTest();
+
+        Assert.assertEquals(tally.getCount("timeouts.implicitlyWait"), 3);
+        Assert.assertTrue(hasFinding(tally, "timeout toggled around 2 command(s)"), "Toggle not flagged: " + tally.getFindings());
+        Assert.assertTrue(hasFinding(tally, "redundant timeouts.implicitlyWait[PT10S]"), "Repeat not flagged: " + tally.getFindings());
+    }
+
+    // ---------------------------------------------------------
+    // HAPPY PATH (Unit): Same locator found twice, and two scripts in a row
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testFlagsRefindAndMergeableScripts() throws Exception {
+        Method findElement = WebDriver.class.getMethod("findElement", By.class);
+        Method executeScript = JavascriptExecutor.class.getMethod("executeScript", String.class, Object[].class);
+
+        call(driver, findElement, By.id("login-button"));
+        call(driver, executeScript, "arguments[0].style.border='3px solid red'", new Object[0]);
+        call(driver, executeScript, "arguments[0].click();", new Object[0]);
+        call(driver, findElement, By.id("login-button"));
+
+        WireCommandProfiler.Tally tally = WireCommandProfiler.drainTest();
+
+        Assert.assertTrue(hasFinding(tally, "same locator found again (By.id: login-button)"), "Re-find not flagged: " + tally.getFindings());
+        Assert.assertTrue(hasFinding(tally, "back-to-back executeScript"), "Scripts not flagged: " + tally.getFindings());
+    }
+
+    // ---------------------------------------------------------
+    // EDGE CASE (Unit): Failed lookups are timed but are not "found again"
+    // ---------------------------------------------------------
+    @Test(groups = "unit")
+    public void testFailedFindIsNotARefind() throws Exception {
+        Method findElement = WebDriver.class.getMethod("findElement", By.class);
+        Object[] args = {By.id("error")};
+
+        listener.beforeAnyCall(driver, findElement, args);
+        listener.onError(driver, findElement, args, new InvocationTargetException(new RuntimeException("no such element")));
+        call(driver, findElement, By.id("error"));
+
+        WireCommandProfiler.Tally tally = WireCommandProfiler.drainTest();
+
+        Assert.assertEquals(tally.getCount("findElement"), 2);
+        Assert.assertTrue(tally.getFindings().isEmpty(), "A poll after a miss is not a redundant find: " + tally.getFindings());
+        Assert.assertTrue(tally.toTable().contains("findElement"));
+    }
+
+    private void call(Object target, Method method, Object... args) {
+        listener.beforeAnyCall(target, method, args);
+        listener.afterAnyCall(target, method, args, null);
+    }
+
+    private static boolean hasFinding(WireCommandProfiler.Tally tally, String prefix) {
+        return tally.getFindings().keySet().stream().anyMatch(f -> f.startsWith(prefix));
+    }
+}